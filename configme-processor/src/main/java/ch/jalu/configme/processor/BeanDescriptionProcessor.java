@@ -0,0 +1,397 @@
+package ch.jalu.configme.processor;
+
+import ch.jalu.configme.Comment;
+import ch.jalu.configme.beanmapper.ExportName;
+import ch.jalu.configme.beanmapper.GenerateBeanDescription;
+import ch.jalu.configme.beanmapper.propertydescription.GeneratedBeanDescription;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Annotation processor generating a {@link GeneratedBeanDescription} for each class annotated with
+ * {@link GenerateBeanDescription}. The generated description calls the bean's getters and setters directly.
+ * <p>
+ * Properties are determined like {@link ch.jalu.configme.beanmapper.propertydescription.BeanDescriptionFactoryImpl}
+ * does at runtime: public getter and setter pairs (including inherited ones) whose getter or setter is not annotated
+ * with {@code @java.beans.Transient}. {@link ExportName} and {@link Comment} on the field of the same name are
+ * considered, and the properties are sorted by the declaration order of their fields.
+ */
+@SupportedAnnotationTypes("ch.jalu.configme.beanmapper.GenerateBeanDescription")
+public class BeanDescriptionProcessor extends AbstractProcessor {
+
+    private static final String TRANSIENT_ANNOTATION = "java.beans.Transient";
+    private static final String PROPERTY_LIST_TYPE =
+        "java.util.List<ch.jalu.configme.beanmapper.propertydescription.BeanPropertyDescription>";
+
+    @Override
+    public @NotNull SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(@NotNull Set<? extends TypeElement> annotations, @NotNull RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateBeanDescription.class)) {
+            try {
+                generateDescription(asBeanClass(element));
+            } catch (ProcessingException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write bean description: " + e.getMessage(), element);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generates the source file with the description of the given bean class.
+     *
+     * @param beanClass the bean class to process
+     * @throws IOException if the source file could not be written
+     */
+    protected void generateDescription(@NotNull TypeElement beanClass) throws IOException {
+        List<BeanProperty> properties = collectProperties(beanClass);
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(beanClass).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(beanClass).toString();
+        String className = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+            + GeneratedBeanDescription.CLASS_NAME_SUFFIX;
+        String qualifiedClassName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        Writer writer = processingEnv.getFiler().createSourceFile(qualifiedClassName, beanClass).openWriter();
+        try (PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/** Description of {@link " + beanClass.getQualifiedName() + "}, generated by ConfigMe. */");
+            out.println("public final class " + className + " implements "
+                + GeneratedBeanDescription.class.getName() + " {");
+            out.println();
+            out.println("    @Override");
+            out.println("    @SuppressWarnings(\"unchecked\")");
+            out.println("    public " + PROPERTY_LIST_TYPE + " createProperties() {");
+            out.println("        " + PROPERTY_LIST_TYPE + " properties = new java.util.ArrayList<>("
+                + properties.size() + ");");
+            String beanType = beanClass.getQualifiedName().toString();
+            for (BeanProperty property : properties) {
+                out.println("        properties.add(new "
+                    + "ch.jalu.configme.beanmapper.propertydescription.GeneratedBeanPropertyDescription(");
+                out.println("            " + toStringLiteral(property.exportName) + ",");
+                out.println("            " + createTypeInfoExpression(property.type) + ",");
+                out.println("            bean -> ((" + beanType + ") bean)." + property.getter.getSimpleName() + "(),");
+                out.println("            (bean, value) -> ((" + beanType + ") bean)." + property.setter.getSimpleName()
+                    + "((" + getCastType(property.type) + ") value),");
+                out.println("            " + createCommentsExpression(property.comment) + "));");
+            }
+            out.println("        return properties;");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    /**
+     * Collects the properties of the given bean class, sorted in the order they should be exported.
+     *
+     * @param beanClass the bean class
+     * @return the bean's properties
+     */
+    protected @NotNull List<BeanProperty> collectProperties(@NotNull TypeElement beanClass) {
+        DeclaredType beanType = (DeclaredType) beanClass.asType();
+        Map<String, ExecutableElement> getters = new HashMap<>();
+        Map<String, List<ExecutableElement>> settersByName = new HashMap<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(beanClass))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)
+                || isDeclaredInObject(method)) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            ExecutableType methodType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(beanType, method);
+            TypeKind returnKind = methodType.getReturnType().getKind();
+            int parameterCount = methodType.getParameterTypes().size();
+
+            if (parameterCount == 0 && methodName.length() > 2 && methodName.startsWith("is")
+                && returnKind == TypeKind.BOOLEAN) {
+                getters.put(decapitalize(methodName.substring(2)), method);
+            } else if (parameterCount == 0 && methodName.length() > 3 && methodName.startsWith("get")
+                && returnKind != TypeKind.VOID) {
+                getters.putIfAbsent(decapitalize(methodName.substring(3)), method);
+            } else if (parameterCount == 1 && methodName.length() > 3 && methodName.startsWith("set")
+                && returnKind == TypeKind.VOID) {
+                settersByName.computeIfAbsent(decapitalize(methodName.substring(3)), k -> new ArrayList<>())
+                    .add(method);
+            }
+        }
+
+        // Like the java.beans.Introspector, sort the properties by name before sorting them by field order
+        Map<String, BeanProperty> propertiesByName = new TreeMap<>();
+        for (Map.Entry<String, ExecutableElement> getterEntry : getters.entrySet()) {
+            ExecutableElement getter = getterEntry.getValue();
+            TypeMirror propertyType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(beanType, getter))
+                .getReturnType();
+            ExecutableElement setter = findMatchingSetter(beanType, propertyType,
+                settersByName.getOrDefault(getterEntry.getKey(), Collections.emptyList()));
+            if (setter != null && !isTransient(getter) && !isTransient(setter)) {
+                String name = getterEntry.getKey();
+                VariableElement field = findField((TypeElement) setter.getEnclosingElement(), name);
+                TypeMirror setterType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(beanType, setter))
+                    .getParameterTypes().get(0);
+                propertiesByName.put(name, new BeanProperty(name, field, getter, setter, setterType));
+            }
+        }
+
+        Map<String, Integer> fieldOrder = createFieldNameOrderMap(beanClass);
+        int maxIndex = fieldOrder.size();
+        return propertiesByName.values().stream()
+            .sorted(Comparator.comparing(property -> fieldOrder.getOrDefault(property.name, maxIndex)))
+            .collect(Collectors.toList());
+    }
+
+    private @NotNull TypeElement asBeanClass(@NotNull Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            throw new ProcessingException("Only classes can have a generated bean description", element);
+        }
+        TypeElement typeElement = (TypeElement) element;
+        if (!typeElement.getTypeParameters().isEmpty()) {
+            throw new ProcessingException("Generic classes cannot have a generated bean description", element);
+        }
+        Element current = typeElement;
+        while (current instanceof TypeElement) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new ProcessingException(
+                    "Private classes and classes nested in private classes cannot have a generated bean description",
+                    element);
+            }
+            current = current.getEnclosingElement();
+        }
+        return typeElement;
+    }
+
+    private @Nullable ExecutableElement findMatchingSetter(@NotNull DeclaredType beanType,
+                                                          @NotNull TypeMirror propertyType,
+                                                          @NotNull List<ExecutableElement> setters) {
+        TypeMirror erasedPropertyType = processingEnv.getTypeUtils().erasure(propertyType);
+        for (ExecutableElement setter : setters) {
+            TypeMirror parameterType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(beanType, setter))
+                .getParameterTypes().get(0);
+            if (processingEnv.getTypeUtils().isSameType(
+                    erasedPropertyType, processingEnv.getTypeUtils().erasure(parameterType))) {
+                return setter;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDeclaredInObject(@NotNull ExecutableElement method) {
+        return ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object");
+    }
+
+    private static boolean isTransient(@NotNull ExecutableElement method) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(TRANSIENT_ANNOTATION)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return Boolean.TRUE.equals(entry.getValue().getValue());
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static @Nullable VariableElement findField(@NotNull TypeElement type, @NotNull String name) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a map of index by field name for all fields of the given class and its parents, with fields of the
+     * top-most parent coming first. Mirrors the runtime behavior of the bean description factory.
+     *
+     * @param type the class to process
+     * @return map with all field names as keys and their index as value
+     */
+    private @NotNull Map<String, Integer> createFieldNameOrderMap(@NotNull TypeElement type) {
+        List<TypeElement> classes = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            classes.add(current);
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+        }
+        Collections.reverse(classes);
+
+        Map<String, Integer> indexByName = new HashMap<>();
+        int i = 0;
+        for (TypeElement clazz : classes) {
+            for (VariableElement field : ElementFilter.fieldsIn(clazz.getEnclosedElements())) {
+                indexByName.put(field.getSimpleName().toString(), i);
+                ++i;
+            }
+        }
+        return indexByName;
+    }
+
+    private @NotNull String createTypeInfoExpression(@NotNull TypeMirror type) {
+        String sourceType = toSourceType(type);
+        if (sourceType.contains("<")) {
+            return "new ch.jalu.typeresolver.reference.TypeReference<" + sourceType + ">() { }";
+        }
+        return "ch.jalu.typeresolver.TypeInfo.of(" + sourceType + ".class)";
+    }
+
+    private @NotNull String getCastType(@NotNull TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return toSourceType(type);
+    }
+
+    private @NotNull String createCommentsExpression(@Nullable Comment comment) {
+        if (comment == null) {
+            return "ch.jalu.configme.beanmapper.propertydescription.BeanPropertyComments.EMPTY";
+        }
+        String lines = java.util.Arrays.stream(comment.value())
+            .map(this::toStringLiteral)
+            .collect(Collectors.joining(", "));
+        return "new ch.jalu.configme.beanmapper.propertydescription.BeanPropertyComments("
+            + "java.util.Arrays.asList(" + lines + "), "
+            + (comment.repeat() ? "null" : "java.util.UUID.randomUUID()") + ")";
+    }
+
+    private @NotNull String toStringLiteral(@NotNull String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    /**
+     * Returns the given type as it should be written in source code, with fully qualified names.
+     *
+     * @param type the type to convert
+     * @return source code representation of the type
+     */
+    private @NotNull String toSourceType(@NotNull TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return type.getKind().name().toLowerCase(java.util.Locale.ROOT);
+            case ARRAY:
+                return toSourceType(((ArrayType) type).getComponentType()) + "[]";
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + toSourceType(wildcard.getExtendsBound());
+                } else if (wildcard.getSuperBound() != null) {
+                    return "? super " + toSourceType(wildcard.getSuperBound());
+                }
+                return "?";
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+                if (declaredType.getTypeArguments().isEmpty()) {
+                    return name;
+                }
+                return name + declaredType.getTypeArguments().stream()
+                    .map(this::toSourceType)
+                    .collect(Collectors.joining(", ", "<", ">"));
+            default:
+                throw new ProcessingException("Unsupported property type '" + type + "'",
+                    processingEnv.getTypeUtils().asElement(type));
+        }
+    }
+
+    /**
+     * Converts the name to a property name like {@code java.beans.Introspector#decapitalize}.
+     *
+     * @param name the name to convert
+     * @return the property name
+     */
+    private static @NotNull String decapitalize(@NotNull String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * A property of a bean class.
+     */
+    protected static final class BeanProperty {
+
+        private final String name;
+        private final String exportName;
+        private final @Nullable Comment comment;
+        private final ExecutableElement getter;
+        private final ExecutableElement setter;
+        private final TypeMirror type;
+
+        BeanProperty(@NotNull String name, @Nullable VariableElement field, @NotNull ExecutableElement getter,
+                     @NotNull ExecutableElement setter, @NotNull TypeMirror type) {
+            ExportName exportNameAnnotation = field == null ? null : field.getAnnotation(ExportName.class);
+            this.name = name;
+            this.exportName = exportNameAnnotation == null ? name : exportNameAnnotation.value();
+            this.comment = field == null ? null : field.getAnnotation(Comment.class);
+            this.getter = getter;
+            this.setter = setter;
+            this.type = type;
+        }
+
+        public @NotNull String getName() {
+            return name;
+        }
+
+        public @NotNull String getExportName() {
+            return exportName;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ch.jalu.configme.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.element.Element;
+
+/**
+ * Exception for an annotated element whose code cannot be generated. Reported as a compilation error on the element.
+ */
+final class ProcessingException extends RuntimeException {
+
+    private final @Nullable Element element;
+
+    ProcessingException(@NotNull String message, @Nullable Element element) {
+        super(message);
+        this.element = element;
+    }
+
+    @Nullable Element getElement() {
+        return element;
+    }
+}
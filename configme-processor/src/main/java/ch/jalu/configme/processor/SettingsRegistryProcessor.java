@@ -0,0 +1,207 @@
+package ch.jalu.configme.processor;
+
+import ch.jalu.configme.Comment;
+import ch.jalu.configme.SettingsHolder;
+import ch.jalu.configme.configurationdata.GenerateSettingsRegistry;
+import ch.jalu.configme.configurationdata.GeneratedSettingsRegistry;
+import ch.jalu.configme.properties.Property;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Annotation processor generating a {@link GeneratedSettingsRegistry} for each settings holder annotated with
+ * {@link GenerateSettingsRegistry}. The generated registry references the holder's property fields directly.
+ * <p>
+ * Property fields are determined like {@link ch.jalu.configme.configurationdata.ConfigurationDataBuilder} does at
+ * runtime: all static fields of {@link Property} type, including those of parent classes, with the fields of the
+ * top-most parent first.
+ */
+@SupportedAnnotationTypes("ch.jalu.configme.configurationdata.GenerateSettingsRegistry")
+public class SettingsRegistryProcessor extends AbstractProcessor {
+
+    @Override
+    public @NotNull SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(@NotNull Set<? extends TypeElement> annotations, @NotNull RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateSettingsRegistry.class)) {
+            try {
+                generateRegistry(asSettingsHolderClass(element));
+            } catch (ProcessingException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write settings registry: " + e.getMessage(), element);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generates the source file with the registry of the given settings holder class.
+     *
+     * @param holderClass the settings holder class to process
+     * @throws IOException if the source file could not be written
+     */
+    protected void generateRegistry(@NotNull TypeElement holderClass) throws IOException {
+        PackageElement holderPackage = processingEnv.getElementUtils().getPackageOf(holderClass);
+        List<VariableElement> propertyFields = collectPropertyFields(holderClass);
+
+        String packageName = holderPackage.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(holderClass).toString();
+        String className = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+            + GeneratedSettingsRegistry.CLASS_NAME_SUFFIX;
+        String qualifiedClassName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        Writer writer = processingEnv.getFiler().createSourceFile(qualifiedClassName, holderClass).openWriter();
+        try (PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/** Registry of {@link " + holderClass.getQualifiedName() + "}, generated by ConfigMe. */");
+            out.println("public final class " + className + " implements "
+                + GeneratedSettingsRegistry.class.getName() + " {");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void registerProperties(");
+            out.println("            ch.jalu.configme.configurationdata.PropertyListBuilder propertyListBuilder,");
+            out.println("            ch.jalu.configme.configurationdata.CommentsConfiguration"
+                + " commentsConfiguration) {");
+            for (VariableElement field : propertyFields) {
+                String fieldReference = ((TypeElement) field.getEnclosingElement()).getQualifiedName() + "."
+                    + field.getSimpleName();
+                out.println("        propertyListBuilder.add(" + fieldReference + ");");
+                Comment comment = field.getAnnotation(Comment.class);
+                if (comment != null) {
+                    out.println("        commentsConfiguration.setComment(" + fieldReference + ".getPath()"
+                        + Arrays.stream(comment.value()).map(this::toStringLiteral).map(line -> ", " + line)
+                            .collect(Collectors.joining())
+                        + ");");
+                }
+            }
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public boolean hasSectionComments() {");
+            out.println("        return " + overridesRegisterComments(holderClass) + ";");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    /**
+     * Returns all static property fields of the given class and its parents, in the order they are registered.
+     *
+     * @param holderClass the settings holder class
+     * @return the property fields
+     */
+    protected @NotNull List<VariableElement> collectPropertyFields(@NotNull TypeElement holderClass) {
+        PackageElement holderPackage = processingEnv.getElementUtils().getPackageOf(holderClass);
+        TypeMirror propertyType = processingEnv.getTypeUtils().erasure(
+            processingEnv.getElementUtils().getTypeElement(Property.class.getName()).asType());
+
+        List<VariableElement> propertyFields = new ArrayList<>();
+        for (TypeElement clazz : getClassHierarchy(holderClass)) {
+            for (VariableElement field : ElementFilter.fieldsIn(clazz.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isAssignable(field.asType(), propertyType)) {
+                    if (!isAccessibleFromPackage(field, holderPackage)
+                        || !isAccessibleFromPackage(clazz, holderPackage)) {
+                        throw new ProcessingException("Property field '" + field.getSimpleName()
+                            + "' is not accessible from the generated settings registry", field);
+                    }
+                    propertyFields.add(field);
+                }
+            }
+        }
+        return propertyFields;
+    }
+
+    private @NotNull TypeElement asSettingsHolderClass(@NotNull Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            throw new ProcessingException("Only classes can have a generated settings registry", element);
+        }
+        TypeElement typeElement = (TypeElement) element;
+        TypeMirror settingsHolderType =
+            processingEnv.getElementUtils().getTypeElement(SettingsHolder.class.getName()).asType();
+        if (!processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(typeElement.asType()), settingsHolderType)) {
+            throw new ProcessingException("Class must implement " + SettingsHolder.class.getSimpleName()
+                + " to have a generated settings registry", element);
+        }
+        return typeElement;
+    }
+
+    private boolean overridesRegisterComments(@NotNull TypeElement holderClass) {
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(holderClass))) {
+            if (method.getSimpleName().contentEquals("registerComments") && method.getParameters().size() == 1
+                && !((TypeElement) method.getEnclosingElement()).getQualifiedName()
+                    .contentEquals(SettingsHolder.class.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessibleFromPackage(@NotNull Element element, @NotNull PackageElement packageElement) {
+        Element current = element;
+        while (current instanceof TypeElement || current instanceof VariableElement) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            } else if (!modifiers.contains(Modifier.PUBLIC)
+                && !processingEnv.getElementUtils().getPackageOf(current).equals(packageElement)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static @NotNull List<TypeElement> getClassHierarchy(@NotNull TypeElement type) {
+        List<TypeElement> classes = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            classes.add(current);
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+        }
+        Collections.reverse(classes);
+        return classes;
+    }
+
+    private @NotNull String toStringLiteral(@NotNull String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+}
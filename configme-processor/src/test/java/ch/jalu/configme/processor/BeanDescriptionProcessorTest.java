@@ -0,0 +1,90 @@
+package ch.jalu.configme.processor;
+
+import ch.jalu.configme.beanmapper.propertydescription.BeanDescriptionFactoryImpl;
+import ch.jalu.configme.beanmapper.propertydescription.BeanPropertyDescription;
+import ch.jalu.configme.beanmapper.propertydescription.BeanPropertyDescriptionImpl;
+import ch.jalu.configme.beanmapper.propertydescription.GeneratedBeanDescription;
+import ch.jalu.configme.beanmapper.propertydescription.GeneratedBeanPropertyDescription;
+import ch.jalu.configme.processor.samples.BeanWithGeneratedDescription;
+import ch.jalu.typeresolver.TypeInfo;
+import ch.jalu.typeresolver.reference.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Test for {@link BeanDescriptionProcessor}, via the classes it generated for the test sources.
+ */
+class BeanDescriptionProcessorTest {
+
+    private final BeanDescriptionFactoryImpl factory = new BeanDescriptionFactoryImpl();
+
+    @Test
+    void shouldUseGeneratedDescription() {
+        // given
+        BeanWithGeneratedDescription bean = new BeanWithGeneratedDescription();
+        bean.setTags(Arrays.asList("a", "b"));
+
+        // when
+        List<BeanPropertyDescription> properties =
+            new ArrayList<>(factory.getAllProperties(BeanWithGeneratedDescription.class));
+
+        // then
+        assertThat(transform(properties, BeanPropertyDescription::getName),
+            contains("s_name", "b_active", "i_size", "tags", "limits", "ids"));
+        assertThat(properties.get(0), instanceOf(GeneratedBeanPropertyDescription.class));
+
+        BeanPropertyDescription tagsProperty = properties.get(3);
+        assertThat(tagsProperty.getTypeInformation(), equalTo(new TypeReference<List<String>>() { }));
+        assertThat(tagsProperty.getComments().getComments(), contains("Tags of the bean", "with \"quotes\""));
+        assertThat(tagsProperty.getComments().getUuid(), notNullValue());
+        assertThat(tagsProperty.getValue(bean), equalTo(Arrays.asList("a", "b")));
+
+        properties.get(2).setValue(bean, 7);
+        assertThat(bean.getSize(), equalTo(7));
+        assertThat(properties.get(2).getTypeInformation(), equalTo(new TypeInfo(int.class)));
+        assertThat(properties.get(4).getComments().getUuid(), nullValue());
+        assertThat(properties.get(5).getTypeInformation(), equalTo(new TypeInfo(long[].class)));
+    }
+
+    @Test
+    void shouldDescribeGeneratedBeanLikeReflectiveDescription() {
+        // given
+        BeanDescriptionFactoryImpl reflectiveFactory = new BeanDescriptionFactoryImpl() {
+            @Override
+            protected GeneratedBeanDescription getGeneratedDescription(Class<?> clazz) {
+                return null;
+            }
+        };
+
+        // when
+        List<BeanPropertyDescription> generated =
+            new ArrayList<>(factory.getAllProperties(BeanWithGeneratedDescription.class));
+        List<BeanPropertyDescription> reflective =
+            new ArrayList<>(reflectiveFactory.getAllProperties(BeanWithGeneratedDescription.class));
+
+        // then
+        assertThat(reflective.get(0), instanceOf(BeanPropertyDescriptionImpl.class));
+        assertThat(transform(generated, BeanPropertyDescription::getName),
+            equalTo(transform(reflective, BeanPropertyDescription::getName)));
+        assertThat(transform(generated, BeanPropertyDescription::getTypeInformation),
+            equalTo(transform(reflective, BeanPropertyDescription::getTypeInformation)));
+        assertThat(transform(generated, prop -> prop.getComments().getComments()),
+            equalTo(transform(reflective, prop -> prop.getComments().getComments())));
+    }
+
+    private static <T, R> List<R> transform(List<T> list, Function<T, R> function) {
+        return list.stream().map(function).collect(Collectors.toList());
+    }
+}
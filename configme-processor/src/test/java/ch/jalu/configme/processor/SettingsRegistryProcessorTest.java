@@ -0,0 +1,107 @@
+package ch.jalu.configme.processor;
+
+import ch.jalu.configme.SettingsHolder;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.configurationdata.GeneratedSettingsRegistry;
+import ch.jalu.configme.processor.samples.ChildRegistryTestConfiguration;
+import ch.jalu.configme.processor.samples.GeneratedRegistryTestConfiguration;
+import ch.jalu.configme.processor.samples.ParentRegistryTestConfiguration;
+import ch.jalu.configme.properties.Property;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link SettingsRegistryProcessor}, via the classes it generated for the test sources.
+ */
+class SettingsRegistryProcessorTest {
+
+    @Test
+    void shouldUseGeneratedRegistry() {
+        // given
+        ConfigurationDataBuilder builder = new ConfigurationDataBuilder() {
+            @Override
+            protected Property<?> getPropertyField(Field field) {
+                throw new IllegalStateException("Unexpected call for field " + field);
+            }
+
+            @Override
+            protected <T extends SettingsHolder> T createSettingsHolderInstance(Class<T> clazz) {
+                throw new IllegalStateException("Unexpected call for class " + clazz);
+            }
+        };
+
+        // when
+        ConfigurationData configurationData =
+            builder.collectData(Collections.singletonList(GeneratedRegistryTestConfiguration.class));
+
+        // then
+        assertThat(getPaths(configurationData), contains("server.name", "server.port", "server.public", "worlds"));
+        assertThat(configurationData.getProperties().get(0), equalTo(GeneratedRegistryTestConfiguration.SERVER_NAME));
+        assertThat(configurationData.getCommentsForSection("server.name"),
+            contains("Name of the server", "with \"quotes\""));
+        assertThat(configurationData.getCommentsForSection("server.port"), empty());
+        assertThat(configurationData.getCommentsForSection("worlds"), contains("Enabled worlds"));
+    }
+
+    @Test
+    void shouldCollectPropertiesAlsoFromParentClasses() {
+        // given / when
+        ConfigurationData configurationData =
+            ConfigurationDataBuilder.createConfiguration(ChildRegistryTestConfiguration.class);
+
+        // then
+        assertThat(getPaths(configurationData),
+            contains("parent.version", "sample.name", "sample.subtitle", "child.double"));
+        assertThat(configurationData.getCommentsForSection("parent"), contains("Comes from the parent holder"));
+    }
+
+    @Test
+    void shouldCollectSameDataFromGeneratedRegistryAsWithReflection() throws ClassNotFoundException {
+        // given
+        List<Class<? extends SettingsHolder>> classes =
+            Arrays.asList(GeneratedRegistryTestConfiguration.class, ChildRegistryTestConfiguration.class);
+        ConfigurationDataBuilder reflectiveBuilder = new ConfigurationDataBuilder() {
+            @Override
+            protected GeneratedSettingsRegistry getGeneratedRegistry(Class<?> clazz) {
+                return null;
+            }
+        };
+
+        // when
+        ConfigurationData generatedData = ConfigurationDataBuilder.createConfiguration(classes);
+        ConfigurationData reflectiveData = reflectiveBuilder.collectData(classes);
+
+        // then
+        Class.forName(ChildRegistryTestConfiguration.class.getName() + GeneratedSettingsRegistry.CLASS_NAME_SUFFIX);
+        assertThat(generatedData.getProperties(), equalTo(reflectiveData.getProperties()));
+        assertThat(generatedData.getAllComments(), equalTo(reflectiveData.getAllComments()));
+    }
+
+    @Test
+    void shouldNotGenerateRegistryForClassWithoutAnnotation() {
+        // given
+        String registryClassName =
+            ParentRegistryTestConfiguration.class.getName() + GeneratedSettingsRegistry.CLASS_NAME_SUFFIX;
+
+        // when / then
+        assertThrows(ClassNotFoundException.class, () -> Class.forName(registryClassName));
+    }
+
+    private static List<String> getPaths(ConfigurationData configurationData) {
+        return configurationData.getProperties().stream()
+            .map(Property::getPath)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,57 @@
+package ch.jalu.configme.processor.samples;
+
+import ch.jalu.configme.Comment;
+import ch.jalu.configme.beanmapper.ExportName;
+import ch.jalu.configme.beanmapper.GenerateBeanDescription;
+
+import java.beans.Transient;
+import java.util.List;
+import java.util.Map;
+
+@GenerateBeanDescription
+public class BeanWithGeneratedDescription extends BeanWithExportName {
+
+    @Comment({"Tags of the bean", "with \"quotes\""})
+    private List<String> tags;
+
+    @ExportName("limits")
+    @Comment(value = "Limits", repeat = true)
+    private Map<String, Integer> limitsByName;
+
+    private long[] ids;
+
+    private String cache;
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, Integer> getLimitsByName() {
+        return limitsByName;
+    }
+
+    public void setLimitsByName(Map<String, Integer> limitsByName) {
+        this.limitsByName = limitsByName;
+    }
+
+    public long[] getIds() {
+        return ids;
+    }
+
+    public void setIds(long[] ids) {
+        this.ids = ids;
+    }
+
+    @Transient
+    public String getCache() {
+        return cache;
+    }
+
+    public void setCache(String cache) {
+        this.cache = cache;
+    }
+}
@@ -0,0 +1,18 @@
+package ch.jalu.configme.processor.samples;
+
+import ch.jalu.configme.configurationdata.GenerateSettingsRegistry;
+import ch.jalu.configme.properties.Property;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+
+/**
+ * Sample settings holder with a generated registry whose parent class also has properties.
+ */
+@GenerateSettingsRegistry
+public class ChildRegistryTestConfiguration extends ParentRegistryTestConfiguration {
+
+    public static final Property<Double> CHILD_DOUBLE = newProperty("child.double", 5.3);
+
+    public static final Property<String> SAMPLE_SUBTITLE = newProperty("sample.subtitle", "");
+
+}
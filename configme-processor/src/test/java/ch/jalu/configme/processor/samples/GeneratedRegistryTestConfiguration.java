@@ -0,0 +1,37 @@
+package ch.jalu.configme.processor.samples;
+
+import ch.jalu.configme.Comment;
+import ch.jalu.configme.SettingsHolder;
+import ch.jalu.configme.configurationdata.GenerateSettingsRegistry;
+import ch.jalu.configme.properties.Property;
+
+import java.util.List;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newListProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+
+/**
+ * Sample settings holder with a registry generated at compile time.
+ */
+@GenerateSettingsRegistry
+public final class GeneratedRegistryTestConfiguration implements SettingsHolder {
+
+    @Comment({"Name of the server", "with \"quotes\""})
+    public static final Property<String> SERVER_NAME =
+        newProperty("server.name", "Test server");
+
+    public static final Property<Integer> SERVER_PORT =
+        newProperty("server.port", 25565);
+
+    @Comment("Enabled worlds")
+    static final Property<List<String>> WORLDS =
+        newListProperty("worlds", "world", "world_nether");
+
+    public static final Property<Boolean> SERVER_PUBLIC =
+        newProperty("server.public", true);
+
+    public static final String NOT_A_PROPERTY = "server.motd";
+
+    private GeneratedRegistryTestConfiguration() {
+    }
+}
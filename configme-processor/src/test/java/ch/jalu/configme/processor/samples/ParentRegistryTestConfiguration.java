@@ -0,0 +1,22 @@
+package ch.jalu.configme.processor.samples;
+
+import ch.jalu.configme.SettingsHolder;
+import ch.jalu.configme.configurationdata.CommentsConfiguration;
+import ch.jalu.configme.properties.Property;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+
+/**
+ * Parent of {@link ChildRegistryTestConfiguration}, without generated registry.
+ */
+public class ParentRegistryTestConfiguration implements SettingsHolder {
+
+    public static final Property<Integer> PARENT_VERSION = newProperty("parent.version", 5);
+
+    public static final Property<String> SAMPLE_NAME = newProperty("sample.name", "Sample");
+
+    @Override
+    public void registerComments(CommentsConfiguration conf) {
+        conf.setComment("parent", "Comes from the parent holder");
+    }
+}
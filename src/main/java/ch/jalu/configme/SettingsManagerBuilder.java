@@ -2,6 +2,7 @@ package ch.jalu.configme;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.configurationdata.ConfigurationDataTemplate;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.migration.PlainMigrationService;
 import ch.jalu.configme.resource.PropertyResource;
@@ -107,6 +108,17 @@ public final class SettingsManagerBuilder {
         return this;
     }
 
+    /**
+     * Sets up new configuration data with the properties and comments of the given template.
+     *
+     * @param template the template to create the configuration data from
+     * @return this builder
+     */
+    public @NotNull SettingsManagerBuilder configurationData(@NotNull ConfigurationDataTemplate template) {
+        this.configurationData = template.createConfigurationData();
+        return this;
+    }
+
     /**
      * Sets the given migration service to the builder.
      *
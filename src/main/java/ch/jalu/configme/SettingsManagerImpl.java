@@ -59,7 +59,8 @@ public class SettingsManagerImpl implements SettingsManager {
     }
 
     /**
-     * Sets a new value for the given property.
+     * Sets a new value for the given property. The property resource is notified of the change, which it may persist
+     * right away (see {@link PropertyResource#onPropertyChanged}).
      *
      * @param property the property to modify
      * @param value the new value to assign to the property
@@ -68,6 +69,7 @@ public class SettingsManagerImpl implements SettingsManager {
     @Override
     public <T> void setProperty(@NotNull Property<T> property, @NotNull T value) {
         configurationData.setValue(property, value);
+        resource.onPropertyChanged(property, configurationData);
     }
 
     @Override
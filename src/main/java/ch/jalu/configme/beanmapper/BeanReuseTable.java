@@ -0,0 +1,144 @@
+package ch.jalu.configme.beanmapper;
+
+import ch.jalu.configme.internal.PathUtils;
+import ch.jalu.typeresolver.TypeInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps the beans created by a {@link MapperImpl} together with the values they were created from, so that the
+ * beans can be reused by subsequent conversions (e.g. when the configuration is reloaded). A bean is reused if
+ * the value at the same bean path is equal to the value it was created from, and the target type is the same.
+ * This way, reloading a large configuration with a small change only creates the beans along the changed path.
+ * <p>
+ * Every conversion works with a new {@link Generation}: it looks up beans in the entries of the last completed
+ * conversion and collects the beans of the current one, which replace the table's entries once the conversion is
+ * complete. The table therefore only keeps the beans of the last conversion, and entries of paths that no longer
+ * exist are dropped.
+ * <p>
+ * Only beans whose conversion did not register any error are kept. Reused beans are shared between the results of
+ * multiple conversions, so the beans should not be modified. The table keeps a reference to the values the beans were
+ * created from; use one table per property and configuration (as done by
+ * {@link ch.jalu.configme.configurationdata.ConfigurationDataImpl ConfigurationDataImpl}), and {@link #clear} it if
+ * the beans are no longer needed.
+ * <p>
+ * This class is thread-safe.
+ */
+public class BeanReuseTable {
+
+    private volatile NavigableMap<String, Entry> entriesByPath = Collections.emptyNavigableMap();
+
+    /**
+     * Starts a new generation for a conversion, which reuses the beans of the last completed generation.
+     *
+     * @return new generation
+     */
+    public @NotNull Generation startGeneration() {
+        return new Generation(entriesByPath);
+    }
+
+    /**
+     * Removes all beans from this table.
+     */
+    public void clear() {
+        entriesByPath = Collections.emptyNavigableMap();
+    }
+
+    /**
+     * @return number of beans in this table
+     */
+    public int size() {
+        return entriesByPath.size();
+    }
+
+    /**
+     * The beans of one conversion. Beans are looked up in the entries of the previous generation, and the beans that
+     * are reused or created are saved to this generation, which becomes the table's content once it is
+     * {@link #complete completed}.
+     */
+    public final class Generation {
+
+        private final NavigableMap<String, Entry> previousEntries;
+        private final NavigableMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+
+        Generation(@NotNull NavigableMap<String, Entry> previousEntries) {
+            this.previousEntries = previousEntries;
+        }
+
+        /**
+         * Returns the bean that was created at the given path from a value equal to the given one in the previous
+         * generation. The bean is kept in this generation, together with the beans it contains.
+         *
+         * @param beanPath the bean path of the value
+         * @param targetType the type of the bean
+         * @param value the value to create the bean from
+         * @return the bean that can be reused, or null if there is none
+         */
+        public @Nullable Object getReusableBean(@NotNull String beanPath, @NotNull TypeInfo targetType,
+                                                @NotNull Object value) {
+            Entry entry = previousEntries.get(beanPath);
+            if (entry != null && entry.targetType.equals(targetType) && entry.value.equals(value)) {
+                keepEntriesAtOrBelow(beanPath);
+                return entry.bean;
+            }
+            return null;
+        }
+
+        /**
+         * Saves the given bean so it can be reused if the value at the path is unchanged in a later conversion.
+         *
+         * @param beanPath the bean path of the value
+         * @param targetType the type of the bean
+         * @param value the value the bean was created from
+         * @param bean the bean
+         */
+        public void register(@NotNull String beanPath, @NotNull TypeInfo targetType, @NotNull Object value,
+                             @NotNull Object bean) {
+            entries.put(beanPath, new Entry(targetType, value, bean));
+        }
+
+        /**
+         * Replaces the entries of the table with the beans of this generation. Should be called once the conversion
+         * has finished.
+         */
+        public void complete() {
+            entriesByPath = entries;
+        }
+
+        /*
+         * The beans contained in a reused bean are not visited by the mapper, so their entries are taken over from
+         * the previous generation to keep them reusable in case the reused bean changes in a later conversion.
+         */
+        private void keepEntriesAtOrBelow(@NotNull String beanPath) {
+            Map<String, Entry> candidates = beanPath.isEmpty()
+                ? previousEntries
+                : previousEntries.subMap(beanPath, true, beanPath + Character.MAX_VALUE, false);
+            for (Map.Entry<String, Entry> candidate : candidates.entrySet()) {
+                String path = candidate.getKey();
+                if (path.length() == beanPath.length() || beanPath.isEmpty()
+                    || path.charAt(beanPath.length()) == '.'
+                    || PathUtils.isSpecifierSuffix(path.substring(beanPath.length()))) {
+                    entries.putIfAbsent(path, candidate.getValue());
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final TypeInfo targetType;
+        private final Object value;
+        private final Object bean;
+
+        Entry(@NotNull TypeInfo targetType, @NotNull Object value, @NotNull Object bean) {
+            this.targetType = targetType;
+            this.value = value;
+            this.bean = bean;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ch.jalu.configme.beanmapper;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Subtype of a class annotated with {@link BeanSubtypes}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({})
+@Documented
+public @interface BeanSubtype {
+
+    /**
+     * @return the value of the discriminator key that identifies the subtype
+     */
+    @NotNull String name();
+
+    /**
+     * @return the subtype; must be a bean class that extends or implements the annotated type
+     */
+    @NotNull Class<?> type();
+
+}
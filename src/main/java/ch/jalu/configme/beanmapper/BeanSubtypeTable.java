@@ -0,0 +1,149 @@
+package ch.jalu.configme.beanmapper;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Table of the subtypes a bean type can be mapped to, identified by the value of a discriminator key. For example,
+ * a table for {@code Handler} with discriminator key {@code type} may define that {@code type: redis} is mapped to
+ * {@code RedisHandler} and that {@code type: file} is mapped to {@code FileHandler}.
+ * <p>
+ * {@link MapperImpl} creates the tables from the {@link BeanSubtypes} annotation of bean types; tables can also be
+ * created with {@link #builder} and returned by overriding {@link MapperImpl#createSubtypeTable}.
+ */
+public class BeanSubtypeTable {
+
+    private final @NotNull Class<?> baseType;
+    private final @NotNull String discriminatorKey;
+    private final @NotNull Map<String, Class<?>> subtypesByName;
+    private final @NotNull Map<Class<?>, String> namesBySubtype;
+
+    /**
+     * Constructor. Use {@link #builder} or {@link #fromAnnotation} to create tables.
+     *
+     * @param baseType the type the subtypes extend
+     * @param discriminatorKey the key whose value determines the subtype
+     * @param subtypesByName the subtypes by their name
+     */
+    protected BeanSubtypeTable(@NotNull Class<?> baseType, @NotNull String discriminatorKey,
+                               @NotNull Map<String, Class<?>> subtypesByName) {
+        this.baseType = baseType;
+        this.discriminatorKey = discriminatorKey;
+        this.subtypesByName = Collections.unmodifiableMap(new LinkedHashMap<>(subtypesByName));
+        Map<Class<?>, String> namesBySubtype = new HashMap<>();
+        subtypesByName.forEach((name, subtype) -> namesBySubtype.put(subtype, name));
+        this.namesBySubtype = namesBySubtype;
+    }
+
+    /**
+     * Creates a builder for a table with the given base type and discriminator key.
+     *
+     * @param baseType the type the subtypes extend
+     * @param discriminatorKey the key whose value determines the subtype
+     * @return new builder
+     */
+    public static @NotNull Builder builder(@NotNull Class<?> baseType, @NotNull String discriminatorKey) {
+        return new Builder(baseType, discriminatorKey);
+    }
+
+    /**
+     * Creates a table from the {@link BeanSubtypes} annotation of the given type.
+     *
+     * @param baseType the type whose annotation should be processed
+     * @return table of the annotated subtypes, or null if the type does not have the annotation
+     */
+    public static @Nullable BeanSubtypeTable fromAnnotation(@NotNull Class<?> baseType) {
+        BeanSubtypes annotation = baseType.getAnnotation(BeanSubtypes.class);
+        if (annotation == null) {
+            return null;
+        }
+
+        Builder builder = builder(baseType, annotation.discriminator());
+        for (BeanSubtype subtype : annotation.value()) {
+            builder.add(subtype.name(), subtype.type());
+        }
+        return builder.build();
+    }
+
+    public @NotNull Class<?> getBaseType() {
+        return baseType;
+    }
+
+    public @NotNull String getDiscriminatorKey() {
+        return discriminatorKey;
+    }
+
+    /**
+     * Returns the subtype with the given name.
+     *
+     * @param name the value of the discriminator key
+     * @return the subtype, or null if there is no subtype with the name
+     */
+    public @Nullable Class<?> getSubtype(@Nullable Object name) {
+        return name instanceof String ? subtypesByName.get(name) : null;
+    }
+
+    /**
+     * Returns the name of the given subtype, which is exported as the value of the discriminator key.
+     *
+     * @param subtype the subtype
+     * @return the subtype's name, or null if the class is not a subtype of this table
+     */
+    public @Nullable String getName(@NotNull Class<?> subtype) {
+        return namesBySubtype.get(subtype);
+    }
+
+    /**
+     * @return all subtypes of this table, in the order they were defined
+     */
+    public @NotNull Collection<Class<?>> getSubtypes() {
+        return subtypesByName.values();
+    }
+
+    /**
+     * Builder for {@link BeanSubtypeTable}.
+     */
+    public static class Builder {
+
+        private final Class<?> baseType;
+        private final String discriminatorKey;
+        private final Map<String, Class<?>> subtypesByName = new LinkedHashMap<>();
+
+        protected Builder(@NotNull Class<?> baseType, @NotNull String discriminatorKey) {
+            this.baseType = baseType;
+            this.discriminatorKey = discriminatorKey;
+        }
+
+        /**
+         * Adds the given subtype.
+         *
+         * @param name the value of the discriminator key that identifies the subtype
+         * @param subtype the subtype
+         * @return this builder
+         */
+        public @NotNull Builder add(@NotNull String name, @NotNull Class<?> subtype) {
+            if (!baseType.isAssignableFrom(subtype)) {
+                throw new IllegalArgumentException("Subtype '" + subtype.getName() + "' does not extend '"
+                    + baseType.getName() + "'");
+            } else if (subtypesByName.containsKey(name)) {
+                throw new IllegalArgumentException("Subtype name '" + name + "' is used multiple times for '"
+                    + baseType.getName() + "'");
+            } else if (subtypesByName.containsValue(subtype)) {
+                throw new IllegalArgumentException("Subtype '" + subtype.getName() + "' has multiple names for '"
+                    + baseType.getName() + "'");
+            }
+            subtypesByName.put(name, subtype);
+            return this;
+        }
+
+        public @NotNull BeanSubtypeTable build() {
+            return new BeanSubtypeTable(baseType, discriminatorKey, subtypesByName);
+        }
+    }
+}
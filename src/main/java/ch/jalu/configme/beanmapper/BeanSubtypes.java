@@ -0,0 +1,33 @@
+package ch.jalu.configme.beanmapper;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation placed on a class or interface to map values to one of its subtypes. The subtype is determined by
+ * the value of the discriminator key in the property resource, e.g. {@code type: redis}. When a subtype is exported,
+ * its name is written under the discriminator key.
+ *
+ * @see BeanSubtypeTable
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface BeanSubtypes {
+
+    /**
+     * @return the key whose value in the property resource determines the subtype
+     */
+    @NotNull String discriminator() default "type";
+
+    /**
+     * @return the subtypes with their names
+     */
+    @NotNull BeanSubtype @NotNull [] value();
+
+}
@@ -0,0 +1,106 @@
+package ch.jalu.configme.beanmapper;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps the export value that was created for each value, so that the export value does not have to be created
+ * again if the same value is exported once more, e.g. when the configuration is saved again without the value having
+ * been replaced. Values are matched by identity: setting a new value to the property (such as via
+ * {@link ch.jalu.configme.configurationdata.ConfigurationData#setValue}) always creates a new export value.
+ * <p>
+ * An export value is kept for every value that has been exported, so one cache can be used for all entries of a
+ * collection or map property. Values are referenced weakly: once a value is no longer used, its export value is
+ * removed from the cache.
+ * <p>
+ * This is only correct if the exported values are effectively immutable: a bean which is modified after its export
+ * has been cached keeps returning the old export value until this cache is {@link #clear cleared}. Similarly, the
+ * export value that is returned is shared between exports and should not be modified. The export value must not
+ * reference the value it was created for, as the value would never be removed from the cache otherwise.
+ * <p>
+ * This class is thread-safe.
+ */
+public class ExportValueCache {
+
+    private final Map<IdentityKey, Object> exportValues = new HashMap<>();
+    private final ReferenceQueue<Object> collectedValues = new ReferenceQueue<>();
+
+    /**
+     * Returns the export value of the given value. If an export value was created for the same instance before,
+     * that export value is returned. Otherwise, the export value is created with the given function and saved for
+     * subsequent calls.
+     *
+     * @param value the value to get the export value for
+     * @param exportValueCreator function creating the export value of a value
+     * @return the export value
+     */
+    public @Nullable Object getExportValue(@NotNull Object value,
+                                           @NotNull Function<Object, Object> exportValueCreator) {
+        IdentityKey lookupKey = new IdentityKey(value, null);
+        synchronized (exportValues) {
+            removeCollectedValues();
+            if (exportValues.containsKey(lookupKey)) {
+                return exportValues.get(lookupKey);
+            }
+        }
+
+        Object exportValue = exportValueCreator.apply(value);
+        synchronized (exportValues) {
+            exportValues.put(new IdentityKey(value, collectedValues), exportValue);
+        }
+        return exportValue;
+    }
+
+    /**
+     * Removes all saved export values, so that they are created again on the next export.
+     */
+    public void clear() {
+        synchronized (exportValues) {
+            exportValues.clear();
+            removeCollectedValues();
+        }
+    }
+
+    private void removeCollectedValues() {
+        Reference<?> collectedKey;
+        while ((collectedKey = collectedValues.poll()) != null) {
+            exportValues.remove(collectedKey);
+        }
+    }
+
+    /**
+     * Weak reference to a value, which is equal to other keys referencing the same instance.
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        IdentityKey(@NotNull Object value, @Nullable ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.hash = System.identityHashCode(value);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof IdentityKey) {
+                Object value = get();
+                return value != null && value == ((IdentityKey) obj).get();
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
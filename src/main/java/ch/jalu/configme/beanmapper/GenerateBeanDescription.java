@@ -0,0 +1,25 @@
+package ch.jalu.configme.beanmapper;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation placed on a bean class to generate the description of its properties at compile time, so that the
+ * bean mapper does not need to look up the bean's properties and call its getters and setters via reflection.
+ * <p>
+ * The description is generated by the {@code BeanDescriptionProcessor} of the separate {@code configme-processor}
+ * artifact, which must be added to the compiler's annotation processor path (e.g. via the Maven compiler plugin's
+ * {@code annotationProcessorPaths}). The generated class is picked up by
+ * {@link ch.jalu.configme.beanmapper.propertydescription.BeanDescriptionFactoryImpl BeanDescriptionFactoryImpl};
+ * beans without a generated description are handled via reflection.
+ * <p>
+ * The bean class may not be private, nor be nested in a private class.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+@Documented
+public @interface GenerateBeanDescription {
+}
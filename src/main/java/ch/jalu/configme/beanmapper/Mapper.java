@@ -1,6 +1,7 @@
 package ch.jalu.configme.beanmapper;
 
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.schema.ValueSchema;
 import ch.jalu.typeresolver.TypeInfo;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -24,6 +25,23 @@ public interface Mapper {
     @Nullable Object convertToBean(@Nullable Object value, @NotNull TypeInfo targetType,
                                    @NotNull ConvertErrorRecorder errorRecorder);
 
+    /**
+     * Creates an object of the given type from the given value, reusing the beans of the previous conversion from the
+     * given table whose source value is unchanged. Returns null if the conversion is not possible. By default, the
+     * table is ignored.
+     *
+     * @param value the value to convert (typically a Map)
+     * @param targetType the required type
+     * @param errorRecorder error recorder to register errors even if a valid value is returned
+     * @param beanReuseTable the beans of the previous conversion, which are replaced by the beans of this conversion
+     * @return object of the given type, or null if not possible
+     */
+    default @Nullable Object convertToBean(@Nullable Object value, @NotNull TypeInfo targetType,
+                                           @NotNull ConvertErrorRecorder errorRecorder,
+                                           @NotNull BeanReuseTable beanReuseTable) {
+        return convertToBean(value, targetType, errorRecorder);
+    }
+
     /**
      * Converts the given value to an object of the given class, if possible. Returns null otherwise.
      * This is a convenience method as typed alternative to
@@ -51,4 +69,28 @@ public interface Mapper {
      */
     @Nullable Object toExportValue(@NotNull Object object);
 
+    /**
+     * Converts the given value to its export value like {@link #toExportValue(Object)}, reusing the export value
+     * saved in the given cache if the object is unchanged since its last export. See {@link ExportValueCache}.
+     *
+     * @param object the object to convert to its export value
+     * @param exportValueCache the cache with the previous export value
+     * @return export value to use
+     */
+    default @Nullable Object toExportValue(@NotNull Object object, @NotNull ExportValueCache exportValueCache) {
+        return exportValueCache.getExportValue(object, this::toExportValue);
+    }
+
+    /**
+     * Returns the schema of the values that can be converted to the given type, used to validate a property
+     * resource without converting its values. By default, a value is valid if it can be converted with
+     * {@link #convertToBean(Object, TypeInfo, ConvertErrorRecorder)}.
+     *
+     * @param targetType the type to convert to
+     * @return the schema of the values that can be converted to the type
+     */
+    default @NotNull ValueSchema getValueSchema(@NotNull TypeInfo targetType) {
+        return ValueSchema.convertedBy(value -> convertToBean(value, targetType, new ConvertErrorRecorder()));
+    }
+
 }
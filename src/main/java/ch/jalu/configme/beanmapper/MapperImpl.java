@@ -7,24 +7,38 @@ import ch.jalu.configme.beanmapper.context.MappingContextImpl;
 import ch.jalu.configme.beanmapper.leafvaluehandler.LeafValueHandler;
 import ch.jalu.configme.beanmapper.leafvaluehandler.LeafValueHandlerImpl;
 import ch.jalu.configme.beanmapper.leafvaluehandler.MapperLeafType;
+import ch.jalu.configme.beanmapper.propertydescription.BeanConstructorDescription;
 import ch.jalu.configme.beanmapper.propertydescription.BeanDescriptionFactory;
 import ch.jalu.configme.beanmapper.propertydescription.BeanDescriptionFactoryImpl;
 import ch.jalu.configme.beanmapper.propertydescription.BeanPropertyComments;
 import ch.jalu.configme.beanmapper.propertydescription.BeanPropertyDescription;
+import ch.jalu.configme.internal.CollectionUtils;
+import ch.jalu.configme.internal.TypeCache;
+import ch.jalu.configme.properties.convertresult.ConvertError;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.properties.convertresult.ValueWithComments;
+import ch.jalu.configme.schema.ValueSchema;
 import ch.jalu.typeresolver.TypeInfo;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.RecursiveAction;
 
 import static ch.jalu.configme.internal.PathUtils.OPTIONAL_SPECIFIER;
 import static ch.jalu.configme.internal.PathUtils.pathSpecifierForIndex;
@@ -44,15 +58,26 @@ import static ch.jalu.configme.internal.PathUtils.pathSpecifierForMapKey;
  * be supported by implementing a custom {@link MapperLeafType} that performs the conversion from the value coming
  * from the property reader to an object of the class's type.
  * <p>
+ * <b>Immutable beans:</b> records and classes with a public constructor annotated with
+ * {@code java.beans.ConstructorProperties} are created by passing all their properties to the constructor. Their
+ * properties are read via the record's accessors or the class's getters. As there is no default value to fall back
+ * to, such a bean cannot be created if any of its properties cannot be mapped.
+ * <p>
  * <b>Recursion:</b> the mapping of values to a JavaBean is performed recursively, i.e. a JavaBean may have other
- * JavaBeans as fields and generic types at any arbitrary "depth".
+ * JavaBeans as fields and generic types at any arbitrary "depth". The mapper recurses once per nesting level of
+ * the value, and the number of levels is determined by the data rather than by the target type: a bean may contain
+ * a collection of beans of its own type, and a bean that is exported may reference itself. Values nested deeper than
+ * {@link #getMaxNestingDepth()} levels are therefore not converted (an error is registered instead), and their
+ * export throws an exception, so that the mapper does not run out of stack space.
  * <p>
  * <b>Collections</b> are only supported if they are explicitly typed, i.e. a field of {@code List<String>}
  * is supported but {@code List<?>} and {@code List<T extends Number>} are not supported. Specifically, you may
- * only declare fields of type {@link java.util.List} or {@link java.util.Set}, or a parent type ({@link Collection}
- * or {@link Iterable}).
+ * declare fields of type {@link java.util.List}, {@link java.util.Set}, {@link java.util.SortedSet},
+ * {@link java.util.Deque} or {@link EnumSet}, or a parent type ({@link Collection} or {@link Iterable}).
+ * <b>Arrays</b> are supported as well; arrays of primitive types such as {@code int[]} are created directly.
  * Fields of type <b>Map</b> are supported also, with similar limitations. Additionally, maps may only have
- * {@code String} as key type, but no restrictions are imposed on the value type.
+ * {@code String} or an enum as key type, but no restrictions are imposed on the value type. Fields of type
+ * {@link EnumMap} are created as such.
  * <p>
  * JavaBeans may have <b>optional fields</b>. If the mapper cannot map the property resource value to the corresponding
  * field, it only treats it as a failure if the field's value is {@code null}. If the field has a default value assigned
@@ -64,12 +89,31 @@ public class MapperImpl implements Mapper {
     /** Marker object to signal that null is meant to be used as value. */
     public static final Object RETURN_NULL = new Object();
 
+    /** Default maximum number of levels a value may be nested in the value that is converted or exported. */
+    public static final int DEFAULT_MAX_NESTING_DEPTH = 512;
+
     // ---------
     // Fields and general configurable methods
     // ---------
 
     private final BeanDescriptionFactory beanDescriptionFactory;
     private final LeafValueHandler leafValueHandler;
+    private final @Nullable ParallelCollectionConversion parallelCollectionConversion;
+    private final TypeCache<TypeMappingPlan> typeMappingPlans = new TypeCache<>();
+    private final TypeCache<ValueSchema> valueSchemas = new TypeCache<>();
+    private final ClassValue<Optional<BeanSubtypeTable>> subtypeTables = new ClassValue<Optional<BeanSubtypeTable>>() {
+        @Override
+        protected Optional<BeanSubtypeTable> computeValue(Class<?> type) {
+            return Optional.ofNullable(createSubtypeTable(type));
+        }
+    };
+    private final ClassValue<Optional<BeanSubtypeTable>> subtypeTablesForExport =
+        new ClassValue<Optional<BeanSubtypeTable>>() {
+            @Override
+            protected Optional<BeanSubtypeTable> computeValue(Class<?> type) {
+                return Optional.ofNullable(findSubtypeTableForExport(type));
+            }
+        };
 
     public MapperImpl() {
         this(new BeanDescriptionFactoryImpl(),
@@ -78,8 +122,23 @@ public class MapperImpl implements Mapper {
 
     public MapperImpl(@NotNull BeanDescriptionFactory beanDescriptionFactory,
                       @NotNull LeafValueHandler leafValueHandler) {
+        this(beanDescriptionFactory, leafValueHandler, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param beanDescriptionFactory the bean description factory
+     * @param leafValueHandler the leaf value handler
+     * @param parallelCollectionConversion settings to convert large collections in parallel, null to convert all
+     *                                     values sequentially
+     */
+    public MapperImpl(@NotNull BeanDescriptionFactory beanDescriptionFactory,
+                      @NotNull LeafValueHandler leafValueHandler,
+                      @Nullable ParallelCollectionConversion parallelCollectionConversion) {
         this.beanDescriptionFactory = beanDescriptionFactory;
         this.leafValueHandler = leafValueHandler;
+        this.parallelCollectionConversion = parallelCollectionConversion;
     }
 
     protected final @NotNull BeanDescriptionFactory getBeanDescriptionFactory() {
@@ -90,15 +149,150 @@ public class MapperImpl implements Mapper {
         return leafValueHandler;
     }
 
+    protected final @Nullable ParallelCollectionConversion getParallelCollectionConversion() {
+        return parallelCollectionConversion;
+    }
+
     protected @NotNull MappingContext createRootMappingContext(@NotNull TypeInfo beanType,
                                                                @NotNull ConvertErrorRecorder errorRecorder) {
         return MappingContextImpl.createRoot(beanType, errorRecorder);
     }
 
+    protected @NotNull MappingContext createRootMappingContext(@NotNull TypeInfo beanType,
+                                                               @NotNull ConvertErrorRecorder errorRecorder,
+                                                               @NotNull BeanReuseTable.Generation beanReuseGeneration) {
+        return MappingContextImpl.createRoot(beanType, errorRecorder, beanReuseGeneration);
+    }
+
     protected @NotNull ExportContext createRootExportContext() {
         return ExportContextImpl.createRoot();
     }
 
+    /**
+     * Returns the maximum {@link MappingContext#getDepth depth} of values that are converted and exported. Deeper
+     * values are not converted, and their export fails.
+     *
+     * @return the maximum nesting depth
+     */
+    protected int getMaxNestingDepth() {
+        return DEFAULT_MAX_NESTING_DEPTH;
+    }
+
+    /**
+     * Returns the mapping plan for the target type of the given context. Plans are created once per type and cached.
+     *
+     * @param context the mapping context whose target type should be returned
+     * @return the plan for the context's target type
+     */
+    protected @NotNull TypeMappingPlan getTypeMappingPlan(@NotNull MappingContext context) {
+        return getTypeMappingPlan(context.getTargetType());
+    }
+
+    /**
+     * Returns the mapping plan for the given type. Plans are created once per type and cached (without keeping the
+     * type's classes from being unloaded, see {@link TypeCache}); the type arguments of a plan are interned with
+     * {@link #internType}, so that all contexts for entries of the same type share the same type instance and the plan
+     * of an entry type is found by identity in most cases.
+     *
+     * @param type the type to get the plan for
+     * @return the plan for the type
+     */
+    protected final @NotNull TypeMappingPlan getTypeMappingPlan(@NotNull TypeInfo type) {
+        TypeMappingPlan plan = typeMappingPlans.get(type);
+        if (plan == null) {
+            // Not computeIfAbsent: creating a plan interns its type arguments, which adds further plans to the map
+            TypeMappingPlan newPlan = createTypeMappingPlan(type);
+            plan = typeMappingPlans.putIfAbsent(type, newPlan);
+            if (plan == null) {
+                plan = newPlan;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the canonical instance of the given type, i.e. the type of its cached mapping plan. Equal types
+     * are always interned to the same instance.
+     *
+     * @param type the type to intern
+     * @return the interned type, equal to the given type
+     */
+    protected final @NotNull TypeInfo internType(@NotNull TypeInfo type) {
+        return getTypeMappingPlan(type).getType();
+    }
+
+    /**
+     * Returns the class equivalent of the context's target type as resolved by its mapping plan, throwing an
+     * exception if there is none.
+     *
+     * @param context the mapping context
+     * @return the target type as a class
+     */
+    protected final @NotNull Class<?> getTargetClassOrThrow(@NotNull MappingContext context) {
+        Class<?> rawClass = getTypeMappingPlan(context).getRawClass();
+        return rawClass == null ? context.getTargetTypeAsClassOrThrow() : rawClass;
+    }
+
+    protected @NotNull TypeMappingPlan createTypeMappingPlan(@NotNull TypeInfo type) {
+        TypeMappingPlan plan = TypeMappingPlan.create(type, this::internType);
+        if (plan.getKind() == TypeMappingPlan.Kind.OTHER && plan.getRawClass() != null) {
+            BeanSubtypeTable subtypeTable = getSubtypeTable(plan.getRawClass());
+            if (subtypeTable != null) {
+                return TypeMappingPlan.createForSubtypes(type, subtypeTable);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the table of subtypes the given type is mapped to. Tables are created once per type and cached.
+     *
+     * @param type the type to get the subtype table for
+     * @return the subtype table, or null if the type is not polymorphic
+     */
+    protected final @Nullable BeanSubtypeTable getSubtypeTable(@NotNull Class<?> type) {
+        return subtypeTables.get(type).orElse(null);
+    }
+
+    /**
+     * Creates the table of subtypes the given type is mapped to. By default, tables are created from the
+     * {@link BeanSubtypes} annotation; override this method to define subtype tables programmatically.
+     *
+     * @param type the type to create the subtype table for
+     * @return the subtype table, or null if the type is not polymorphic
+     */
+    protected @Nullable BeanSubtypeTable createSubtypeTable(@NotNull Class<?> type) {
+        return BeanSubtypeTable.fromAnnotation(type);
+    }
+
+    /**
+     * Returns the subtype table in which the given class is a subtype, if any. Its name is exported under the
+     * table's discriminator key so that the value can be mapped back to the same class.
+     *
+     * @param beanClass the class of the bean to export
+     * @return subtype table which contains the class, or null if not applicable
+     */
+    protected final @Nullable BeanSubtypeTable getSubtypeTableForExport(@NotNull Class<?> beanClass) {
+        return subtypeTablesForExport.get(beanClass).orElse(null);
+    }
+
+    private @Nullable BeanSubtypeTable findSubtypeTableForExport(@NotNull Class<?> beanClass) {
+        Deque<Class<?>> supertypes = new ArrayDeque<>();
+        supertypes.add(beanClass);
+        while (!supertypes.isEmpty()) {
+            Class<?> type = supertypes.poll();
+            BeanSubtypeTable subtypeTable = getSubtypeTable(type);
+            if (subtypeTable != null && subtypeTable.getName(beanClass) != null) {
+                return subtypeTable;
+            }
+            if (type.getSuperclass() != null) {
+                supertypes.add(type.getSuperclass());
+            }
+            supertypes.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return null;
+    }
+
 
     // ---------
     // Export
@@ -117,6 +311,11 @@ public class MapperImpl implements Mapper {
      * @return export value to use
      */
     protected @Nullable Object toExportValue(@Nullable Object value, @NotNull ExportContext exportContext) {
+        if (exportContext.getDepth() > getMaxNestingDepth()) {
+            throw new ConfigMeMapperException("Cannot export a value that is nested more than "
+                + getMaxNestingDepth() + " levels deep. Does the value reference itself?");
+        }
+
         // Step 1: attempt simple value transformation
         Object exportValue = leafValueHandler.toExportValue(value, exportContext);
         if (exportValue != null || value == null) {
@@ -131,8 +330,13 @@ public class MapperImpl implements Mapper {
 
         // Step 3: treat as bean
         Map<String, Object> mappedBean = new LinkedHashMap<>();
+        BeanSubtypeTable subtypeTable = getSubtypeTableForExport(value.getClass());
+        if (subtypeTable != null) {
+            mappedBean.put(subtypeTable.getDiscriminatorKey(), subtypeTable.getName(value.getClass()));
+        }
         for (BeanPropertyDescription property : beanDescriptionFactory.getAllProperties(value.getClass())) {
-            Object exportValueOfProperty = toExportValue(property.getValue(value), exportContext);
+            Object exportValueOfProperty = toExportValue(property.getValue(value),
+                exportContext.createChildContext(property.getName()));
             if (exportValueOfProperty != null) {
                 BeanPropertyComments propComments = property.getComments();
                 if (exportContext.shouldInclude(propComments)) {
@@ -159,7 +363,9 @@ public class MapperImpl implements Mapper {
                                                                 @NotNull ExportContext exportContext) {
         if (value instanceof Iterable<?>) {
             int index = 0;
-            List<Object> result = new ArrayList<>();
+            List<Object> result = value instanceof Collection<?>
+                ? new ArrayList<>(((Collection<?>) value).size())
+                : new ArrayList<>();
             for (Object entry : (Iterable<?>) value) {
                 ExportContext entryContext = exportContext.createChildContext(pathSpecifierForIndex(index));
                 result.add(toExportValue(entry, entryContext));
@@ -168,11 +374,23 @@ public class MapperImpl implements Mapper {
             return result;
         }
 
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> result = new ArrayList<>(length);
+            for (int i = 0; i < length; ++i) {
+                ExportContext entryContext = exportContext.createChildContext(pathSpecifierForIndex(i));
+                result.add(toExportValue(Array.get(value, i), entryContext));
+            }
+            return result;
+        }
+
         if (value instanceof Map<?, ?>) {
-            Map<Object, Object> result = new LinkedHashMap<>();
-            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> result = new LinkedHashMap<>(CollectionUtils.getCapacityForSize(map.size()));
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
                 ExportContext entryContext = exportContext.createChildContext(pathSpecifierForMapKey(entry));
-                result.put(entry.getKey(), toExportValue(entry.getValue(), entryContext));
+                Object key = entry.getKey() instanceof Enum<?> ? ((Enum<?>) entry.getKey()).name() : entry.getKey();
+                result.put(key, toExportValue(entry.getValue(), entryContext));
             }
             return result;
         }
@@ -191,6 +409,107 @@ public class MapperImpl implements Mapper {
         return o == RETURN_NULL ? null : o;
     }
 
+    // ---------
+    // Schema
+    // ---------
+
+    /**
+     * Returns the schema of the values that can be converted to the given type. Schemas are created once per type
+     * and cached.
+     *
+     * @param targetType the type to convert to
+     * @return the schema of the values that can be converted to the type
+     */
+    @Override
+    public @NotNull ValueSchema getValueSchema(@NotNull TypeInfo targetType) {
+        ValueSchema schema = valueSchemas.get(targetType);
+        if (schema == null) {
+            // Not computeIfAbsent: the schemas of the type arguments are added while the schema is created
+            ValueSchema newSchema = createValueSchema(targetType);
+            schema = valueSchemas.putIfAbsent(targetType, newSchema);
+            if (schema == null) {
+                schema = newSchema;
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Creates the schema of the values that can be converted to the given type, following the type's
+     * {@link #getTypeMappingPlan mapping plan}. Values the leaf value handler can convert are always valid.
+     * Polymorphic beans and other types without a structure known to the mapper are validated by converting
+     * the value.
+     *
+     * @param targetType the type to create the schema for
+     * @return the schema of the values that can be converted to the type
+     */
+    protected @NotNull ValueSchema createValueSchema(@NotNull TypeInfo targetType) {
+        TypeMappingPlan plan = getTypeMappingPlan(targetType);
+        ValueSchema structureSchema;
+        switch (plan.getKind()) {
+            case ARRAY:
+            case COLLECTION:
+                structureSchema = ValueSchema.listOf(getValueSchemaOfTypeArgument(plan, 0));
+                break;
+            case MAP:
+                structureSchema = ValueSchema.mapOf(getValueSchemaOfTypeArgument(plan, 1));
+                break;
+            case OPTIONAL:
+                structureSchema = ValueSchema.optional(getValueSchemaOfTypeArgument(plan, 0));
+                break;
+            default:
+                structureSchema = createBeanSchema(plan);
+                if (structureSchema == null) {
+                    return Mapper.super.getValueSchema(targetType);
+                }
+        }
+
+        MappingContext leafContext = createRootMappingContext(targetType, new ConvertErrorRecorder());
+        ValueSchema schemaOfStructure = structureSchema;
+        return (value, path, report) -> {
+            if (value == null || leafValueHandler.convert(value, leafContext) == null) {
+                schemaOfStructure.validate(value, path, report);
+            }
+        };
+    }
+
+    /**
+     * Creates the schema of a bean, with the schema of each property of the bean. Invalid values of beans without
+     * a constructor description are reported as skipped, since the properties keep their field's default value.
+     *
+     * @param plan the mapping plan of the bean type
+     * @return the bean schema, or null if the type is not a bean with properties or is polymorphic
+     */
+    protected @Nullable ValueSchema createBeanSchema(@NotNull TypeMappingPlan plan) {
+        Class<?> beanClass = plan.getRawClass();
+        if (beanClass == null || plan.getSubtypeTable() != null) {
+            return null;
+        }
+
+        BeanConstructorDescription constructorDescription =
+            beanDescriptionFactory.getConstructorDescription(beanClass);
+        Collection<BeanPropertyDescription> properties = constructorDescription == null
+            ? beanDescriptionFactory.getAllProperties(beanClass)
+            : constructorDescription.getParameters();
+        if (properties.isEmpty()) {
+            return null;
+        }
+
+        Map<String, ValueSchema> propertySchemas = new LinkedHashMap<>();
+        for (BeanPropertyDescription property : properties) {
+            // Lazy so that beans which (indirectly) have a property of their own type can be described
+            propertySchemas.put(property.getName(),
+                ValueSchema.lazy(() -> getValueSchema(property.getTypeInformation())));
+        }
+        return ValueSchema.bean(propertySchemas, constructorDescription == null);
+    }
+
+    private @NotNull ValueSchema getValueSchemaOfTypeArgument(@NotNull TypeMappingPlan plan, int index) {
+        TypeInfo typeArgument = plan.getTypeArgument(index);
+        // Types with undefined type arguments cannot be converted at all; they are reported when they are used
+        return typeArgument == null ? ValueSchema.any() : getValueSchema(typeArgument);
+    }
+
     // ---------
     // Bean mapping
     // ---------
@@ -205,6 +524,20 @@ public class MapperImpl implements Mapper {
         return convertValueForType(createRootMappingContext(targetType, errorRecorder), value);
     }
 
+    @Override
+    public @Nullable Object convertToBean(@Nullable Object value, @NotNull TypeInfo targetType,
+                                          @NotNull ConvertErrorRecorder errorRecorder,
+                                          @NotNull BeanReuseTable beanReuseTable) {
+        if (value == null) {
+            return null;
+        }
+
+        BeanReuseTable.Generation generation = beanReuseTable.startGeneration();
+        Object result = convertValueForType(createRootMappingContext(targetType, errorRecorder, generation), value);
+        generation.complete();
+        return result;
+    }
+
     /**
      * Main method for converting a value to another type.
      *
@@ -213,6 +546,11 @@ public class MapperImpl implements Mapper {
      * @return object whose type matches the one in the mapping context, or null if not applicable
      */
     protected @Nullable Object convertValueForType(@NotNull MappingContext context, @Nullable Object value) {
+        if (context.getDepth() > getMaxNestingDepth()) {
+            context.registerError(() -> "Value is nested more than " + getMaxNestingDepth() + " levels deep");
+            return null;
+        }
+
         // Step 1: check if the value is a leaf
         Object result = leafValueHandler.convert(value, context);
         if (result != null) {
@@ -237,15 +575,38 @@ public class MapperImpl implements Mapper {
      * @return object whose type matches the one in the mapping context, or null if not applicable
      */
     protected @Nullable Object convertSpecialTypes(@NotNull MappingContext context, @Nullable Object value) {
-        final Class<?> rawClass = context.getTargetTypeAsClassOrThrow();
-        if (Iterable.class.isAssignableFrom(rawClass)) {
-            return convertToCollection(context, value);
-        } else if (Map.class.isAssignableFrom(rawClass)) {
-            return convertToMap(context, value);
-        } else if (Optional.class.isAssignableFrom(rawClass)) {
-            return convertOptional(context, value);
+        TypeMappingPlan plan = getTypeMappingPlan(context);
+        if (plan.getRawClass() == null) {
+            context.getTargetTypeAsClassOrThrow(); // throws exception
+        }
+
+        switch (plan.getKind()) {
+            case ARRAY:
+                return convertToArray(context, value);
+            case COLLECTION:
+                return convertToCollection(context, value);
+            case MAP:
+                return convertToMap(context, value);
+            case OPTIONAL:
+                return convertOptional(context, value);
+            default:
+                return null;
         }
-        return null;
+    }
+
+    /**
+     * Returns the type argument of the context's target type at the given index, as defined by the target type's
+     * mapping plan. Throws an exception if the type argument is not well-defined.
+     *
+     * @param context the mapping context
+     * @param index the index of the type argument
+     * @return the type argument
+     */
+    protected @NotNull TypeInfo getTypeArgumentOrThrow(@NotNull MappingContext context, int index) {
+        TypeInfo typeArgument = getTypeMappingPlan(context).getTypeArgument(index);
+        return typeArgument == null
+            ? context.getTargetTypeArgumentOrThrow(index)
+            : typeArgument;
     }
 
     // -- Collection
@@ -260,15 +621,21 @@ public class MapperImpl implements Mapper {
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected @Nullable Collection<?> convertToCollection(@NotNull MappingContext context, @Nullable Object value) {
         if (value instanceof Iterable<?>) {
-            TypeInfo entryType = context.getTargetTypeArgumentOrThrow(0);
-            Collection result = createCollectionMatchingType(context);
+            TypeInfo entryType = getTypeArgumentOrThrow(context, 0);
+            int expectedSize = value instanceof Collection<?> ? ((Collection<?>) value).size() : 0;
+            Collection result = createCollectionMatchingType(context, expectedSize);
+            if (shouldConvertInParallel(value)
+                && convertEntriesInParallel(context, (Collection<?>) value, entryType, result)) {
+                return result;
+            }
 
             int index = 0;
             for (Object entry : (Iterable<?>) value) {
                 MappingContext entryContext = context.createChild(pathSpecifierForIndex(index), entryType);
                 Object convertedEntry = convertValueForType(entryContext, entry);
                 if (convertedEntry == null) {
-                    context.registerError("Cannot convert value at index " + index);
+                    int failedIndex = index;
+                    context.registerError(() -> "Cannot convert value at index " + failedIndex);
                 } else {
                     result.add(convertedEntry);
                 }
@@ -279,6 +646,64 @@ public class MapperImpl implements Mapper {
         return null;
     }
 
+    /**
+     * Returns whether the entries of the given value should be converted in parallel.
+     *
+     * @param value the value to convert to a collection
+     * @return true if the value is a collection that is large enough to be converted in parallel
+     */
+    protected boolean shouldConvertInParallel(@NotNull Object value) {
+        return parallelCollectionConversion != null && value instanceof Collection<?>
+            && ((Collection<?>) value).size() >= parallelCollectionConversion.getMinimumSize();
+    }
+
+    /**
+     * Converts the entries of the given collection in chunks on the fork-join pool of the
+     * {@link #getParallelCollectionConversion parallel conversion settings}. Each chunk registers its errors with its
+     * own error recorder; once all chunks are done, the errors are passed on to the context's error recorder and the
+     * converted entries are added to the result in their original order.
+     * <p>
+     * Nothing is converted if the context does not support other error recorders (see
+     * {@link MappingContext#withErrorRecorder}), in which case the entries should be converted sequentially.
+     *
+     * @param context the mapping context of the collection
+     * @param value the collection to convert the entries of
+     * @param entryType the type to convert the entries to
+     * @param result the collection to add the converted entries to
+     * @return true if the entries were converted, false if the context does not support parallel conversion
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected boolean convertEntriesInParallel(@NotNull MappingContext context, @NotNull Collection<?> value,
+                                               @NotNull TypeInfo entryType, @NotNull Collection result) {
+        ParallelCollectionConversion settings = Objects.requireNonNull(parallelCollectionConversion);
+        Object[] entries = value.toArray();
+        int chunkSize = settings.getChunkSize();
+        MappingContext[] chunkContexts = new MappingContext[(entries.length + chunkSize - 1) / chunkSize];
+        for (int chunk = 0; chunk < chunkContexts.length; ++chunk) {
+            chunkContexts[chunk] = context.withErrorRecorder(ConvertErrorRecorder.collectingErrors());
+            if (chunkContexts[chunk] == null) {
+                return false;
+            }
+        }
+        Object[] convertedEntries = new Object[entries.length];
+
+        settings.getPool().invoke(new ConvertChunksTask(chunkContexts, entries, entryType, chunkSize,
+            convertedEntries, 0, chunkContexts.length));
+
+        ConvertErrorRecorder errorRecorder = context.getErrorRecorder();
+        for (MappingContext chunkContext : chunkContexts) {
+            for (ConvertError error : chunkContext.getErrorRecorder().getErrors()) {
+                errorRecorder.setHasError(error::getPath, error::getMessage);
+            }
+        }
+        for (Object convertedEntry : convertedEntries) {
+            if (convertedEntry != null) {
+                result.add(convertedEntry);
+            }
+        }
+        return true;
+    }
+
     /**
      * Creates a Collection of a type which can be assigned to the provided type.
      *
@@ -286,16 +711,110 @@ public class MapperImpl implements Mapper {
      * @return Collection of matching type
      */
     protected @NotNull Collection<?> createCollectionMatchingType(@NotNull MappingContext mappingContext) {
-        Class<?> collectionType = mappingContext.getTargetTypeAsClassOrThrow();
+        return createCollectionMatchingType(mappingContext, 0);
+    }
+
+    /**
+     * Creates a Collection of a type which can be assigned to the provided type, with enough capacity for the given
+     * number of entries if the collection type supports it. Enum sets are created for {@link EnumSet} types.
+     *
+     * @param mappingContext the current mapping context with a collection type
+     * @param expectedSize the number of entries that will be added to the collection
+     * @return Collection of matching type
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected @NotNull Collection<?> createCollectionMatchingType(@NotNull MappingContext mappingContext,
+                                                                  int expectedSize) {
+        Class<?> collectionType = getTargetClassOrThrow(mappingContext);
         if (collectionType.isAssignableFrom(ArrayList.class)) {
-            return new ArrayList<>();
+            return new ArrayList<>(expectedSize);
         } else if (collectionType.isAssignableFrom(LinkedHashSet.class)) {
-            return new LinkedHashSet<>();
+            return new LinkedHashSet<>(CollectionUtils.getCapacityForSize(expectedSize));
+        } else if (collectionType == EnumSet.class) {
+            Class<?> entryClass = getTypeArgumentOrThrow(mappingContext, 0).toClass();
+            return EnumSet.noneOf((Class<Enum>) entryClass);
+        } else if (collectionType.isAssignableFrom(ArrayDeque.class)) {
+            return new ArrayDeque<>(expectedSize);
+        } else if (collectionType.isAssignableFrom(TreeSet.class)) {
+            return new TreeSet<>();
         } else {
             throw new ConfigMeMapperException(mappingContext, "Unsupported collection type '" + collectionType + "'");
         }
     }
 
+    // -- Array
+
+    /**
+     * Handles the creation of array properties. Arrays of primitive types are filled directly, without creating
+     * an intermediate array or collection of the wrapper type. Entries that cannot be converted are skipped.
+     *
+     * @param context the mapping context
+     * @param value the value to map from
+     * @return array from the value, or null if not applicable
+     */
+    protected @Nullable Object convertToArray(@NotNull MappingContext context, @Nullable Object value) {
+        if (value instanceof Collection<?>) {
+            TypeInfo componentType = getTypeMappingPlan(context).getTypeArgument(0);
+            if (componentType == null) {
+                throw new ConfigMeMapperException(context, "The component type of the array is not well defined");
+            }
+
+            Collection<?> entries = (Collection<?>) value;
+            Object result = Array.newInstance(componentType.toClass(), entries.size());
+            int length = 0;
+            int index = 0;
+            for (Object entry : entries) {
+                MappingContext entryContext = context.createChild(pathSpecifierForIndex(index), componentType);
+                Object convertedEntry = convertValueForType(entryContext, entry);
+                if (convertedEntry == null) {
+                    int failedIndex = index;
+                    context.registerError(() -> "Cannot convert value at index " + failedIndex);
+                } else {
+                    setArrayEntry(result, length, convertedEntry);
+                    ++length;
+                }
+                ++index;
+            }
+            return length == entries.size() ? result : truncateArray(result, length);
+        }
+        return null;
+    }
+
+    /**
+     * Sets the entry at the given index of the array. Arrays of primitive types are handled without reflection.
+     *
+     * @param array the array to modify
+     * @param index the index to set
+     * @param value the value to set (must match the array's component type)
+     */
+    protected static void setArrayEntry(@NotNull Object array, int index, @NotNull Object value) {
+        if (array instanceof Object[]) {
+            ((Object[]) array)[index] = value;
+        } else if (array instanceof int[]) {
+            ((int[]) array)[index] = (Integer) value;
+        } else if (array instanceof long[]) {
+            ((long[]) array)[index] = (Long) value;
+        } else if (array instanceof double[]) {
+            ((double[]) array)[index] = (Double) value;
+        } else if (array instanceof float[]) {
+            ((float[]) array)[index] = (Float) value;
+        } else if (array instanceof boolean[]) {
+            ((boolean[]) array)[index] = (Boolean) value;
+        } else if (array instanceof byte[]) {
+            ((byte[]) array)[index] = (Byte) value;
+        } else if (array instanceof short[]) {
+            ((short[]) array)[index] = (Short) value;
+        } else {
+            ((char[]) array)[index] = (Character) value;
+        }
+    }
+
+    private static @NotNull Object truncateArray(@NotNull Object array, int length) {
+        Object truncated = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, truncated, 0, length);
+        return truncated;
+    }
+
     // -- Map
 
     /**
@@ -308,20 +827,26 @@ public class MapperImpl implements Mapper {
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected @Nullable Map<?, ?> convertToMap(@NotNull MappingContext context, @Nullable Object value) {
         if (value instanceof Map<?, ?>) {
-            if (context.getTargetTypeArgumentOrThrow(0).toClass() != String.class) {
-                throw new ConfigMeMapperException(context, "The key type of maps may only be of String type");
+            TypeInfo mapKeyType = getTypeArgumentOrThrow(context, 0);
+            Class<?> mapKeyClass = mapKeyType.toClass();
+            if (mapKeyClass != String.class && (mapKeyClass == null || !mapKeyClass.isEnum())) {
+                throw new ConfigMeMapperException(context, "The key type of maps may only be of String or enum type");
             }
-            TypeInfo mapValueType = context.getTargetTypeArgumentOrThrow(1);
+            TypeInfo mapValueType = getTypeArgumentOrThrow(context, 1);
 
             Map<String, ?> entries = (Map<String, ?>) value;
-            Map result = createMapMatchingType(context);
+            Map result = createMapMatchingType(context, entries.size());
             for (Map.Entry<String, ?> entry : entries.entrySet()) {
                 MappingContext entryContext = context.createChild(pathSpecifierForMapKey(entry), mapValueType);
-                Object mappedValue = convertValueForType(entryContext, entry.getValue());
+                Object key = mapKeyClass == String.class
+                    ? entry.getKey()
+                    : convertValueForType(context.createChild(pathSpecifierForMapKey(entry), mapKeyType),
+                        entry.getKey());
+                Object mappedValue = key == null ? null : convertValueForType(entryContext, entry.getValue());
                 if (mappedValue == null) {
-                    context.registerError("Cannot map value for key " + entry.getKey());
+                    context.registerError(() -> "Cannot map value for key " + entry.getKey());
                 } else {
-                    result.put(entry.getKey(), mappedValue);
+                    result.put(key, mappedValue);
                 }
             }
             return result;
@@ -336,9 +861,25 @@ public class MapperImpl implements Mapper {
      * @return Map of matching type
      */
     protected @NotNull Map<?, ?> createMapMatchingType(@NotNull MappingContext mappingContext) {
-        Class<?> mapType = mappingContext.getTargetTypeAsClassOrThrow();
+        return createMapMatchingType(mappingContext, 0);
+    }
+
+    /**
+     * Creates a Map of a type which can be assigned to the provided type, with enough capacity for the given
+     * number of entries if the map type supports it. Enum maps are created for {@link EnumMap} types.
+     *
+     * @param mappingContext the current mapping context with a map type
+     * @param expectedSize the number of entries that will be added to the map
+     * @return Map of matching type
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected @NotNull Map<?, ?> createMapMatchingType(@NotNull MappingContext mappingContext, int expectedSize) {
+        Class<?> mapType = getTargetClassOrThrow(mappingContext);
         if (mapType.isAssignableFrom(LinkedHashMap.class)) {
-            return new LinkedHashMap<>();
+            return new LinkedHashMap<>(CollectionUtils.getCapacityForSize(expectedSize));
+        } else if (mapType == EnumMap.class) {
+            Class<?> keyClass = getTypeArgumentOrThrow(mappingContext, 0).toClass();
+            return new EnumMap((Class<Enum>) keyClass);
         } else if (mapType.isAssignableFrom(TreeMap.class)) {
             return new TreeMap<>();
         } else {
@@ -350,7 +891,7 @@ public class MapperImpl implements Mapper {
 
     // Return value is never null, but if someone wants to override this, it's fine for it to be null
     protected @Nullable Object convertOptional(@NotNull MappingContext context, @Nullable Object value) {
-        MappingContext childContext = context.createChild(OPTIONAL_SPECIFIER, context.getTargetTypeArgumentOrThrow(0));
+        MappingContext childContext = context.createChild(OPTIONAL_SPECIFIER, getTypeArgumentOrThrow(context, 0));
         Object result = convertValueForType(childContext, value);
         return Optional.ofNullable(result);
     }
@@ -358,7 +899,10 @@ public class MapperImpl implements Mapper {
     // -- Bean
 
     /**
-     * Converts the provided value to the requested JavaBeans class if possible.
+     * Converts the provided value to the requested JavaBeans class if possible. If the requested class has
+     * {@link #getSubtypeTable subtypes}, the value is converted to the subtype named by the discriminator key.
+     * If the context has a {@link BeanReuseTable.Generation bean reuse generation}, the bean of the previous conversion
+     * is returned if its value is unchanged.
      *
      * @param context mapping context (incl. desired type)
      * @param value the value from the property resource
@@ -370,15 +914,73 @@ public class MapperImpl implements Mapper {
             return null;
         }
 
-        Collection<BeanPropertyDescription> properties =
-            beanDescriptionFactory.getAllProperties(context.getTargetTypeAsClassOrThrow());
+        Map<?, ?> entries = (Map<?, ?>) value;
+        BeanReuseTable.Generation beanReuseGeneration = context.getBeanReuseGeneration();
+        if (beanReuseGeneration == null) {
+            return createBeanOfPlannedType(context, entries);
+        }
+
+        String beanPath = context.getBeanPath();
+        Object bean = beanReuseGeneration.getReusableBean(beanPath, context.getTargetType(), entries);
+        if (bean == null) {
+            ConvertErrorRecorder errorRecorder = context.getErrorRecorder();
+            int errorCountBefore = errorRecorder.getErrorCount();
+            bean = createBeanOfPlannedType(context, entries);
+            // Errors are not replayed when a bean is reused, so only keep beans whose creation registered no error
+            if (bean != null && errorRecorder.getErrorCount() == errorCountBefore) {
+                beanReuseGeneration.register(beanPath, context.getTargetType(), entries, bean);
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Creates a bean of the class defined by the context's {@link #getTypeMappingPlan type mapping plan}: the target
+     * type, or the subtype named by the discriminator key if the target type has subtypes.
+     *
+     * @param context mapping context
+     * @param entries the entries of the map from the property resource
+     * @return the created bean, or null if not possible
+     */
+    protected @Nullable Object createBeanOfPlannedType(@NotNull MappingContext context, @NotNull Map<?, ?> entries) {
+        TypeMappingPlan plan = getTypeMappingPlan(context);
+        Class<?> beanClass;
+        if (plan.getSubtypeTable() != null) {
+            BeanSubtypeTable subtypeTable = plan.getSubtypeTable();
+            beanClass = subtypeTable.getSubtype(entries.get(subtypeTable.getDiscriminatorKey()));
+            if (beanClass == null) {
+                context.registerError(() -> "Unknown value for '" + subtypeTable.getDiscriminatorKey() + "'");
+                return null;
+            }
+        } else {
+            beanClass = getTargetClassOrThrow(context);
+        }
+        return createBean(context, entries, beanClass);
+    }
+
+    /**
+     * Creates a bean of the given class from the entries of the map from the property resource.
+     *
+     * @param context mapping context
+     * @param entries the entries of the map from the property resource
+     * @param beanClass the class of the bean to create (the context's target type or one of its subtypes)
+     * @return the created bean, or null if not possible
+     */
+    protected @Nullable Object createBean(@NotNull MappingContext context, @NotNull Map<?, ?> entries,
+                                          @NotNull Class<?> beanClass) {
+        BeanConstructorDescription constructorDescription =
+            beanDescriptionFactory.getConstructorDescription(beanClass);
+        if (constructorDescription != null) {
+            return createBeanWithConstructor(context, entries, constructorDescription);
+        }
+
+        Collection<BeanPropertyDescription> properties = beanDescriptionFactory.getAllProperties(beanClass);
         // Check that we have properties (or else we don't have a bean)
         if (properties.isEmpty()) {
             return null;
         }
 
-        Map<?, ?> entries = (Map<?, ?>) value;
-        Object bean = createBeanMatchingType(context);
+        Object bean = createBeanMatchingType(context, beanClass);
         for (BeanPropertyDescription property : properties) {
             Object result = convertValueForType(
                 context.createChild(property.getName(), property.getTypeInformation()),
@@ -395,6 +997,36 @@ public class MapperImpl implements Mapper {
         return bean;
     }
 
+    /**
+     * Creates an immutable bean by converting the values of all its properties and passing them to its constructor.
+     *
+     * @param context mapping context (incl. desired type)
+     * @param entries the entries of the map from the property resource
+     * @param constructorDescription the description of the constructor to create the bean with
+     * @return the created bean, or null if not possible
+     */
+    protected @Nullable Object createBeanWithConstructor(@NotNull MappingContext context, @NotNull Map<?, ?> entries,
+                                                         @NotNull BeanConstructorDescription constructorDescription) {
+        List<BeanPropertyDescription> parameters = constructorDescription.getParameters();
+        Object[] arguments = new Object[parameters.size()];
+        for (int i = 0; i < arguments.length; ++i) {
+            BeanPropertyDescription parameter = parameters.get(i);
+            Object result = convertValueForType(
+                context.createChild(parameter.getName(), parameter.getTypeInformation()),
+                entries.get(parameter.getName()));
+            if (result == null) {
+                return null; // Immutable beans have no default value to fall back to
+            }
+            arguments[i] = result;
+        }
+
+        try {
+            return constructorDescription.newInstance(arguments);
+        } catch (ConfigMeMapperException e) {
+            throw new ConfigMeMapperException(context, e.getMessage(), e.getCause());
+        }
+    }
+
     /**
      * Creates an object matching the given type information.
      *
@@ -402,8 +1034,18 @@ public class MapperImpl implements Mapper {
      * @return new instance of the given type
      */
     protected @NotNull Object createBeanMatchingType(@NotNull MappingContext mappingContext) {
-        // clazz is never null given the only path that leads to this method already performs that check
-        final Class<?> clazz = mappingContext.getTargetTypeAsClassOrThrow();
+        return createBeanMatchingType(mappingContext, getTargetClassOrThrow(mappingContext));
+    }
+
+    /**
+     * Creates an object of the given class.
+     *
+     * @param mappingContext current mapping context
+     * @param clazz the class to instantiate (the context's target type or one of its subtypes)
+     * @return new instance of the given class
+     */
+    protected @NotNull Object createBeanMatchingType(@NotNull MappingContext mappingContext,
+                                                     @NotNull Class<?> clazz) {
         try {
             return clazz.getDeclaredConstructor().newInstance();
         } catch (ReflectiveOperationException e) {
@@ -411,4 +1053,60 @@ public class MapperImpl implements Mapper {
                 + clazz.getName() + "'. It is required to have a default constructor", e);
         }
     }
+
+    /**
+     * Converts a range of chunks of a collection's entries, splitting the range in halves as long as it has more
+     * than one chunk.
+     */
+    private final class ConvertChunksTask extends RecursiveAction {
+
+        private final MappingContext[] chunkContexts;
+        private final Object[] entries;
+        private final TypeInfo entryType;
+        private final int chunkSize;
+        private final Object[] convertedEntries;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ConvertChunksTask(@NotNull MappingContext @NotNull [] chunkContexts, @NotNull Object[] entries,
+                          @NotNull TypeInfo entryType, int chunkSize, @Nullable Object @NotNull [] convertedEntries,
+                          int fromChunk, int toChunk) {
+            this.chunkContexts = chunkContexts;
+            this.entries = entries;
+            this.entryType = entryType;
+            this.chunkSize = chunkSize;
+            this.convertedEntries = convertedEntries;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(
+                    new ConvertChunksTask(chunkContexts, entries, entryType, chunkSize, convertedEntries,
+                        fromChunk, middle),
+                    new ConvertChunksTask(chunkContexts, entries, entryType, chunkSize, convertedEntries,
+                        middle, toChunk));
+            } else {
+                convertChunk(fromChunk);
+            }
+        }
+
+        private void convertChunk(int chunk) {
+            MappingContext chunkContext = chunkContexts[chunk];
+            int end = Math.min(entries.length, (chunk + 1) * chunkSize);
+            for (int index = chunk * chunkSize; index < end; ++index) {
+                MappingContext entryContext = chunkContext.createChild(pathSpecifierForIndex(index), entryType);
+                Object convertedEntry = convertValueForType(entryContext, entries[index]);
+                if (convertedEntry == null) {
+                    int failedIndex = index;
+                    chunkContext.registerError(() -> "Cannot convert value at index " + failedIndex);
+                } else {
+                    convertedEntries[index] = convertedEntry;
+                }
+            }
+        }
+    }
 }
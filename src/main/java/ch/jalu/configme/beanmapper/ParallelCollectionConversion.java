@@ -0,0 +1,65 @@
+package ch.jalu.configme.beanmapper;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Settings for the parallel conversion of large collections in {@link MapperImpl}. Collections with at least
+ * {@link #getMinimumSize() the minimum size} are split into chunks, which are converted on the given fork-join pool.
+ * The converted entries keep their original order, and the errors of all chunks are registered in the order
+ * of the chunks, so the result of a conversion is the same as if it were done sequentially.
+ * <p>
+ * Parallel conversion is disabled by default. Only enable it if the leaf types, the bean description factory and
+ * the error recorders in use are thread-safe, as is the case for the default implementations.
+ */
+public class ParallelCollectionConversion {
+
+    /** Default number of entries that are converted by one task. */
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+
+    private final ForkJoinPool pool;
+    private final int minimumSize;
+    private final int chunkSize;
+
+    /**
+     * Constructor.
+     *
+     * @param pool the pool to convert the chunks on
+     * @param minimumSize the minimum number of entries a collection must have to be converted in parallel
+     * @param chunkSize the number of entries that are converted by one task
+     */
+    public ParallelCollectionConversion(@NotNull ForkJoinPool pool, int minimumSize, int chunkSize) {
+        if (minimumSize < 1) {
+            throw new IllegalArgumentException("Minimum size must be positive, but was " + minimumSize);
+        } else if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive, but was " + chunkSize);
+        }
+        this.pool = pool;
+        this.minimumSize = minimumSize;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates settings which convert collections with at least the given number of entries on the common pool,
+     * with the {@link #DEFAULT_CHUNK_SIZE default chunk size}.
+     *
+     * @param minimumSize the minimum number of entries a collection must have to be converted in parallel
+     * @return the settings
+     */
+    public static @NotNull ParallelCollectionConversion withCommonPool(int minimumSize) {
+        return new ParallelCollectionConversion(ForkJoinPool.commonPool(), minimumSize, DEFAULT_CHUNK_SIZE);
+    }
+
+    public @NotNull ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getMinimumSize() {
+        return minimumSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+}
@@ -0,0 +1,206 @@
+package ch.jalu.configme.beanmapper;
+
+import ch.jalu.typeresolver.TypeInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.GenericArrayType;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * Contains the information about a target type that {@link MapperImpl} needs to convert values to it, which is
+ * resolved once per type: its raw class, how the mapper treats it and the types of its entries. This allows the
+ * mapper to skip the type checks and the resolution of the type arguments for every value it converts.
+ * <p>
+ * The mapper uses the type arguments of a plan as target types of the entries, so the plans of a type such as
+ * {@code List<Map<String, MyBean>>} are chained and always looked up with the same type instances.
+ */
+public class TypeMappingPlan {
+
+    private final @NotNull TypeInfo type;
+    private final @Nullable Class<?> rawClass;
+    private final @NotNull Kind kind;
+    private final @Nullable TypeInfo firstTypeArgument;
+    private final @Nullable TypeInfo secondTypeArgument;
+    private final @Nullable BeanSubtypeTable subtypeTable;
+
+    /**
+     * Constructor. Use {@link #create} to create a plan for a given type.
+     *
+     * @param type the type the plan is for
+     * @param rawClass the class equivalent of the type (null if there is none)
+     * @param kind how the mapper handles the type
+     * @param firstTypeArgument the first type argument, if needed by the kind (null if not well-defined)
+     * @param secondTypeArgument the second type argument, if needed by the kind (null if not well-defined)
+     */
+    protected TypeMappingPlan(@NotNull TypeInfo type, @Nullable Class<?> rawClass, @NotNull Kind kind,
+                              @Nullable TypeInfo firstTypeArgument, @Nullable TypeInfo secondTypeArgument) {
+        this(type, rawClass, kind, firstTypeArgument, secondTypeArgument, null);
+    }
+
+    /**
+     * Constructor. Use {@link #create} to create a plan for a given type.
+     *
+     * @param type the type the plan is for
+     * @param rawClass the class equivalent of the type (null if there is none)
+     * @param kind how the mapper handles the type
+     * @param firstTypeArgument the first type argument, if needed by the kind (null if not well-defined)
+     * @param secondTypeArgument the second type argument, if needed by the kind (null if not well-defined)
+     * @param subtypeTable the subtypes beans of the type are mapped to (null if the type is not polymorphic)
+     */
+    protected TypeMappingPlan(@NotNull TypeInfo type, @Nullable Class<?> rawClass, @NotNull Kind kind,
+                              @Nullable TypeInfo firstTypeArgument, @Nullable TypeInfo secondTypeArgument,
+                              @Nullable BeanSubtypeTable subtypeTable) {
+        this.type = type;
+        this.rawClass = rawClass;
+        this.kind = kind;
+        this.firstTypeArgument = firstTypeArgument;
+        this.secondTypeArgument = secondTypeArgument;
+        this.subtypeTable = subtypeTable;
+    }
+
+    /**
+     * Creates a plan for the given type.
+     *
+     * @param type the type to create the plan for
+     * @return plan for the type
+     */
+    public static @NotNull TypeMappingPlan create(@NotNull TypeInfo type) {
+        return create(type, UnaryOperator.identity());
+    }
+
+    /**
+     * Creates a plan for the given type, whose type arguments are passed to the given interner. This allows to
+     * share equal type instances among plans (see {@link MapperImpl#internType}).
+     *
+     * @param type the type to create the plan for
+     * @param typeInterner function returning the canonical instance of a type argument
+     * @return plan for the type
+     */
+    public static @NotNull TypeMappingPlan create(@NotNull TypeInfo type,
+                                                  @NotNull UnaryOperator<TypeInfo> typeInterner) {
+        Class<?> rawClass = type.toClass();
+        if (rawClass == null) {
+            return new TypeMappingPlan(type, null, Kind.OTHER, null, null);
+        } else if (rawClass.isArray()) {
+            return new TypeMappingPlan(type, rawClass, Kind.ARRAY,
+                intern(getComponentType(type, rawClass), typeInterner), null);
+        } else if (Iterable.class.isAssignableFrom(rawClass)) {
+            return new TypeMappingPlan(type, rawClass, Kind.COLLECTION,
+                intern(getWellDefinedTypeArgument(type, 0), typeInterner), null);
+        } else if (Map.class.isAssignableFrom(rawClass)) {
+            return new TypeMappingPlan(type, rawClass, Kind.MAP,
+                intern(getWellDefinedTypeArgument(type, 0), typeInterner),
+                intern(getWellDefinedTypeArgument(type, 1), typeInterner));
+        } else if (Optional.class.isAssignableFrom(rawClass)) {
+            return new TypeMappingPlan(type, rawClass, Kind.OPTIONAL,
+                intern(getWellDefinedTypeArgument(type, 0), typeInterner), null);
+        }
+        return new TypeMappingPlan(type, rawClass, Kind.OTHER, null, null);
+    }
+
+    /**
+     * Creates a plan for the given type, whose values are mapped to the subtypes of the given table.
+     *
+     * @param type the type to create the plan for
+     * @param subtypeTable the subtypes of the type
+     * @return plan for the type
+     */
+    public static @NotNull TypeMappingPlan createForSubtypes(@NotNull TypeInfo type,
+                                                             @NotNull BeanSubtypeTable subtypeTable) {
+        return new TypeMappingPlan(type, type.toClass(), Kind.OTHER, null, null, subtypeTable);
+    }
+
+    /**
+     * Returns the type argument at the given index if it exists and has a class equivalent, as required by
+     * {@link ch.jalu.configme.beanmapper.context.MappingContext#getTargetTypeArgumentOrThrow}.
+     *
+     * @param type the type to get the type argument from
+     * @param index the index of the type argument
+     * @return the type argument, or null if it is not well-defined
+     */
+    protected static @Nullable TypeInfo getWellDefinedTypeArgument(@NotNull TypeInfo type, int index) {
+        TypeInfo typeArgument = type.getTypeArgumentInfo(index);
+        return typeArgument == null || typeArgument.toClass() == null ? null : typeArgument;
+    }
+
+    /**
+     * Returns the component type of the given array type if it has a class equivalent.
+     *
+     * @param type the array type
+     * @param rawClass the class equivalent of the array type
+     * @return the component type, or null if it is not well-defined
+     */
+    protected static @Nullable TypeInfo getComponentType(@NotNull TypeInfo type, @NotNull Class<?> rawClass) {
+        TypeInfo componentType = type.getType() instanceof GenericArrayType
+            ? new TypeInfo(((GenericArrayType) type.getType()).getGenericComponentType())
+            : new TypeInfo(rawClass.getComponentType());
+        return componentType.toClass() == null ? null : componentType;
+    }
+
+    private static @Nullable TypeInfo intern(@Nullable TypeInfo type, @NotNull UnaryOperator<TypeInfo> typeInterner) {
+        return type == null ? null : typeInterner.apply(type);
+    }
+
+    public @NotNull TypeInfo getType() {
+        return type;
+    }
+
+    /**
+     * @return the class equivalent of the type, null if the type has none
+     */
+    public @Nullable Class<?> getRawClass() {
+        return rawClass;
+    }
+
+    public @NotNull Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the type argument at the given index, as needed for the plan's kind: the entry type for collections
+     * and optionals; the component type for arrays; the key and value types for maps.
+     *
+     * @param index the index of the type argument (0 or 1)
+     * @return the type argument, or null if it is not well-defined or not relevant for the kind
+     */
+    public @Nullable TypeInfo getTypeArgument(int index) {
+        return index == 0 ? firstTypeArgument : index == 1 ? secondTypeArgument : null;
+    }
+
+    /**
+     * @return the subtypes beans of this type are mapped to, null if the type is not polymorphic
+     */
+    public @Nullable BeanSubtypeTable getSubtypeTable() {
+        return subtypeTable;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "TypeMappingPlan[type=" + type.getType() + ", kind=" + kind + "]";
+    }
+
+    /**
+     * Defines how the mapper handles a type, beyond the leaf types which are always checked first.
+     */
+    public enum Kind {
+
+        /** Arrays, including arrays of primitive types. */
+        ARRAY,
+
+        /** Iterable types, such as lists and sets. */
+        COLLECTION,
+
+        /** Map types. */
+        MAP,
+
+        /** Optional. */
+        OPTIONAL,
+
+        /** Any other type, which is handled as a bean. */
+        OTHER
+
+    }
+}
@@ -21,6 +21,16 @@ public interface ExportContext {
      */
     @NotNull ExportContext createChildContext(@NotNull String path);
 
+    /**
+     * Returns the number of parents of this context, i.e. how deeply the value of this context is nested in the
+     * value that is being exported. Returns 0 by default, in which case the mapper cannot limit the nesting depth.
+     *
+     * @return the nesting depth of this context (0 for the root context)
+     */
+    default int getDepth() {
+        return 0;
+    }
+
     /**
      * Specifies whether the given comments instance should be included in the export in this context. Comments
      * should not be included if they're specified to appear only once and they've already been incorporated.
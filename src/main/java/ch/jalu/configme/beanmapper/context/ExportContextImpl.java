@@ -4,6 +4,7 @@ import ch.jalu.configme.beanmapper.propertydescription.BeanPropertyComments;
 import ch.jalu.configme.internal.PathUtils;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -11,10 +12,16 @@ import java.util.UUID;
 
 /**
  * Standard implementation of {@link ExportContext}.
+ * <p>
+ * Child contexts only keep a reference to their parent and their own path segment; the bean path is built when
+ * it is requested.
  */
 public class ExportContextImpl implements ExportContext {
 
-    private final String beanPath;
+    private final @Nullable ExportContextImpl parent;
+    private final @Nullable String pathSegment;
+    private final int depth;
+    private @Nullable String beanPath;
     private final Set<UUID> usedUniqueCommentIds;
 
     /**
@@ -24,10 +31,28 @@ public class ExportContextImpl implements ExportContext {
      * @param usedUniqueCommentIds set of unique comment UUIDs that have already been used
      */
     protected ExportContextImpl(@NotNull String beanPath, @NotNull Set<UUID> usedUniqueCommentIds) {
+        this.parent = null;
+        this.pathSegment = null;
+        this.depth = 0;
         this.beanPath = beanPath;
         this.usedUniqueCommentIds = usedUniqueCommentIds;
     }
 
+    /**
+     * Constructor for a child context, whose bean path is built from the parent's path when needed.
+     *
+     * @param parent the parent context
+     * @param pathSegment the path of the child relative to the parent (e.g. property name or "[0]")
+     * @param usedUniqueCommentIds set of unique comment UUIDs that have already been used
+     */
+    protected ExportContextImpl(@NotNull ExportContextImpl parent, @NotNull String pathSegment,
+                                @NotNull Set<UUID> usedUniqueCommentIds) {
+        this.parent = parent;
+        this.pathSegment = pathSegment;
+        this.depth = parent.depth + 1;
+        this.usedUniqueCommentIds = usedUniqueCommentIds;
+    }
+
     /**
      * Creates an initial context for the export of a bean value.
      *
@@ -39,15 +64,22 @@ public class ExportContextImpl implements ExportContext {
 
     @Override
     public @NotNull ExportContext createChildContext(@NotNull String path) {
-        String childPath = PathUtils.concatSpecifierAware(beanPath, path);
-        return new ExportContextImpl(childPath, usedUniqueCommentIds);
+        return new ExportContextImpl(this, path, usedUniqueCommentIds);
     }
 
     @Override
     public @NotNull String getBeanPath() {
+        if (beanPath == null) {
+            beanPath = PathUtils.concatSpecifierAware(parent.getBeanPath(), pathSegment);
+        }
         return beanPath;
     }
 
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
     @Override
     public boolean shouldInclude(@NotNull BeanPropertyComments comments) {
         return !comments.getComments().isEmpty()
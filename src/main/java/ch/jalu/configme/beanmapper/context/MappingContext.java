@@ -1,9 +1,13 @@
 package ch.jalu.configme.beanmapper.context;
 
+import ch.jalu.configme.beanmapper.BeanReuseTable;
 import ch.jalu.configme.beanmapper.ConfigMeMapperException;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.typeresolver.TypeInfo;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
 
 /**
  * Holds necessary information for a certain value that is being mapped in the bean mapper.
@@ -32,6 +36,16 @@ public interface MappingContext {
      */
     @NotNull TypeInfo getTargetType();
 
+    /**
+     * Returns the number of parents of this context, i.e. how deeply the value of this context is nested in the
+     * value that is being converted. Returns 0 by default, in which case the mapper cannot limit the nesting depth.
+     *
+     * @return the nesting depth of this context (0 for the root context)
+     */
+    default int getDepth() {
+        return 0;
+    }
+
     /**
      * Returns the target type as {@link Class}, throwing an exception if it cannot be converted.
      *
@@ -70,14 +84,48 @@ public interface MappingContext {
      * {@link ch.jalu.configme.properties.convertresult.ConvertErrorRecorder ConvertErrorRecorder},
      * associated to the property this conversion is being performed for.
      *
-     * @param reason the error reason (ignored by the default context implementation)
+     * @param reason the error reason
      */
     default void registerError(@NotNull String reason) {
-        getErrorRecorder().setHasError("For bean path '" + getBeanPath() + "': " + reason);
+        registerError(() -> reason);
+    }
+
+    /**
+     * Registers an error for the bean path of this context with the supplied
+     * {@link ch.jalu.configme.properties.convertresult.ConvertErrorRecorder ConvertErrorRecorder}. The bean path and
+     * the reason are only created if the error recorder reports the error.
+     *
+     * @param reasonSupplier supplies the error reason
+     */
+    default void registerError(@NotNull Supplier<String> reasonSupplier) {
+        getErrorRecorder().setHasError(this::getBeanPath, reasonSupplier);
     }
 
     /**
      * @return error recorder to register errors even when a value can be created
      */
     @NotNull ConvertErrorRecorder getErrorRecorder();
+
+    /**
+     * Returns the generation of the bean reuse table of this conversion, with the beans of the previous conversion
+     * that may be reused if their source is unchanged.
+     *
+     * @return the bean reuse generation, or null if beans should not be reused
+     */
+    default @Nullable BeanReuseTable.Generation getBeanReuseGeneration() {
+        return null;
+    }
+
+    /**
+     * Returns a context with the same path and target type as this context, which registers errors with the given
+     * error recorder. Its child contexts use the given error recorder as well. Used to convert parts of a value on
+     * separate threads, see {@link ch.jalu.configme.beanmapper.ParallelCollectionConversion}. Returns null by default,
+     * in which case the mapper converts the value on the current thread.
+     *
+     * @param errorRecorder the error recorder the returned context should use
+     * @return context equivalent to this one with the given error recorder, or null if not supported
+     */
+    default @Nullable MappingContext withErrorRecorder(@NotNull ConvertErrorRecorder errorRecorder) {
+        return null;
+    }
 }
@@ -1,24 +1,70 @@
 package ch.jalu.configme.beanmapper.context;
 
+import ch.jalu.configme.beanmapper.BeanReuseTable;
 import ch.jalu.configme.internal.PathUtils;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.typeresolver.TypeInfo;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Standard implementation of {@link MappingContext}.
+ * <p>
+ * Child contexts only keep a reference to their parent and their own path segment. The bean path is only built
+ * when it is needed (typically when an error is registered), so that successful mappings do not need to build
+ * paths for every entry they visit.
  */
 public class MappingContextImpl implements MappingContext {
 
-    private final String beanPath;
+    private final @Nullable MappingContextImpl parent;
+    private final @Nullable String pathSegment;
+    private final int depth;
+    private @Nullable String beanPath;
     private final TypeInfo targetType;
     private final ConvertErrorRecorder errorRecorder;
+    private final @Nullable BeanReuseTable.Generation beanReuseGeneration;
 
     protected MappingContextImpl(@NotNull String beanPath, @NotNull TypeInfo targetType,
                                  @NotNull ConvertErrorRecorder errorRecorder) {
+        this(beanPath, targetType, errorRecorder, null);
+    }
+
+    /**
+     * Constructor for a root context.
+     *
+     * @param beanPath the bean path
+     * @param targetType the required type
+     * @param errorRecorder error recorder to register errors even if a valid value is returned
+     * @param beanReuseGeneration generation with the beans of the previous conversion that may be reused (nullable)
+     */
+    protected MappingContextImpl(@NotNull String beanPath, @NotNull TypeInfo targetType,
+                                 @NotNull ConvertErrorRecorder errorRecorder,
+                                 @Nullable BeanReuseTable.Generation beanReuseGeneration) {
+        this.parent = null;
+        this.pathSegment = null;
+        this.depth = 0;
         this.beanPath = beanPath;
         this.targetType = targetType;
         this.errorRecorder = errorRecorder;
+        this.beanReuseGeneration = beanReuseGeneration;
+    }
+
+    /**
+     * Constructor for a child context, whose bean path is built from the parent's path when needed.
+     *
+     * @param parent the parent context
+     * @param pathSegment the path of the child relative to the parent (e.g. property name or "[0]")
+     * @param targetType the required type
+     * @param errorRecorder error recorder to register errors even if a valid value is returned
+     */
+    protected MappingContextImpl(@NotNull MappingContextImpl parent, @NotNull String pathSegment,
+                                 @NotNull TypeInfo targetType, @NotNull ConvertErrorRecorder errorRecorder) {
+        this.parent = parent;
+        this.pathSegment = pathSegment;
+        this.depth = parent.depth + 1;
+        this.targetType = targetType;
+        this.errorRecorder = errorRecorder;
+        this.beanReuseGeneration = parent.beanReuseGeneration;
     }
 
     /**
@@ -33,13 +79,29 @@ public class MappingContextImpl implements MappingContext {
         return new MappingContextImpl("", targetType, errorRecorder);
     }
 
+    /**
+     * Creates an initial context (used at the start of a mapping process) with the given bean reuse generation.
+     *
+     * @param targetType the required type
+     * @param errorRecorder error recorder to register errors even if a valid value is returned
+     * @param beanReuseGeneration generation with the beans of the previous conversion that may be reused
+     * @return root mapping context
+     */
+    public static @NotNull MappingContextImpl createRoot(@NotNull TypeInfo targetType,
+                                                         @NotNull ConvertErrorRecorder errorRecorder,
+                                                         @Nullable BeanReuseTable.Generation beanReuseGeneration) {
+        return new MappingContextImpl("", targetType, errorRecorder, beanReuseGeneration);
+    }
+
     @Override
     public @NotNull MappingContext createChild(@NotNull String subPath, @NotNull TypeInfo targetType) {
-        String childPath = PathUtils.concatSpecifierAware(beanPath, subPath);
-        return new MappingContextImpl(childPath, targetType, errorRecorder);
+        return new MappingContextImpl(this, subPath, targetType, errorRecorder);
     }
 
     public @NotNull String getBeanPath() {
+        if (beanPath == null) {
+            beanPath = PathUtils.concatSpecifierAware(parent.getBeanPath(), pathSegment);
+        }
         return beanPath;
     }
 
@@ -48,9 +110,14 @@ public class MappingContextImpl implements MappingContext {
         return targetType;
     }
 
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
     @Override
     public @NotNull String createDescription() {
-        return "Bean path: '" + beanPath + "', type: '" + targetType.getType() + "'";
+        return "Bean path: '" + getBeanPath() + "', type: '" + targetType.getType() + "'";
     }
 
     @Override
@@ -58,6 +125,18 @@ public class MappingContextImpl implements MappingContext {
         return errorRecorder;
     }
 
+    @Override
+    public @Nullable BeanReuseTable.Generation getBeanReuseGeneration() {
+        return beanReuseGeneration;
+    }
+
+    @Override
+    public @NotNull MappingContext withErrorRecorder(@NotNull ConvertErrorRecorder errorRecorder) {
+        return parent == null
+            ? new MappingContextImpl(getBeanPath(), targetType, errorRecorder, beanReuseGeneration)
+            : new MappingContextImpl(parent, pathSegment, targetType, errorRecorder);
+    }
+
     @Override
     public @NotNull String toString() {
         return getClass().getSimpleName() + "[" + createDescription() + "]";
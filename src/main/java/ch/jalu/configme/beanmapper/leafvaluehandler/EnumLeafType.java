@@ -1,5 +1,6 @@
 package ch.jalu.configme.beanmapper.leafvaluehandler;
 
+import ch.jalu.configme.internal.ReflectionUtils;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.typeresolver.EnumUtils;
 import ch.jalu.typeresolver.TypeInfo;
@@ -29,4 +30,32 @@ public class EnumLeafType implements MapperLeafType {
         }
         return null;
     }
+
+    /**
+     * Returns whether the given type is an enum. If a subclass overrides {@link #convert}, true is returned so that
+     * the subclass is tried for all target types.
+     *
+     * @param targetType the target type
+     * @return true if this leaf type may convert to the given type, false otherwise
+     */
+    @Override
+    public boolean mayConvertToType(@NotNull TypeInfo targetType) {
+        return ReflectionUtils.isMethodOverridden(getClass(), EnumLeafType.class,
+            "convert", Object.class, TypeInfo.class, ConvertErrorRecorder.class)
+            || EnumUtils.asEnumClassIfPossible(targetType.toClass()).isPresent();
+    }
+
+    /**
+     * Returns whether the given class is an enum. If a subclass overrides {@link #toExportValueIfApplicable}, true is
+     * returned so that the subclass is tried for all values.
+     *
+     * @param valueClass the class of the value to export
+     * @return true if this leaf type may produce an export value for the class, false otherwise
+     */
+    @Override
+    public boolean mayExportValueOfType(@NotNull Class<?> valueClass) {
+        return ReflectionUtils.isMethodOverridden(getClass(), EnumLeafType.class,
+            "toExportValueIfApplicable", Object.class)
+            || Enum.class.isAssignableFrom(valueClass);
+    }
 }
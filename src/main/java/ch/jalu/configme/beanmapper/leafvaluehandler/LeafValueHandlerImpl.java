@@ -2,6 +2,7 @@ package ch.jalu.configme.beanmapper.leafvaluehandler;
 
 import ch.jalu.configme.beanmapper.context.ExportContext;
 import ch.jalu.configme.beanmapper.context.MappingContext;
+import ch.jalu.configme.internal.TypeCache;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.properties.types.BooleanType;
 import ch.jalu.configme.properties.types.NumberType;
@@ -14,6 +15,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -23,10 +25,24 @@ import java.util.stream.Stream;
  * Default implementation of {@link LeafValueHandler}. A leaf value handler is used in
  * {@link ch.jalu.configme.beanmapper.MapperImpl} to provide "simple" values that the mapper does not have to
  * visit further. This implementation uses {@link MapperLeafType} instances, which perform the actual conversions.
+ * <p>
+ * The leaf types are tried in the order they were given, and the first non-null result is used. To avoid calling
+ * leaf types that cannot handle a value, the leaf types that are applicable to a target type (as determined by
+ * {@link MapperLeafType#mayConvertToType}) and to a class of export values (as determined by
+ * {@link MapperLeafType#mayExportValueOfType}) are cached, without keeping the classes from being unloaded.
+ * The list of leaf types may therefore not be changed once the handler is in use.
  */
 public class LeafValueHandlerImpl implements LeafValueHandler {
 
     private final List<MapperLeafType> leafTypes;
+    private final TypeCache<List<MapperLeafType>> leafTypesByTargetType = new TypeCache<>();
+    private final ClassValue<List<MapperLeafType>> leafTypesByExportValueClass =
+        new ClassValue<List<MapperLeafType>>() {
+            @Override
+            protected List<MapperLeafType> computeValue(Class<?> type) {
+                return filterLeafTypes(leafType -> leafType.mayExportValueOfType(type));
+            }
+        };
 
     /**
      * Constructor.
@@ -83,8 +99,9 @@ public class LeafValueHandlerImpl implements LeafValueHandler {
         TypeInfo targetType = mappingContext.getTargetType();
         ConvertErrorRecorder errorRecorder = mappingContext.getErrorRecorder();
 
-        for (MapperLeafType leafType : leafTypes) {
-            Object result = leafType.convert(value, targetType, errorRecorder);
+        List<MapperLeafType> applicableLeafTypes = getLeafTypesForTargetType(targetType);
+        for (int i = 0; i < applicableLeafTypes.size(); ++i) {
+            Object result = applicableLeafTypes.get(i).convert(value, targetType, errorRecorder);
             if (result != null) {
                 return result;
             }
@@ -94,8 +111,11 @@ public class LeafValueHandlerImpl implements LeafValueHandler {
 
     @Override
     public @Nullable Object toExportValue(@Nullable Object value, @NotNull ExportContext exportContext) {
-        for (MapperLeafType leafType : leafTypes) {
-            Object exportValue = leafType.toExportValueIfApplicable(value);
+        List<MapperLeafType> applicableLeafTypes = value == null
+            ? leafTypes
+            : leafTypesByExportValueClass.get(value.getClass());
+        for (int i = 0; i < applicableLeafTypes.size(); ++i) {
+            Object exportValue = applicableLeafTypes.get(i).toExportValueIfApplicable(value);
             if (exportValue != null) {
                 return exportValue;
             }
@@ -103,6 +123,31 @@ public class LeafValueHandlerImpl implements LeafValueHandler {
         return null;
     }
 
+    private @NotNull List<MapperLeafType> getLeafTypesForTargetType(@NotNull TypeInfo targetType) {
+        List<MapperLeafType> applicableLeafTypes = leafTypesByTargetType.get(targetType);
+        if (applicableLeafTypes == null) {
+            applicableLeafTypes = filterLeafTypes(leafType -> leafType.mayConvertToType(targetType));
+            leafTypesByTargetType.putIfAbsent(targetType, applicableLeafTypes);
+        }
+        return applicableLeafTypes;
+    }
+
+    /**
+     * Returns the leaf types matching the given predicate, in the order they are defined in.
+     *
+     * @param filter the predicate the leaf types must match
+     * @return list of matching leaf types
+     */
+    protected @NotNull List<MapperLeafType> filterLeafTypes(@NotNull Predicate<MapperLeafType> filter) {
+        List<MapperLeafType> matchingTypes = new ArrayList<>();
+        for (MapperLeafType leafType : leafTypes) {
+            if (filter.test(leafType)) {
+                matchingTypes.add(leafType);
+            }
+        }
+        return matchingTypes.isEmpty() ? Collections.emptyList() : matchingTypes;
+    }
+
     /**
      * @return leaf types used by this instance
      */
@@ -38,4 +38,32 @@ public interface MapperLeafType {
      */
     @Nullable Object toExportValueIfApplicable(@Nullable Object value);
 
+    /**
+     * Returns whether this leaf type may be able to convert values to the given target type.
+     * {@link LeafValueHandlerImpl} caches the result per target type and does not call {@link #convert} for target
+     * types for which this method returned false. The result must therefore only depend on the target type, and this
+     * method must return true for all types {@link #convert} may return a value for. Returns true by default, so
+     * leaf types which do not override this method are tried for all target types.
+     *
+     * @param targetType the target type
+     * @return false if {@link #convert} always returns null for the given type, true otherwise
+     */
+    default boolean mayConvertToType(@NotNull TypeInfo targetType) {
+        return true;
+    }
+
+    /**
+     * Returns whether this leaf type may be able to produce an export value for values of the given class.
+     * {@link LeafValueHandlerImpl} caches the result per class and does not call {@link #toExportValueIfApplicable}
+     * for values of classes for which this method returned false. This method must return true for all classes whose
+     * values {@link #toExportValueIfApplicable} may convert. Returns true by default, so leaf types which do not
+     * override this method are tried for all values.
+     *
+     * @param valueClass the class of the value to export
+     * @return false if {@link #toExportValueIfApplicable} always returns null for values of the class, true otherwise
+     */
+    default boolean mayExportValueOfType(@NotNull Class<?> valueClass) {
+        return true;
+    }
+
 }
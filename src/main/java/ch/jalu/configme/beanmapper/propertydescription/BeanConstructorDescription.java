@@ -0,0 +1,90 @@
+package ch.jalu.configme.beanmapper.propertydescription;
+
+import ch.jalu.configme.beanmapper.ConfigMeMapperException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes how an immutable bean is created: the constructor to call and the properties that correspond to the
+ * constructor's parameters, in the same order. Used for records and classes whose constructor is annotated with
+ * {@code java.beans.ConstructorProperties}.
+ * <p>
+ * The constructor is converted to a method handle once on creation. If this is not possible, the constructor is
+ * invoked reflectively instead.
+ */
+public class BeanConstructorDescription {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Constructor<?> constructor;
+    private final List<BeanPropertyDescription> parameters;
+    private final @Nullable MethodHandle constructorHandle;
+
+    /**
+     * Constructor.
+     *
+     * @param constructor the constructor to create beans with
+     * @param parameters the properties matching the constructor's parameters
+     */
+    public BeanConstructorDescription(@NotNull Constructor<?> constructor,
+                                      @NotNull List<BeanPropertyDescription> parameters) {
+        if (constructor.getParameterCount() != parameters.size()) {
+            throw new ConfigMeMapperException("Constructor " + constructor + " has "
+                + constructor.getParameterCount() + " parameters, but " + parameters.size() + " were described");
+        }
+        this.constructor = constructor;
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.constructorHandle = createConstructorHandle(constructor);
+    }
+
+    /**
+     * Returns the properties that are passed to the constructor, in the order of the constructor's parameters.
+     *
+     * @return the constructor's properties
+     */
+    public @NotNull List<BeanPropertyDescription> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Creates a new bean with the given values as constructor arguments.
+     *
+     * @param arguments the values of the properties, in the order of {@link #getParameters()}
+     * @return the created bean
+     */
+    public @NotNull Object newInstance(@NotNull Object... arguments) {
+        try {
+            return constructorHandle == null
+                ? constructor.newInstance(arguments)
+                : (Object) constructorHandle.invokeExact(arguments);
+        } catch (@NotNull Error e) {
+            throw e;
+        } catch (@NotNull Throwable e) {
+            throw new ConfigMeMapperException("Could not create object of type '"
+                + constructor.getDeclaringClass().getName() + "' with arguments " + Arrays.toString(arguments), e);
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "Bean constructor '" + constructor + "'";
+    }
+
+    private static @Nullable MethodHandle createConstructorHandle(@NotNull Constructor<?> constructor) {
+        try {
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package ch.jalu.configme.beanmapper.propertydescription;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 
@@ -20,4 +21,16 @@ public interface BeanDescriptionFactory {
      */
     @NotNull Collection<BeanPropertyDescription> getAllProperties(@NotNull Class<?> clazz);
 
+    /**
+     * Returns the description of the constructor with which beans of the given class should be created, if the class
+     * is an immutable bean whose properties are all passed to its constructor (such as a record). Returns null if
+     * beans of the given class should be created with the no-args constructor and populated via setters.
+     *
+     * @param clazz the class to process
+     * @return the constructor description, or null if the class's properties are set via setters
+     */
+    default @Nullable BeanConstructorDescription getConstructorDescription(@NotNull Class<?> clazz) {
+        return null;
+    }
+
 }
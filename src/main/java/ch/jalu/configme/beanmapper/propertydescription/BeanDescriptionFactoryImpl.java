@@ -3,14 +3,17 @@ package ch.jalu.configme.beanmapper.propertydescription;
 import ch.jalu.configme.Comment;
 import ch.jalu.configme.beanmapper.ConfigMeMapperException;
 import ch.jalu.configme.beanmapper.ExportName;
+import ch.jalu.configme.internal.RecordUtils;
 import ch.jalu.typeresolver.TypeInfo;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -21,7 +24,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,12 +36,41 @@ import java.util.stream.Collectors;
  * This description factory returns property descriptions for all properties on a class
  * for which a getter and setter is associated. Inherited properties are considered.
  * <p>
- * This implementation supports {@link ExportName} and transient properties, declared either
- * with the {@code transient} keyword or by adding the {@link java.beans.Transient} annotation.
+ * This implementation supports {@link ExportName} and transient properties, declared by adding the
+ * {@code java.beans.Transient} annotation to the getter or setter. Properties are found the same way as the
+ * {@code java.beans.Introspector} would, but without depending on the {@code java.desktop} module: annotations
+ * are recognized by their name.
+ * <p>
+ * Records and classes with a public constructor annotated with {@code java.beans.ConstructorProperties} are immutable
+ * beans: their properties are the constructor's parameters, which are read via the record's accessors or the class's
+ * getters. See {@link #getConstructorDescription}.
+ * <p>
+ * Classes annotated with {@link ch.jalu.configme.beanmapper.GenerateBeanDescription} have a description of their
+ * properties generated at compile time, which is used instead of reflection.
+ * <p>
+ * The properties and constructor description of each class are collected once and cached in a {@link ClassValue},
+ * so this factory can be used by multiple threads at the same time and does not prevent classes from being unloaded.
  */
 public class BeanDescriptionFactoryImpl implements BeanDescriptionFactory {
 
-    private final Map<Class<?>, List<BeanPropertyDescription>> classProperties = new HashMap<>();
+    private static final String TRANSIENT_ANNOTATION = "java.beans.Transient";
+    private static final String CONSTRUCTOR_PROPERTIES_ANNOTATION = "java.beans.ConstructorProperties";
+
+    private final ClassValue<Optional<BeanConstructorDescription>> constructorDescriptions =
+        new ClassValue<Optional<BeanConstructorDescription>>() {
+            @Override
+            protected Optional<BeanConstructorDescription> computeValue(Class<?> type) {
+                return Optional.ofNullable(createConstructorDescription(type));
+            }
+        };
+
+    private final ClassValue<List<BeanPropertyDescription>> classProperties =
+        new ClassValue<List<BeanPropertyDescription>>() {
+            @Override
+            protected List<BeanPropertyDescription> computeValue(Class<?> type) {
+                return Collections.unmodifiableList(collectAllProperties(type));
+            }
+        };
 
     /**
      * Returns all properties of the given bean class for which there exists a getter and setter.
@@ -46,7 +80,12 @@ public class BeanDescriptionFactoryImpl implements BeanDescriptionFactory {
      */
     @Override
     public @NotNull Collection<BeanPropertyDescription> getAllProperties(@NotNull Class<?> clazz) {
-        return classProperties.computeIfAbsent(clazz, this::collectAllProperties);
+        return classProperties.get(clazz);
+    }
+
+    @Override
+    public @Nullable BeanConstructorDescription getConstructorDescription(@NotNull Class<?> clazz) {
+        return constructorDescriptions.get(clazz).orElse(null);
     }
 
     /**
@@ -56,9 +95,21 @@ public class BeanDescriptionFactoryImpl implements BeanDescriptionFactory {
      * @return properties of the class
      */
     protected @NotNull List<BeanPropertyDescription> collectAllProperties(@NotNull Class<?> clazz) {
-        List<PropertyDescriptor> descriptors = getWritableProperties(clazz);
+        GeneratedBeanDescription generatedDescription = getGeneratedDescription(clazz);
+        if (generatedDescription != null) {
+            List<BeanPropertyDescription> properties = generatedDescription.createProperties();
+            validateProperties(clazz, properties);
+            return properties;
+        }
 
-        List<BeanPropertyDescription> properties = descriptors.stream()
+        BeanConstructorDescription constructorDescription = getConstructorDescription(clazz);
+        if (constructorDescription != null) {
+            return constructorDescription.getParameters();
+        }
+
+        List<BeanPropertyMethods> propertyMethods = getWritableProperties(clazz);
+
+        List<BeanPropertyDescription> properties = propertyMethods.stream()
             .map(this::convert)
             .filter(Objects::nonNull)
             .collect(Collectors.toList());
@@ -68,26 +119,189 @@ public class BeanDescriptionFactoryImpl implements BeanDescriptionFactory {
     }
 
     /**
-     * Converts a {@link PropertyDescriptor} to a {@link BeanPropertyDescription} object.
+     * Returns the description of the class's properties that was generated at compile time, if available.
+     *
+     * @param clazz the class to process
+     * @return the generated description, or null if there is none
+     * @see ch.jalu.configme.beanmapper.GenerateBeanDescription
+     */
+    protected @Nullable GeneratedBeanDescription getGeneratedDescription(@NotNull Class<?> clazz) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        if (classLoader == null) {
+            return null; // JDK class
+        }
+
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(clazz.getName() + GeneratedBeanDescription.CLASS_NAME_SUFFIX,
+                true, classLoader);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        if (!GeneratedBeanDescription.class.isAssignableFrom(generatedClass)) {
+            return null;
+        }
+        try {
+            return (GeneratedBeanDescription) generatedClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new ConfigMeMapperException("Could not create generated bean description '"
+                + generatedClass.getName() + "'", e);
+        }
+    }
+
+    /**
+     * Creates the description of the constructor to create beans of the given class with, if the class is a record
+     * or has a public constructor annotated with {@code java.beans.ConstructorProperties}. Returns null otherwise.
+     *
+     * @param clazz the class to process
+     * @return the constructor description, or null if the class is not an immutable bean
+     */
+    protected @Nullable BeanConstructorDescription createConstructorDescription(@NotNull Class<?> clazz) {
+        if (RecordUtils.isRecord(clazz)) {
+            List<Method> accessors = RecordUtils.getComponentAccessors(clazz);
+            Class<?>[] parameterTypes = accessors.stream().map(Method::getReturnType).toArray(Class<?>[]::new);
+            Constructor<?> canonicalConstructor;
+            try {
+                canonicalConstructor = clazz.getDeclaredConstructor(parameterTypes);
+            } catch (NoSuchMethodException e) {
+                throw new ConfigMeMapperException("Could not get canonical constructor of " + clazz, e);
+            }
+            List<String> names = accessors.stream().map(Method::getName).collect(Collectors.toList());
+            return createConstructorDescription(clazz, canonicalConstructor, names, accessors);
+        }
+
+        for (Constructor<?> constructor : clazz.getConstructors()) {
+            String[] names = getConstructorPropertyNames(constructor);
+            if (names != null) {
+                List<Method> getters = Arrays.stream(names)
+                    .map(name -> findGetterOrThrow(clazz, name))
+                    .collect(Collectors.toList());
+                return createConstructorDescription(clazz, constructor, Arrays.asList(names), getters);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a constructor description whose parameters have the given names and getters.
+     *
+     * @param clazz the bean class
+     * @param constructor the constructor to create beans with
+     * @param names the names of the constructor's parameters
+     * @param getters the getters of the properties, in the order of the constructor's parameters
+     * @return the constructor description
+     */
+    protected @NotNull BeanConstructorDescription createConstructorDescription(@NotNull Class<?> clazz,
+                                                                               @NotNull Constructor<?> constructor,
+                                                                               @NotNull List<String> names,
+                                                                               @NotNull List<Method> getters) {
+        Type[] parameterTypes = constructor.getGenericParameterTypes();
+        if (parameterTypes.length != names.size()) {
+            throw new ConfigMeMapperException("Constructor " + constructor + " has " + parameterTypes.length
+                + " parameters, but " + names.size() + " property names are defined");
+        }
+
+        List<BeanPropertyDescription> parameters = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); ++i) {
+            Field field = tryGetField(clazz, names.get(i));
+            String exportName = field != null && field.isAnnotationPresent(ExportName.class)
+                ? field.getAnnotation(ExportName.class).value()
+                : names.get(i);
+            parameters.add(new BeanPropertyDescriptionImpl(exportName, new TypeInfo(parameterTypes[i]),
+                getters.get(i), null, getComments(field)));
+        }
+        validateProperties(clazz, parameters);
+        return new BeanConstructorDescription(constructor, parameters);
+    }
+
+    /**
+     * Returns the public getter of the property with the given name: a method named like the property (as for
+     * records), or the property name prefixed with "get" or "is" (the latter only for boolean properties).
+     *
+     * @param clazz the class to search in
+     * @param name the name of the property
+     * @return the getter
+     */
+    protected @NotNull Method findGetterOrThrow(@NotNull Class<?> clazz, @NotNull String name) {
+        String capitalizedName = name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String getterName : Arrays.asList("get" + capitalizedName, "is" + capitalizedName, name)) {
+            try {
+                Method method = clazz.getMethod(getterName);
+                if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class
+                    && (!getterName.startsWith("is") || method.getReturnType() == boolean.class)) {
+                    return method;
+                }
+            } catch (NoSuchMethodException ignore) {
+                // try next name
+            }
+        }
+        throw new ConfigMeMapperException(clazz + " has no getter for constructor property '" + name + "'");
+    }
+
+    /**
+     * Returns the property names defined by the {@code java.beans.ConstructorProperties} annotation on the given
+     * constructor. The annotation is recognized by its name so that this class does not need the
+     * {@code java.desktop} module.
      *
-     * @param descriptor the descriptor to convert
+     * @param constructor the constructor to process
+     * @return the property names, or null if the constructor does not have the annotation
+     */
+    protected String @Nullable [] getConstructorPropertyNames(@NotNull Constructor<?> constructor) {
+        for (Annotation annotation : constructor.getAnnotations()) {
+            if (CONSTRUCTOR_PROPERTIES_ANNOTATION.equals(annotation.annotationType().getName())) {
+                try {
+                    return (String[]) annotation.annotationType().getMethod("value").invoke(annotation);
+                } catch (ReflectiveOperationException e) {
+                    throw new ConfigMeMapperException("Could not get value of " + annotation, e);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts a {@link BeanPropertyMethods} to a {@link BeanPropertyDescription} object.
+     *
+     * @param propertyMethods the getter and setter of the property to convert
      * @return the converted object, or null if the property should be skipped
      */
-    protected @Nullable BeanPropertyDescription convert(@NotNull PropertyDescriptor descriptor) {
-        if (Boolean.TRUE.equals(descriptor.getValue("transient"))) {
+    protected @Nullable BeanPropertyDescription convert(@NotNull BeanPropertyMethods propertyMethods) {
+        if (isTransient(propertyMethods.getGetter()) || isTransient(propertyMethods.getSetter())) {
             return null;
         }
 
-        Field field = tryGetField(descriptor.getWriteMethod().getDeclaringClass(), descriptor.getName());
+        Field field = tryGetField(propertyMethods.getSetter().getDeclaringClass(), propertyMethods.getName());
         BeanPropertyComments comments = getComments(field);
         return new BeanPropertyDescriptionImpl(
-            getPropertyName(descriptor, field),
-            createTypeInfo(descriptor),
-            descriptor.getReadMethod(),
-            descriptor.getWriteMethod(),
+            getPropertyName(propertyMethods, field),
+            createTypeInfo(propertyMethods),
+            propertyMethods.getGetter(),
+            propertyMethods.getSetter(),
             comments);
     }
 
+    /**
+     * Returns whether the given getter or setter marks its property as transient, i.e. whether it has the
+     * {@code java.beans.Transient} annotation with a value of true. The annotation is recognized by its name so
+     * that this class does not need the {@code java.desktop} module.
+     *
+     * @param method the getter or setter to check
+     * @return true if the method's property is transient, false otherwise
+     */
+    protected boolean isTransient(@NotNull Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            if (TRANSIENT_ANNOTATION.equals(annotation.annotationType().getName())) {
+                try {
+                    return Boolean.TRUE.equals(annotation.annotationType().getMethod("value").invoke(annotation));
+                } catch (ReflectiveOperationException e) {
+                    throw new ConfigMeMapperException("Could not get value of " + annotation, e);
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns the comments that are defined on the property. Comments are found by looking for an &#64;{@link Comment}
      * annotation on a field with the same name as the property.
@@ -140,44 +354,73 @@ public class BeanDescriptionFactoryImpl implements BeanDescriptionFactory {
     }
 
     /**
-     * Returns the name which is used in the export files for the given property descriptor.
+     * Returns the name which is used in the export files for the given property.
      *
-     * @param descriptor the descriptor to get the name for
+     * @param propertyMethods the getter and setter of the property to get the name for
      * @param field the field associated with the property (may be null)
      * @return the property name
      */
-    protected @NotNull String getPropertyName(@NotNull PropertyDescriptor descriptor, @Nullable Field field) {
+    protected @NotNull String getPropertyName(@NotNull BeanPropertyMethods propertyMethods, @Nullable Field field) {
         if (field != null && field.isAnnotationPresent(ExportName.class)) {
             return field.getAnnotation(ExportName.class).value();
         }
-        return descriptor.getName();
+        return propertyMethods.getName();
     }
 
-    protected @NotNull TypeInfo createTypeInfo(@NotNull PropertyDescriptor descriptor) {
-        return new TypeInfo(descriptor.getWriteMethod().getGenericParameterTypes()[0]);
+    protected @NotNull TypeInfo createTypeInfo(@NotNull BeanPropertyMethods propertyMethods) {
+        return new TypeInfo(propertyMethods.getSetter().getGenericParameterTypes()[0]);
     }
 
     /**
      * Returns all properties of the given class that are writable
      * (all bean properties with an associated read and write method).
+     * <p>
+     * Getters are public non-static methods starting with "get" that have no parameters and a return value, or
+     * starting with "is" that return a primitive boolean. Setters start with "set" and take one parameter of the
+     * getter's return type. Like in the {@code java.beans.Introspector}, the properties are sorted by name before
+     * they are sorted by {@link #sortPropertiesList}.
      *
      * @param clazz the class to process
      * @return all writable properties of the bean class
      */
-    protected @NotNull List<PropertyDescriptor> getWritableProperties(@NotNull Class<?> clazz) {
-        PropertyDescriptor[] descriptors;
-        try {
-            descriptors = Introspector.getBeanInfo(clazz).getPropertyDescriptors();
-        } catch (IntrospectionException e) {
-            throw new IllegalStateException(e);
-        }
-        List<PropertyDescriptor> writableProperties = new ArrayList<>(descriptors.length);
-        for (PropertyDescriptor descriptor : descriptors) {
-            if (descriptor.getWriteMethod() != null && descriptor.getReadMethod() != null) {
-                writableProperties.add(descriptor);
+    protected @NotNull List<BeanPropertyMethods> getWritableProperties(@NotNull Class<?> clazz) {
+        Map<String, Method> getters = new HashMap<>();
+        Map<String, List<Method>> settersByName = new HashMap<>();
+        for (Method method : clazz.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge()
+                || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+
+            String methodName = method.getName();
+            int parameterCount = method.getParameterCount();
+            Class<?> returnType = method.getReturnType();
+            if (parameterCount == 0 && methodName.length() > 2 && methodName.startsWith("is")
+                && returnType == boolean.class) {
+                getters.put(decapitalize(methodName.substring(2)), method);
+            } else if (parameterCount == 0 && methodName.length() > 3 && methodName.startsWith("get")
+                && returnType != void.class) {
+                getters.putIfAbsent(decapitalize(methodName.substring(3)), method);
+            } else if (parameterCount == 1 && methodName.length() > 3 && methodName.startsWith("set")
+                && returnType == void.class) {
+                settersByName.computeIfAbsent(decapitalize(methodName.substring(3)), k -> new ArrayList<>(1))
+                    .add(method);
             }
         }
-        return sortPropertiesList(clazz, writableProperties);
+
+        Map<String, BeanPropertyMethods> propertiesByName = new TreeMap<>();
+        for (Map.Entry<String, Method> getterEntry : getters.entrySet()) {
+            Class<?> propertyType = getterEntry.getValue().getReturnType();
+            List<Method> setters = settersByName.getOrDefault(getterEntry.getKey(), Collections.emptyList());
+            for (Method setter : setters) {
+                if (setter.getParameterTypes()[0] == propertyType) {
+                    propertiesByName.put(getterEntry.getKey(),
+                        new BeanPropertyMethods(getterEntry.getKey(), getterEntry.getValue(), setter));
+                    break;
+                }
+            }
+        }
+        return sortPropertiesList(clazz, new ArrayList<>(propertiesByName.values()));
     }
 
     /**
@@ -188,8 +431,8 @@ public class BeanDescriptionFactoryImpl implements BeanDescriptionFactory {
      * @param properties the properties to sort
      * @return sorted properties
      */
-    protected @NotNull List<PropertyDescriptor> sortPropertiesList(@NotNull Class<?> clazz,
-                                                                   @NotNull List<PropertyDescriptor> properties) {
+    protected @NotNull List<BeanPropertyMethods> sortPropertiesList(@NotNull Class<?> clazz,
+                                                                    @NotNull List<BeanPropertyMethods> properties) {
         Map<String, Integer> fieldNameByIndex = createFieldNameOrderMap(clazz);
         int maxIndex = fieldNameByIndex.size();
 
@@ -237,4 +480,18 @@ public class BeanDescriptionFactoryImpl implements BeanDescriptionFactory {
         Collections.reverse(parents);
         return parents;
     }
+
+    /**
+     * Converts the given name to a property name, like {@code java.beans.Introspector#decapitalize}: the first
+     * character is converted to lower case, unless the first two characters are upper case (e.g. "URL").
+     *
+     * @param name the name to convert (method name without prefix)
+     * @return the property name
+     */
+    private static @NotNull String decapitalize(@NotNull String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
 }
@@ -5,19 +5,31 @@ import ch.jalu.typeresolver.TypeInfo;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 /**
  * Default implementation of {@link BeanPropertyDescription}.
+ * <p>
+ * The getter and setter are converted to method handles once on creation, which are faster to invoke than the
+ * reflective {@link Method#invoke}. If a method cannot be converted, it is invoked reflectively instead.
+ * <p>
+ * Properties of immutable beans, which are set via the bean's constructor, have no setter.
  */
 public class BeanPropertyDescriptionImpl implements BeanPropertyDescription {
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
     private final String name;
     private final TypeInfo typeInformation;
     private final Method getter;
-    private final Method setter;
+    private final @Nullable Method setter;
     private final BeanPropertyComments comments;
+    private final @Nullable MethodHandle getterHandle;
+    private final @Nullable MethodHandle setterHandle;
 
     /**
      * Constructor.
@@ -25,17 +37,19 @@ public class BeanPropertyDescriptionImpl implements BeanPropertyDescription {
      * @param name name of the property in the export
      * @param typeInformation type of the property
      * @param getter getter for the property
-     * @param setter setter for the property
+     * @param setter setter for the property (null if the property is set via the constructor)
      * @param comments the comments of the property
      */
     public BeanPropertyDescriptionImpl(@NotNull String name, @NotNull TypeInfo typeInformation,
-                                       @NotNull Method getter, @NotNull Method setter,
+                                       @NotNull Method getter, @Nullable Method setter,
                                        @NotNull BeanPropertyComments comments) {
         this.name = name;
         this.typeInformation = typeInformation;
         this.getter = getter;
         this.setter = setter;
         this.comments = comments;
+        this.getterHandle = createMethodHandle(getter, GETTER_TYPE);
+        this.setterHandle = setter == null ? null : createMethodHandle(setter, SETTER_TYPE);
     }
 
     @Override
@@ -56,8 +70,12 @@ public class BeanPropertyDescriptionImpl implements BeanPropertyDescription {
      */
     public @Nullable Object getValue(@NotNull Object bean) {
         try {
-            return getter.invoke(bean);
-        } catch (@NotNull IllegalAccessException | InvocationTargetException e) {
+            return getterHandle == null
+                ? getter.invoke(bean)
+                : (Object) getterHandle.invokeExact(bean);
+        } catch (@NotNull Error e) {
+            throw e;
+        } catch (@NotNull Throwable e) {
             throw new ConfigMeMapperException(
                 "Could not get property '" + name + "' from instance '" + bean + "'", e);
         }
@@ -70,9 +88,19 @@ public class BeanPropertyDescriptionImpl implements BeanPropertyDescription {
      * @param value the value to set the property to
      */
     public void setValue(@NotNull Object bean, @NotNull Object value) {
+        if (setter == null) {
+            throw new ConfigMeMapperException("Property '" + name + "' has no setter and can only be set via the "
+                + "constructor of '" + bean.getClass().getName() + "'");
+        }
         try {
-            setter.invoke(bean, value);
-        } catch (@NotNull IllegalAccessException | InvocationTargetException e) {
+            if (setterHandle == null) {
+                setter.invoke(bean, value);
+            } else {
+                setterHandle.invokeExact(bean, value);
+            }
+        } catch (@NotNull Error e) {
+            throw e;
+        } catch (@NotNull Throwable e) {
             throw new ConfigMeMapperException(
                 "Could not set property '" + name + "' to value '" + value + "' on instance '" + bean + "'", e);
         }
@@ -87,4 +115,20 @@ public class BeanPropertyDescriptionImpl implements BeanPropertyDescription {
     public @NotNull String toString() {
         return "Bean property '" + name + "' with getter '" + getter + "'";
     }
+
+    /**
+     * Creates a method handle for the given method, adapted to the given type. Returns null if the method is
+     * not accessible to this class, in which case the method is invoked reflectively.
+     *
+     * @param method the method to create a handle for
+     * @param type the type to adapt the handle to
+     * @return the method handle, or null if not possible
+     */
+    private static @Nullable MethodHandle createMethodHandle(@NotNull Method method, @NotNull MethodType type) {
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package ch.jalu.configme.beanmapper.propertydescription;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+
+/**
+ * The getter and setter of a bean property, as found by {@link BeanDescriptionFactoryImpl}.
+ */
+public final class BeanPropertyMethods {
+
+    private final @NotNull String name;
+    private final @NotNull Method getter;
+    private final @NotNull Method setter;
+
+    /**
+     * Constructor.
+     *
+     * @param name the name of the property (derived from the method names)
+     * @param getter the getter method
+     * @param setter the setter method
+     */
+    public BeanPropertyMethods(@NotNull String name, @NotNull Method getter, @NotNull Method setter) {
+        this.name = name;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public @NotNull String getName() {
+        return name;
+    }
+
+    public @NotNull Method getGetter() {
+        return getter;
+    }
+
+    public @NotNull Method getSetter() {
+        return setter;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "BeanPropertyMethods[name=" + name + ", getter=" + getter + ", setter=" + setter + "]";
+    }
+}
@@ -0,0 +1,24 @@
+package ch.jalu.configme.beanmapper.propertydescription;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Provides the properties of a bean class without reflection. Implementations are generated at compile time for
+ * bean classes annotated with {@link ch.jalu.configme.beanmapper.GenerateBeanDescription}. The generated class is in
+ * the same package as the bean class and its name is the bean class's binary name with {@link #CLASS_NAME_SUFFIX}.
+ */
+public interface GeneratedBeanDescription {
+
+    /** Suffix appended to the name of the bean class to get the name of the generated description. */
+    String CLASS_NAME_SUFFIX = "_BeanDescription";
+
+    /**
+     * Creates the descriptions of all properties of the bean class, in the order in which they should be exported.
+     *
+     * @return the bean's properties
+     */
+    @NotNull List<BeanPropertyDescription> createProperties();
+
+}
@@ -0,0 +1,82 @@
+package ch.jalu.configme.beanmapper.propertydescription;
+
+import ch.jalu.configme.beanmapper.ConfigMeMapperException;
+import ch.jalu.typeresolver.TypeInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Bean property description with functions that call the getter and setter directly. Used by the code generated for
+ * classes with {@link ch.jalu.configme.beanmapper.GenerateBeanDescription}.
+ */
+public class GeneratedBeanPropertyDescription implements BeanPropertyDescription {
+
+    private final String name;
+    private final TypeInfo typeInformation;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+    private final BeanPropertyComments comments;
+
+    /**
+     * Constructor.
+     *
+     * @param name name of the property in the export
+     * @param typeInformation type of the property
+     * @param getter function calling the property's getter on a bean
+     * @param setter function calling the property's setter on a bean
+     * @param comments the comments of the property
+     */
+    public GeneratedBeanPropertyDescription(@NotNull String name, @NotNull TypeInfo typeInformation,
+                                            @NotNull Function<Object, Object> getter,
+                                            @NotNull BiConsumer<Object, Object> setter,
+                                            @NotNull BeanPropertyComments comments) {
+        this.name = name;
+        this.typeInformation = typeInformation;
+        this.getter = getter;
+        this.setter = setter;
+        this.comments = comments;
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+
+    @Override
+    public @NotNull TypeInfo getTypeInformation() {
+        return typeInformation;
+    }
+
+    @Override
+    public @Nullable Object getValue(@NotNull Object bean) {
+        try {
+            return getter.apply(bean);
+        } catch (@NotNull RuntimeException e) {
+            throw new ConfigMeMapperException(
+                "Could not get property '" + name + "' from instance '" + bean + "'", e);
+        }
+    }
+
+    @Override
+    public void setValue(@NotNull Object bean, @NotNull Object value) {
+        try {
+            setter.accept(bean, value);
+        } catch (@NotNull RuntimeException e) {
+            throw new ConfigMeMapperException(
+                "Could not set property '" + name + "' to value '" + value + "' on instance '" + bean + "'", e);
+        }
+    }
+
+    @Override
+    public @NotNull BeanPropertyComments getComments() {
+        return comments;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "Bean property '" + name + "' of type '" + typeInformation.getType().getTypeName() + "' (generated)";
+    }
+}
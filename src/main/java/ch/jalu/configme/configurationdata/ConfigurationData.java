@@ -29,6 +29,16 @@ public interface ConfigurationData {
      */
     @NotNull List<Property<?>> getProperties();
 
+    /**
+     * Returns the properties which should be written when the configuration data is exported, in the same order
+     * as in {@link #getProperties()}. By default, all properties are exported.
+     *
+     * @return list of properties to export, in order
+     */
+    default @NotNull List<Property<?>> getPropertiesToExport() {
+        return getProperties();
+    }
+
     /**
      * Returns the comments associated with the given path.
      *
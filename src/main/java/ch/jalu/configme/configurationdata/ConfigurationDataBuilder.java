@@ -15,14 +15,26 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
  * Utility class responsible for creating {@link ConfigurationData} by retrieving {@link Property} fields
  * from {@link SettingsHolder} implementations and gathering all comments.
+ * <p>
+ * If a {@link GeneratedSettingsRegistry} was generated for a settings holder (see {@link GenerateSettingsRegistry}),
+ * its properties are taken from the registry and its fields are not scanned via reflection.
  */
 public class ConfigurationDataBuilder {
 
+    private static final ClassValue<Optional<GeneratedSettingsRegistry>> GENERATED_REGISTRIES =
+        new ClassValue<Optional<GeneratedSettingsRegistry>>() {
+            @Override
+            protected @NotNull Optional<GeneratedSettingsRegistry> computeValue(@NotNull Class<?> type) {
+                return Optional.ofNullable(loadGeneratedRegistry(type));
+            }
+        };
+
     private final @NotNull PropertyListBuilder propertyListBuilder;
     private final @NotNull CommentsConfiguration commentsConfiguration;
 
@@ -119,6 +131,12 @@ public class ConfigurationDataBuilder {
      * @param clazz the class to process
      */
     protected void collectProperties(@NotNull Class<?> clazz) {
+        GeneratedSettingsRegistry registry = getGeneratedRegistry(clazz);
+        if (registry != null) {
+            registry.registerProperties(propertyListBuilder, commentsConfiguration);
+            return;
+        }
+
         findFieldsToProcess(clazz).forEach(field -> {
             Property<?> property = getPropertyField(field);
             if (property != null) {
@@ -184,10 +202,26 @@ public class ConfigurationDataBuilder {
     }
 
     protected void collectSectionComments(@NotNull Class<? extends SettingsHolder> clazz) {
+        GeneratedSettingsRegistry registry = getGeneratedRegistry(clazz);
+        if (registry != null && !registry.hasSectionComments()) {
+            return; // holder does not override registerComments, so there is no need to create an instance
+        }
+
         SettingsHolder settingsHolder = createSettingsHolderInstance(clazz);
         settingsHolder.registerComments(commentsConfiguration);
     }
 
+    /**
+     * Returns the registry that was generated at compile time for the given class, if available.
+     *
+     * @param clazz the class to process
+     * @return the generated registry, or null if there is none
+     * @see GenerateSettingsRegistry
+     */
+    protected @Nullable GeneratedSettingsRegistry getGeneratedRegistry(@NotNull Class<?> clazz) {
+        return GENERATED_REGISTRIES.get(clazz).orElse(null);
+    }
+
     /**
      * Creates an instance of the given settings holder class.
      *
@@ -232,4 +266,29 @@ public class ConfigurationDataBuilder {
             .map(Class::getDeclaredFields)
             .flatMap(Arrays::stream);
     }
+
+    private static @Nullable GeneratedSettingsRegistry loadGeneratedRegistry(@NotNull Class<?> clazz) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        if (classLoader == null) {
+            return null; // JDK class
+        }
+
+        Class<?> registryClass;
+        try {
+            registryClass = Class.forName(clazz.getName() + GeneratedSettingsRegistry.CLASS_NAME_SUFFIX,
+                true, classLoader);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        if (!GeneratedSettingsRegistry.class.isAssignableFrom(registryClass)) {
+            return null;
+        }
+        try {
+            return (GeneratedSettingsRegistry) registryClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new ConfigMeException("Could not create generated settings registry '"
+                + registryClass.getName() + "'", e);
+        }
+    }
 }
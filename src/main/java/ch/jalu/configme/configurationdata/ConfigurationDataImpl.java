@@ -1,7 +1,9 @@
 package ch.jalu.configme.configurationdata;
 
 import ch.jalu.configme.SettingsHolder;
+import ch.jalu.configme.beanmapper.BeanReuseTable;
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.internal.CollectionUtils;
 import ch.jalu.configme.properties.Property;
 import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
@@ -16,12 +18,17 @@ import static java.lang.String.format;
 
 /**
  * Contains information about the available properties and their associated comments.
+ * <p>
+ * Keeps a {@link BeanReuseTable} for each property that {@link Property#isReusingBeans reuses beans}, so that the
+ * property can reuse the beans of its previous conversion when the values are initialized again (see
+ * {@link ch.jalu.configme.properties.types.BeanPropertyType#reusingBeans BeanPropertyType#reusingBeans}).
  */
 public class ConfigurationDataImpl implements ConfigurationData {
 
     private final @NotNull List<Property<?>> properties;
     private final @NotNull Map<String, List<String>> allComments;
     private final @NotNull Map<String, Object> values;
+    private final @NotNull Map<String, BeanReuseTable> beanReuseTables = new HashMap<>();
     private boolean allPropertiesValidInResource;
 
     /**
@@ -37,6 +44,17 @@ public class ConfigurationDataImpl implements ConfigurationData {
         this.values = new HashMap<>();
     }
 
+    /**
+     * Constructor for configuration data which shares the properties and comments of the given template.
+     *
+     * @param template the template with the properties and comments
+     */
+    protected ConfigurationDataImpl(@NotNull ConfigurationDataTemplate template) {
+        this.properties = template.getProperties();
+        this.allComments = template.getAllComments();
+        this.values = new HashMap<>(CollectionUtils.getCapacityForSize(properties.size()));
+    }
+
     @Override
     public @NotNull List<Property<?>> getProperties() {
         return properties;
@@ -87,11 +105,23 @@ public class ConfigurationDataImpl implements ConfigurationData {
      * property is represented in a fully valid way in the resource.
      */
     protected <T> boolean setValueForProperty(@NotNull Property<T> property, @NotNull PropertyReader reader) {
-        PropertyValue<T> propertyValue = property.determineValue(reader);
+        PropertyValue<T> propertyValue = property.isReusingBeans()
+            ? property.determineValue(reader, getBeanReuseTable(property))
+            : property.determineValue(reader);
         setValue(property, propertyValue.getValue());
         return propertyValue.isValidInResource();
     }
 
+    /**
+     * Returns the table with the beans of the previous conversion of the given property.
+     *
+     * @param property the property to get the table for
+     * @return the property's bean reuse table
+     */
+    protected @NotNull BeanReuseTable getBeanReuseTable(@NotNull Property<?> property) {
+        return beanReuseTables.computeIfAbsent(property.getPath(), path -> new BeanReuseTable());
+    }
+
     @Override
     public boolean areAllValuesValidInResource() {
         return allPropertiesValidInResource;
@@ -0,0 +1,96 @@
+package ch.jalu.configme.configurationdata;
+
+import ch.jalu.configme.SettingsHolder;
+import ch.jalu.configme.properties.Property;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable definition of a configuration: its properties and comments. A template is created once, e.g. from the
+ * settings holder classes, and can then create any number of {@link ConfigurationData} instances which share the
+ * properties and comments of the template and only have their own values. This avoids collecting the same
+ * properties and comments for each configuration, e.g. if a settings manager is created per tenant.
+ * <p>
+ * This class is thread-safe; the configuration data it creates are not.
+ */
+public class ConfigurationDataTemplate {
+
+    private final @NotNull List<Property<?>> properties;
+    private final @NotNull Map<String, List<String>> allComments;
+
+    /**
+     * Constructor. Note that the given properties must be in an order that is suitable for exporting
+     * (see {@link ConfigurationDataBuilder#createConfiguration(List)}).
+     *
+     * @param properties the properties of the configuration
+     * @param allComments map of comments by path
+     */
+    public ConfigurationDataTemplate(@NotNull List<? extends Property<?>> properties,
+                                     @NotNull Map<String, List<String>> allComments) {
+        this.properties = Collections.unmodifiableList(new ArrayList<>(properties));
+        Map<String, List<String>> comments = new LinkedHashMap<>();
+        allComments.forEach((path, lines) -> comments.put(path, Collections.unmodifiableList(new ArrayList<>(lines))));
+        this.allComments = Collections.unmodifiableMap(comments);
+    }
+
+    /**
+     * Creates a template with the properties and comments of the given settings holder classes.
+     *
+     * @param classes the classes to collect the properties and comments from
+     * @return template for configuration data of the classes
+     */
+    @SafeVarargs
+    public static @NotNull ConfigurationDataTemplate create(@NotNull Class<? extends SettingsHolder>... classes) {
+        return create(Arrays.asList(classes));
+    }
+
+    /**
+     * Creates a template with the properties and comments of the given settings holder classes.
+     *
+     * @param classes the classes to collect the properties and comments from
+     * @return template for configuration data of the classes
+     */
+    public static @NotNull ConfigurationDataTemplate create(
+                                                           @NotNull Iterable<Class<? extends SettingsHolder>> classes) {
+        return of(ConfigurationDataBuilder.createConfiguration(classes));
+    }
+
+    /**
+     * Creates a template with the properties and comments of the given configuration data. Its values are ignored.
+     *
+     * @param configurationData the configuration data to take the properties and comments from
+     * @return template with the configuration data's properties and comments
+     */
+    public static @NotNull ConfigurationDataTemplate of(@NotNull ConfigurationData configurationData) {
+        return new ConfigurationDataTemplate(configurationData.getProperties(), configurationData.getAllComments());
+    }
+
+    /**
+     * Creates new configuration data with the properties and comments of this template, and without any values.
+     *
+     * @return new configuration data
+     */
+    public @NotNull ConfigurationData createConfigurationData() {
+        return new ConfigurationDataImpl(this);
+    }
+
+    /**
+     * @return the properties, in order (unmodifiable)
+     */
+    public @NotNull List<Property<?>> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @return the comments by path (unmodifiable)
+     */
+    public @NotNull Map<String, List<String>> getAllComments() {
+        return allComments;
+    }
+}
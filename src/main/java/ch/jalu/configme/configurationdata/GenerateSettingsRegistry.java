@@ -0,0 +1,24 @@
+package ch.jalu.configme.configurationdata;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation placed on a {@link ch.jalu.configme.SettingsHolder} class to generate the registry of its properties
+ * and comments at compile time, so that {@link ConfigurationDataBuilder} does not need to scan the class's fields
+ * via reflection.
+ * <p>
+ * The registry is generated by the {@code SettingsRegistryProcessor} of the separate {@code configme-processor}
+ * artifact, which must be added to the compiler's annotation processor path (e.g. via the Maven compiler plugin's
+ * {@code annotationProcessorPaths}). Settings holders without a generated registry are handled via reflection.
+ * <p>
+ * The property fields must be accessible from the settings holder's package, i.e. they may not be private.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+@Documented
+public @interface GenerateSettingsRegistry {
+}
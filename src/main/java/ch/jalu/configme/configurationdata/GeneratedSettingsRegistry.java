@@ -0,0 +1,33 @@
+package ch.jalu.configme.configurationdata;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Registers the properties and comments of a settings holder class without reflection. Implementations are generated
+ * at compile time for settings holders annotated with {@link GenerateSettingsRegistry}. The generated class is in the
+ * same package as the settings holder and its name is the holder's binary name with {@link #CLASS_NAME_SUFFIX}.
+ */
+public interface GeneratedSettingsRegistry {
+
+    /** Suffix appended to the name of the settings holder class to get the name of the generated registry. */
+    String CLASS_NAME_SUFFIX = "_SettingsRegistry";
+
+    /**
+     * Adds all properties of the settings holder to the property list builder, in the order in which they are
+     * declared, and registers the comments of their {@link ch.jalu.configme.Comment} annotations.
+     *
+     * @param propertyListBuilder the property list builder to add the properties to
+     * @param commentsConfiguration the comments configuration to register the comments with
+     */
+    void registerProperties(@NotNull PropertyListBuilder propertyListBuilder,
+                            @NotNull CommentsConfiguration commentsConfiguration);
+
+    /**
+     * Returns whether the settings holder overrides {@link ch.jalu.configme.SettingsHolder#registerComments}, in
+     * which case the holder still needs to be instantiated to collect its section comments.
+     *
+     * @return true if the holder registers comments itself, false otherwise
+     */
+    boolean hasSectionComments();
+
+}
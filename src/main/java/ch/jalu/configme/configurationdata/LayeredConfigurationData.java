@@ -0,0 +1,171 @@
+package ch.jalu.configme.configurationdata;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.PropertyValue;
+import ch.jalu.configme.resource.PropertyReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Configuration data which only keeps the values it overrides of a base configuration data. Values that are not
+ * overridden in this layer are taken from the base, so many layers can share one base (e.g. one layer per tenant
+ * with a global base) and only use memory for the properties they override.
+ * <p>
+ * The properties and comments are those of the base. When values are {@link #initializeValues initialized}, only
+ * the properties with a fully valid value in the reader are overridden; invalid values fall through to the base
+ * instead of overriding it with the property's default value. When the layer is exported, only its overrides are
+ * written (see {@link #getPropertiesToExport()}). Changes to the base's values are visible in all layers for the
+ * properties they don't override.
+ */
+public class LayeredConfigurationData implements ConfigurationData {
+
+    private final @NotNull ConfigurationData base;
+    private @Nullable Map<String, Object> overrides;
+    private boolean allOverridesValidInResource;
+
+    /**
+     * Constructor.
+     *
+     * @param base the configuration data whose values are used for the properties not overridden by this layer
+     */
+    public LayeredConfigurationData(@NotNull ConfigurationData base) {
+        this.base = base;
+    }
+
+    @Override
+    public @NotNull List<Property<?>> getProperties() {
+        return base.getProperties();
+    }
+
+    /**
+     * Returns the properties which are overridden in this layer, in the order of the base's properties.
+     *
+     * @return the overridden properties
+     */
+    @Override
+    public @NotNull List<Property<?>> getPropertiesToExport() {
+        if (overrides == null) {
+            return Collections.emptyList();
+        }
+        return getProperties().stream()
+            .filter(this::hasOverride)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public @NotNull List<String> getCommentsForSection(@NotNull String path) {
+        return base.getCommentsForSection(path);
+    }
+
+    @Override
+    public @NotNull Map<String, List<String>> getAllComments() {
+        return base.getAllComments();
+    }
+
+    /**
+     * Sets the values of the properties present in the given reader as overrides of this layer. All previous
+     * overrides are removed. Properties whose value in the reader is not fully valid are not overridden, so that
+     * the base's value is used for them.
+     *
+     * @param propertyReader the reader to use to determine the overridden values
+     */
+    @Override
+    public void initializeValues(@NotNull PropertyReader propertyReader) {
+        overrides = null;
+
+        boolean allValid = true;
+        for (Property<?> property : getProperties()) {
+            if (propertyReader.contains(property.getPath())) {
+                allValid &= setOverrideForProperty(property, propertyReader);
+            }
+        }
+        allOverridesValidInResource = allValid;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @NotNull T getValue(@NotNull Property<T> property) {
+        Object value = overrides == null ? null : overrides.get(property.getPath());
+        return value == null ? base.getValue(property) : (T) value;
+    }
+
+    /**
+     * Sets the given value as override of this layer. The base is not changed.
+     *
+     * @param property the property to change the value for
+     * @param value the value to set
+     * @param <T> the property type
+     */
+    @Override
+    public <T> void setValue(@NotNull Property<T> property, @NotNull T value) {
+        if (!property.isValidValue(value)) {
+            throw new ConfigMeException("Invalid value for property '" + property + "': " + value);
+        }
+        if (overrides == null) {
+            overrides = new HashMap<>();
+        }
+        overrides.put(property.getPath(), value);
+    }
+
+    /**
+     * Returns whether the given property is overridden in this layer.
+     *
+     * @param property the property to check
+     * @return true if this layer has a value for the property, false if the base's value is used
+     */
+    public boolean hasOverride(@NotNull Property<?> property) {
+        return overrides != null && overrides.containsKey(property.getPath());
+    }
+
+    /**
+     * Removes the override of the given property, so that the base's value is used again.
+     *
+     * @param property the property whose override should be removed
+     */
+    public void removeOverride(@NotNull Property<?> property) {
+        if (overrides != null) {
+            overrides.remove(property.getPath());
+        }
+    }
+
+    /**
+     * Returns whether the values of the properties present in the reader of the last call of
+     * {@link #initializeValues} were fully valid. Properties which are absent are taken from the base and are not
+     * considered. Returns false if the values have not yet been loaded.
+     *
+     * @return true if all overrides are represented in a fully valid way in the resource, false otherwise
+     */
+    @Override
+    public boolean areAllValuesValidInResource() {
+        return allOverridesValidInResource;
+    }
+
+    /**
+     * @return the configuration data whose values are used for the properties not overridden by this layer
+     */
+    public @NotNull ConfigurationData getBase() {
+        return base;
+    }
+
+    /*
+     * Saves the value for the provided property as determined from the reader as override if it is fully valid, and
+     * returns whether the property is represented in a fully valid way in the resource. Otherwise, the value may be
+     * the property's default value, which must not hide the base's value.
+     */
+    protected <T> boolean setOverrideForProperty(@NotNull Property<T> property, @NotNull PropertyReader reader) {
+        PropertyValue<T> propertyValue = property.determineValue(reader);
+        if (propertyValue.isValidInResource()) {
+            setValue(property, propertyValue.getValue());
+            return true;
+        }
+        removeOverride(property);
+        return false;
+    }
+}
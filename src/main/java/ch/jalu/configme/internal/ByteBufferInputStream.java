@@ -0,0 +1,57 @@
+package ch.jalu.configme.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream which reads the remaining bytes of a byte buffer. The bytes are not copied; the stream operates
+ * on a {@link ByteBuffer#duplicate() duplicate} of the buffer so that the position of the original buffer is
+ * not changed.
+ */
+public final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer the buffer to read from (from its position to its limit)
+     */
+    public ByteBufferInputStream(@NotNull ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+    }
+
+    @Override
+    public int read(byte @NotNull [] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int bytesToRead = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, bytesToRead);
+        return bytesToRead;
+    }
+
+    @Override
+    public long skip(long n) {
+        int bytesToSkip = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        // cast for Java 8, where ByteBuffer does not override position(int)
+        ((Buffer) buffer).position(buffer.position() + bytesToSkip);
+        return bytesToSkip;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
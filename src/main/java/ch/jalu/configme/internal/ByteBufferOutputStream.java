@@ -0,0 +1,73 @@
+package ch.jalu.configme.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Output stream which writes into a byte buffer. If the buffer has no space left, it is replaced with a buffer of
+ * larger capacity (of the same kind, i.e. direct or heap) into which the previously written bytes are copied.
+ * Use {@link #getBuffer()} to retrieve the buffer after writing.
+ */
+public final class ByteBufferOutputStream extends OutputStream {
+
+    private static final int MIN_CAPACITY = 256;
+
+    private ByteBuffer buffer;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer the buffer to write into, starting at its position
+     */
+    public ByteBufferOutputStream(@NotNull ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureRemaining(1);
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte @NotNull [] bytes, int offset, int length) {
+        ensureRemaining(length);
+        buffer.put(bytes, offset, length);
+    }
+
+    /**
+     * Returns the buffer that was written to. This is the buffer given on construction, unless it did not have
+     * enough capacity, in which case it is a new buffer. The position of the buffer is right after the last
+     * written byte.
+     *
+     * @return the buffer with the written bytes
+     */
+    public @NotNull ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    private void ensureRemaining(int length) {
+        if (buffer.remaining() >= length) {
+            return;
+        }
+
+        int requiredCapacity = buffer.position() + length;
+        if (requiredCapacity < 0) {
+            throw new OutOfMemoryError("Required buffer capacity exceeds the maximum array size");
+        }
+        int newCapacity = Math.max(Math.max(MIN_CAPACITY, requiredCapacity), buffer.capacity() * 2);
+        if (newCapacity < 0) { // overflow
+            newCapacity = requiredCapacity;
+        }
+
+        ByteBuffer newBuffer = buffer.isDirect()
+            ? ByteBuffer.allocateDirect(newCapacity)
+            : ByteBuffer.allocate(newCapacity);
+        ((Buffer) buffer).flip(); // cast for Java 8, where ByteBuffer does not override flip()
+        newBuffer.put(buffer);
+        buffer = newBuffer;
+    }
+}
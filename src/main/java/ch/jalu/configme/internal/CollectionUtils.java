@@ -0,0 +1,86 @@
+package ch.jalu.configme.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Internal utilities for creating collections.
+ */
+public final class CollectionUtils {
+
+    private CollectionUtils() {
+    }
+
+    /**
+     * Returns the initial capacity a {@link java.util.HashMap HashMap} (or one of its extensions) must be created with
+     * so that the given number of entries can be added without the map having to be resized. Assumes the default load
+     * factor of 0.75.
+     *
+     * @param expectedSize the number of entries that will be added to the map
+     * @return the initial capacity to create the map with
+     */
+    public static int getCapacityForSize(int expectedSize) {
+        if (expectedSize < 3) {
+            return expectedSize + 1;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (long) Math.ceil(expectedSize / 0.75));
+    }
+
+    /**
+     * Returns an unmodifiable list view of the given collection, whose elements are the result of applying the
+     * function to the collection's elements. The function is applied whenever an element is accessed, and changes
+     * to the collection are reflected in the view. Elements are accessed by index efficiently if the collection is
+     * a list with fast random access; otherwise, the view should be iterated over.
+     *
+     * @param collection the collection to create a view of
+     * @param transformer the function to apply to the collection's elements
+     * @param <T> the type of the collection's elements
+     * @param <R> the type of the view's elements
+     * @return list view with the transformed elements of the collection
+     */
+    public static <T, R> @NotNull List<R> transformedView(@NotNull Collection<T> collection,
+                                                          @NotNull Function<? super T, ? extends R> transformer) {
+        return new AbstractList<R>() {
+            @Override
+            public R get(int index) {
+                if (collection instanceof List<?>) {
+                    return transformer.apply(((List<T>) collection).get(index));
+                }
+                if (index < 0 || index >= collection.size()) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + collection.size());
+                }
+                Iterator<T> iterator = collection.iterator();
+                for (int i = 0; i < index; ++i) {
+                    iterator.next();
+                }
+                return transformer.apply(iterator.next());
+            }
+
+            @Override
+            public int size() {
+                return collection.size();
+            }
+
+            @Override
+            public @NotNull Iterator<R> iterator() {
+                Iterator<T> iterator = collection.iterator();
+                return new Iterator<R>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public R next() {
+                        return transformer.apply(iterator.next());
+                    }
+                };
+            }
+        };
+    }
+}
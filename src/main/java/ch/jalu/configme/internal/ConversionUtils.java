@@ -48,7 +48,7 @@ public final class ConversionUtils {
                                                        @NotNull ConvertErrorRecorder errorRecorder) {
         T result = conversionFunction.apply(element);
         if (result == null) {
-            errorRecorder.setHasError("Could not convert '" + element + "'");
+            errorRecorder.setHasError(() -> "", () -> "Could not convert '" + element + "'");
         }
         return result;
     }
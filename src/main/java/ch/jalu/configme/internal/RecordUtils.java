@@ -0,0 +1,84 @@
+package ch.jalu.configme.internal;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Internal utilities for Java records. ConfigMe is compiled for Java 8, so records are accessed via reflection and
+ * no class is considered to be a record on runtimes that do not support them.
+ */
+public final class RecordUtils {
+
+    private static final @Nullable Method IS_RECORD_METHOD;
+    private static final @Nullable Method GET_RECORD_COMPONENTS_METHOD;
+    private static final @Nullable Method GET_ACCESSOR_METHOD;
+
+    static {
+        Method isRecord = null;
+        Method getRecordComponents = null;
+        Method getAccessor = null;
+        try {
+            isRecord = Class.class.getMethod("isRecord");
+            getRecordComponents = Class.class.getMethod("getRecordComponents");
+            getAccessor = Class.forName("java.lang.reflect.RecordComponent").getMethod("getAccessor");
+        } catch (NoSuchMethodException | ClassNotFoundException ignore) {
+            // Records are not supported by this Java version
+        }
+        IS_RECORD_METHOD = isRecord;
+        GET_RECORD_COMPONENTS_METHOD = getRecordComponents;
+        GET_ACCESSOR_METHOD = getAccessor;
+    }
+
+    private RecordUtils() {
+    }
+
+    /**
+     * Returns whether the given class is a record.
+     *
+     * @param clazz the class to check
+     * @return true if the class is a record, false otherwise
+     */
+    public static boolean isRecord(@NotNull Class<?> clazz) {
+        if (IS_RECORD_METHOD == null) {
+            return false;
+        }
+        return (Boolean) invoke(IS_RECORD_METHOD, clazz);
+    }
+
+    /**
+     * Returns the accessor methods of the given record's components, in the order the components are declared.
+     * The name and type of each component are equal to the name and return type of its accessor.
+     *
+     * @param recordClass the record class to process
+     * @return the record's component accessors
+     */
+    public static @NotNull List<Method> getComponentAccessors(@NotNull Class<?> recordClass) {
+        if (GET_RECORD_COMPONENTS_METHOD == null || GET_ACCESSOR_METHOD == null) {
+            throw new IllegalStateException("Records are not supported by this Java version");
+        }
+
+        Object components = invoke(GET_RECORD_COMPONENTS_METHOD, recordClass);
+        if (components == null) {
+            throw new IllegalArgumentException(recordClass + " is not a record");
+        }
+        int length = Array.getLength(components);
+        List<Method> accessors = new ArrayList<>(length);
+        for (int i = 0; i < length; ++i) {
+            accessors.add((Method) invoke(GET_ACCESSOR_METHOD, Array.get(components, i)));
+        }
+        return accessors;
+    }
+
+    private static @Nullable Object invoke(@NotNull Method method, @NotNull Object target) {
+        try {
+            return method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to call " + method, e);
+        }
+    }
+}
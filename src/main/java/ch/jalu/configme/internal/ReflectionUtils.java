@@ -0,0 +1,31 @@
+package ch.jalu.configme.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Internal reflection utilities.
+ */
+public final class ReflectionUtils {
+
+    private ReflectionUtils() {
+    }
+
+    /**
+     * Returns whether the public method with the given signature is overridden by the given class (or one of its
+     * parents) below the given declaring class.
+     *
+     * @param clazz the class to inspect
+     * @param declaringClass the class that declares the method's implementation which is not considered an override
+     * @param name the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return true if the class's implementation of the method is not the one of the declaring class
+     */
+    public static boolean isMethodOverridden(@NotNull Class<?> clazz, @NotNull Class<?> declaringClass,
+                                             @NotNull String name, @NotNull Class<?>... parameterTypes) {
+        try {
+            return clazz.getMethod(name, parameterTypes).getDeclaringClass() != declaringClass;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Class '" + clazz.getName() + "' has no public method '" + name + "'", e);
+        }
+    }
+}
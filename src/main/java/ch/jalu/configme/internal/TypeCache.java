@@ -0,0 +1,131 @@
+package ch.jalu.configme.internal;
+
+import ch.jalu.typeresolver.TypeInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.Member;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe cache of values by type which does not keep classes from being unloaded. The entries are stored in a
+ * {@link ClassValue} of an "anchor" class of the type: the class of the type (or of its type arguments) with the most
+ * specific class loader. An entry for {@code List<MyBean>} is therefore stored with {@code MyBean} and not with
+ * {@code List}, and it is discarded together with {@code MyBean}'s class loader.
+ * <p>
+ * If a type refers to classes of unrelated class loaders, its entry is stored with one of them and keeps the other
+ * classes from being unloaded as long as the anchor class is loaded.
+ *
+ * @param <V> the type of the cached values
+ */
+public final class TypeCache<V> {
+
+    private final ClassValue<Map<TypeInfo, V>> valuesByAnchorClass = new ClassValue<Map<TypeInfo, V>>() {
+        @Override
+        protected Map<TypeInfo, V> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns the value cached for the given type.
+     *
+     * @param type the type to look up
+     * @return the cached value, null if there is none
+     */
+    public @Nullable V get(@NotNull TypeInfo type) {
+        return getValues(type).get(type);
+    }
+
+    /**
+     * Saves the given value for the type if no value is cached for it yet.
+     *
+     * @param type the type to save the value for
+     * @param value the value to save
+     * @return the value that was already cached for the type, null if the given value was saved
+     */
+    public @Nullable V putIfAbsent(@NotNull TypeInfo type, @NotNull V value) {
+        return getValues(type).putIfAbsent(type, value);
+    }
+
+    private @NotNull Map<TypeInfo, V> getValues(@NotNull TypeInfo type) {
+        return valuesByAnchorClass.get(getAnchorClass(type));
+    }
+
+    /**
+     * Returns the class referenced by the given type whose class loader is the most specific one, i.e. whose class
+     * loader has the class loaders of the other classes as parents.
+     *
+     * @param type the type to process
+     * @return the anchor class of the type
+     */
+    static @NotNull Class<?> getAnchorClass(@NotNull TypeInfo type) {
+        Class<?> anchorClass = findAnchorClass(type.getType(), null);
+        return anchorClass == null ? Object.class : anchorClass;
+    }
+
+    private static @Nullable Class<?> findAnchorClass(@Nullable Type type, @Nullable Class<?> currentAnchor) {
+        if (type instanceof Class<?>) {
+            return selectAnchor(currentAnchor, (Class<?>) type);
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Class<?> anchor = findAnchorClass(parameterizedType.getRawType(), currentAnchor);
+            anchor = findAnchorClass(parameterizedType.getOwnerType(), anchor);
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                anchor = findAnchorClass(argument, anchor);
+            }
+            return anchor;
+        } else if (type instanceof GenericArrayType) {
+            return findAnchorClass(((GenericArrayType) type).getGenericComponentType(), currentAnchor);
+        } else if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            Class<?> anchor = currentAnchor;
+            for (Type bound : wildcardType.getUpperBounds()) {
+                anchor = findAnchorClass(bound, anchor);
+            }
+            for (Type bound : wildcardType.getLowerBounds()) {
+                anchor = findAnchorClass(bound, anchor);
+            }
+            return anchor;
+        } else if (type instanceof TypeVariable<?>) {
+            // The bounds of a type variable may refer to the variable itself, so only its declaring class is used
+            GenericDeclaration declaration = ((TypeVariable<?>) type).getGenericDeclaration();
+            if (declaration instanceof Class<?>) {
+                return selectAnchor(currentAnchor, (Class<?>) declaration);
+            } else if (declaration instanceof Member) {
+                return selectAnchor(currentAnchor, ((Member) declaration).getDeclaringClass());
+            }
+        }
+        return currentAnchor;
+    }
+
+    private static @NotNull Class<?> selectAnchor(@Nullable Class<?> currentAnchor, @NotNull Class<?> candidate) {
+        if (currentAnchor == null) {
+            return candidate;
+        }
+        ClassLoader currentLoader = currentAnchor.getClassLoader();
+        ClassLoader candidateLoader = candidate.getClassLoader();
+        return currentLoader != candidateLoader && isAncestor(currentLoader, candidateLoader)
+            ? candidate
+            : currentAnchor;
+    }
+
+    private static boolean isAncestor(@Nullable ClassLoader ancestor, @Nullable ClassLoader classLoader) {
+        if (ancestor == null) {
+            return true; // bootstrap class loader
+        }
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            if (loader == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,5 +1,7 @@
 package ch.jalu.configme.properties;
 
+import ch.jalu.configme.beanmapper.BeanReuseTable;
+import ch.jalu.configme.properties.convertresult.ConvertErrorException;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
@@ -46,14 +48,45 @@ public abstract class BaseProperty<T> implements Property<T> {
 
     @Override
     public @NotNull PropertyValue<T> determineValue(@NotNull PropertyReader reader) {
-        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
-        T value = getFromReader(reader, errorRecorder);
+        return createPropertyValue(reader, null);
+    }
+
+    @Override
+    public @NotNull PropertyValue<T> determineValue(@NotNull PropertyReader reader,
+                                                    @NotNull BeanReuseTable beanReuseTable) {
+        return createPropertyValue(reader, beanReuseTable);
+    }
+
+    private @NotNull PropertyValue<T> createPropertyValue(@NotNull PropertyReader reader,
+                                                          @Nullable BeanReuseTable beanReuseTable) {
+        ConvertErrorRecorder errorRecorder = createErrorRecorder();
+        T value;
+        try {
+            value = beanReuseTable == null
+                ? getFromReader(reader, errorRecorder)
+                : getFromReader(reader, errorRecorder, beanReuseTable);
+        } catch (ConvertErrorException e) {
+            // Error recorder fails fast: no value, as if it could not be read
+            value = null;
+        }
         if (isValidValue(value)) {
             return new PropertyValue<>(value, errorRecorder.isFullyValid());
         }
         return PropertyValue.withValueRequiringRewrite(getDefaultValue());
     }
 
+    /**
+     * Creates the error recorder with which the value of this property is determined. Override this method to use
+     * a recorder which collects the errors ({@link ConvertErrorRecorder#collectingErrors()}) or fails fast
+     * ({@link ConvertErrorRecorder#failingFast()}); if the error recorder throws a {@link ConvertErrorException},
+     * the default value of the property is used.
+     *
+     * @return new error recorder
+     */
+    protected @NotNull ConvertErrorRecorder createErrorRecorder() {
+        return new ConvertErrorRecorder();
+    }
+
     @Override
     public boolean isValidValue(@Nullable T value) {
         return value != null;
@@ -70,6 +103,21 @@ public abstract class BaseProperty<T> implements Property<T> {
     protected abstract @Nullable T getFromReader(@NotNull PropertyReader reader,
                                                  @NotNull ConvertErrorRecorder errorRecorder);
 
+    /**
+     * Constructs the value of the property from the property reader like
+     * {@link #getFromReader(PropertyReader, ConvertErrorRecorder)}, reusing the beans of the previous conversion from
+     * the given table whose source is unchanged. By default, the table is ignored.
+     *
+     * @param reader the reader to read from
+     * @param errorRecorder error recorder to register errors even if a valid value is returned
+     * @param beanReuseTable the beans of the previous conversion of this property
+     * @return value based on the reader, or null if not applicable
+     */
+    protected @Nullable T getFromReader(@NotNull PropertyReader reader, @NotNull ConvertErrorRecorder errorRecorder,
+                                        @NotNull BeanReuseTable beanReuseTable) {
+        return getFromReader(reader, errorRecorder);
+    }
+
     @Override
     public @NotNull String toString() {
         return "Property '" + path + "'";
@@ -1,8 +1,10 @@
 package ch.jalu.configme.properties;
 
+import ch.jalu.configme.internal.CollectionUtils;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.properties.types.PropertyType;
 import ch.jalu.configme.resource.PropertyReader;
+import ch.jalu.configme.schema.ValueSchema;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -72,7 +74,7 @@ public class MapProperty<V> extends BaseProperty<Map<String, V>> {
 
     @Override
     public @NotNull Object toExportValue(@NotNull Map<String, V> value) {
-        Map<String, Object> exportMap = new LinkedHashMap<>();
+        Map<String, Object> exportMap = new LinkedHashMap<>(CollectionUtils.getCapacityForSize(value.size()));
 
         for (Map.Entry<String, V> entry : value.entrySet()) {
             exportMap.put(entry.getKey(), valueType.toExportValue(entry.getValue()));
@@ -81,6 +83,11 @@ public class MapProperty<V> extends BaseProperty<Map<String, V>> {
         return exportMap;
     }
 
+    @Override
+    public @NotNull ValueSchema getValueSchema() {
+        return ValueSchema.mapOf(valueType.getValueSchema());
+    }
+
     /* Allows to modify the map once its fully built based on the values in the property reader. */
     protected @NotNull Map<String, V> postProcessMap(@NotNull Map<String, V> constructedMap) {
         return Collections.unmodifiableMap(constructedMap);
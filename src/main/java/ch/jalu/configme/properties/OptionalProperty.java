@@ -2,6 +2,7 @@ package ch.jalu.configme.properties;
 
 import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
+import ch.jalu.configme.schema.ValueSchema;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -67,4 +68,9 @@ public class OptionalProperty<T> implements Property<Optional<T>> {
     public @Nullable Object toExportValue(@NotNull Optional<T> value) {
         return value.map(baseProperty::toExportValue).orElse(null);
     }
+
+    @Override
+    public @NotNull ValueSchema getValueSchema() {
+        return ValueSchema.optional(baseProperty.getValueSchema());
+    }
 }
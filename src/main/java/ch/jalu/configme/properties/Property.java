@@ -1,7 +1,9 @@
 package ch.jalu.configme.properties;
 
+import ch.jalu.configme.beanmapper.BeanReuseTable;
 import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
+import ch.jalu.configme.schema.ValueSchema;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -33,6 +35,32 @@ public interface Property<T> {
      */
     @NotNull PropertyValue<T> determineValue(@NotNull PropertyReader propertyReader);
 
+    /**
+     * Returns the value to use for this property like {@link #determineValue(PropertyReader)}, reusing the beans of
+     * the property's previous conversion from the given table if their source is unchanged.
+     * {@link ch.jalu.configme.configurationdata.ConfigurationDataImpl ConfigurationDataImpl} keeps a table for each
+     * property that {@link #isReusingBeans reuses beans}. By default, the table is ignored.
+     *
+     * @param propertyReader the reader to construct the value from (if possible)
+     * @param beanReuseTable the beans of the previous conversion of this property
+     * @return the value to associate to this property
+     * @see ch.jalu.configme.properties.types.BeanPropertyType#reusingBeans
+     */
+    default @NotNull PropertyValue<T> determineValue(@NotNull PropertyReader propertyReader,
+                                                     @NotNull BeanReuseTable beanReuseTable) {
+        return determineValue(propertyReader);
+    }
+
+    /**
+     * Returns whether this property reuses the beans of its previous conversion, i.e. whether a table should be
+     * passed to {@link #determineValue(PropertyReader, BeanReuseTable)}. False by default.
+     *
+     * @return true if the property reuses beans, false otherwise
+     */
+    default boolean isReusingBeans() {
+        return false;
+    }
+
     /**
      * Convenience method to check whether the property is present in the given reader and a valid representation
      * of the property type.
@@ -83,4 +111,15 @@ public interface Property<T> {
      */
     @Nullable Object toExportValue(@NotNull T value);
 
+    /**
+     * Returns the schema of the values in a property resource this property can be created from, used to validate
+     * a resource before the values are determined (see {@link ch.jalu.configme.schema.ConfigurationSchema}).
+     * By default, any value is accepted.
+     *
+     * @return the schema of the property's value in the resource
+     */
+    default @NotNull ValueSchema getValueSchema() {
+        return ValueSchema.any();
+    }
+
 }
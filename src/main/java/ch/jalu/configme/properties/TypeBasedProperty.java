@@ -1,8 +1,10 @@
 package ch.jalu.configme.properties;
 
+import ch.jalu.configme.beanmapper.BeanReuseTable;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.configme.properties.types.PropertyType;
 import ch.jalu.configme.resource.PropertyReader;
+import ch.jalu.configme.schema.ValueSchema;
 import org.jetbrains.annotations.NotNull;
 
 import org.jetbrains.annotations.Nullable;
@@ -35,11 +37,27 @@ public class TypeBasedProperty<T> extends BaseProperty<T> {
         return type.convert(reader.getObject(getPath()), errorRecorder);
     }
 
+    @Override
+    protected @Nullable T getFromReader(@NotNull PropertyReader reader, @NotNull ConvertErrorRecorder errorRecorder,
+                                        @NotNull BeanReuseTable beanReuseTable) {
+        return type.convert(reader.getObject(getPath()), errorRecorder, beanReuseTable);
+    }
+
+    @Override
+    public boolean isReusingBeans() {
+        return type.isReusingBeans();
+    }
+
     @Override
     public @Nullable Object toExportValue(@NotNull T value) {
         return type.toExportValue(value);
     }
 
+    @Override
+    public @NotNull ValueSchema getValueSchema() {
+        return type.getValueSchema();
+    }
+
     /**
      * @return the property type this property makes use of
      */
@@ -0,0 +1,54 @@
+package ch.jalu.configme.properties.convertresult;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Error that was registered with a {@link ConvertErrorRecorder}. The path and the message of the error are only
+ * created when they are requested, so that no strings are built for errors that are never reported.
+ */
+public final class ConvertError {
+
+    private @Nullable Supplier<String> pathSupplier;
+    private @Nullable Supplier<String> messageSupplier;
+    private @Nullable String path;
+    private @Nullable String message;
+
+    /**
+     * Constructor.
+     *
+     * @param pathSupplier supplies the path of the value with the error, relative to the converted value
+     *                     (empty string if unknown or if the error concerns the converted value itself)
+     * @param messageSupplier supplies the error message
+     */
+    public ConvertError(@NotNull Supplier<String> pathSupplier, @NotNull Supplier<String> messageSupplier) {
+        this.pathSupplier = pathSupplier;
+        this.messageSupplier = messageSupplier;
+    }
+
+    /**
+     * @return the path of the value with the error, relative to the converted value (may be empty)
+     */
+    public @NotNull String getPath() {
+        if (path == null) {
+            path = pathSupplier.get();
+            pathSupplier = null;
+        }
+        return path;
+    }
+
+    public @NotNull String getMessage() {
+        if (message == null) {
+            message = messageSupplier.get();
+            messageSupplier = null;
+        }
+        return message;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "For bean path '" + getPath() + "': " + getMessage();
+    }
+}
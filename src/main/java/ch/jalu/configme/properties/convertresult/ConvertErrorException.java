@@ -0,0 +1,31 @@
+package ch.jalu.configme.properties.convertresult;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Thrown by a {@link ConvertErrorRecorder} that fails fast, to abort the conversion on the first error.
+ */
+public class ConvertErrorException extends ConfigMeException {
+
+    private static final long serialVersionUID = 2518716532412354290L;
+
+    private final transient ConvertError error;
+
+    /**
+     * Constructor.
+     *
+     * @param error the error that aborted the conversion
+     */
+    public ConvertErrorException(@NotNull ConvertError error) {
+        super("Conversion aborted: " + error);
+        this.error = error;
+    }
+
+    /**
+     * @return the error that aborted the conversion
+     */
+    public @NotNull ConvertError getError() {
+        return error;
+    }
+}
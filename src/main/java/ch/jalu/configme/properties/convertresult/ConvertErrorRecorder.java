@@ -2,6 +2,12 @@ package ch.jalu.configme.properties.convertresult;
 
 import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Records errors during the conversion of a property to its Java value.
@@ -11,21 +17,92 @@ import org.jetbrains.annotations.NotNull;
  * conversion implies that the representation in the resource is wrong altogether.
  * Instead, errors are typically registered with this recorder when an object <b>can</b> be created, but there is some
  * error in the representation that should be corrected (e.g. a value is missing but there is a sensible fallback).
+ * <p>
+ * By default, the recorder only keeps track of whether an error occurred. Recorders created with
+ * {@link #collectingErrors()} keep the errors, whose paths and messages are only created once they are requested via
+ * {@link #getErrors()}. Recorders created with {@link #failingFast()} abort the conversion by throwing a
+ * {@link ConvertErrorException} when the first error is registered.
+ * <p>
+ * Subclasses can override {@link #setHasError(Supplier, Supplier)} to be notified of all errors.
  *
  * @see ch.jalu.configme.properties.BaseProperty#determineValue(PropertyReader)
  */
 public class ConvertErrorRecorder {
 
-    private boolean hasError;
+    private final Mode mode;
+    private int errorCount;
+    private @Nullable List<ConvertError> errors;
+
+    /**
+     * Constructor for a recorder that only keeps track of whether an error occurred.
+     */
+    public ConvertErrorRecorder() {
+        this(Mode.TRACK);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param mode defines what the recorder does with registered errors
+     */
+    protected ConvertErrorRecorder(@NotNull Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Creates a recorder which keeps all registered errors, see {@link #getErrors()}.
+     *
+     * @return new error recorder collecting errors
+     */
+    public static @NotNull ConvertErrorRecorder collectingErrors() {
+        return new ConvertErrorRecorder(Mode.COLLECT);
+    }
+
+    /**
+     * Creates a recorder which throws a {@link ConvertErrorException} when an error is registered, so that the
+     * conversion is aborted at the first error.
+     *
+     * @return new error recorder failing fast
+     */
+    public static @NotNull ConvertErrorRecorder failingFast() {
+        return new ConvertErrorRecorder(Mode.FAIL_FAST);
+    }
+
+    /**
+     * Registers that some error occurred during the conversion of the value.
+     *
+     * @param reason the reason
+     * @deprecated use {@link #setHasError(Supplier, Supplier)}, which only creates the message if it is needed.
+     *             Subclasses should override that method to be notified of errors, as this method is no longer
+     *             called for all errors.
+     */
+    @Deprecated
+    public void setHasError(@NotNull String reason) {
+        setHasError(() -> "", () -> reason);
+    }
 
     /**
      * Registers that some error occurred during the conversion of the value. See class javadoc: no need to register
      * an error if the return value of the conversion implies there is an issue (such as returning null).
+     * The suppliers are only called if the error is reported, e.g. via {@link #getErrors()}.
      *
-     * @param reason the reason (not used in this implementation but may be extended for debugging)
+     * @param pathSupplier supplies the path of the value with the error, relative to the converted value
+     * @param messageSupplier supplies the error message
      */
-    public void setHasError(@NotNull String reason) {
-        hasError = true;
+    public void setHasError(@NotNull Supplier<String> pathSupplier, @NotNull Supplier<String> messageSupplier) {
+        recordError(pathSupplier, messageSupplier);
+    }
+
+    private void recordError(@NotNull Supplier<String> pathSupplier, @NotNull Supplier<String> messageSupplier) {
+        ++errorCount;
+        if (mode == Mode.COLLECT) {
+            if (errors == null) {
+                errors = new ArrayList<>();
+            }
+            errors.add(new ConvertError(pathSupplier, messageSupplier));
+        } else if (mode == Mode.FAIL_FAST) {
+            throw new ConvertErrorException(new ConvertError(pathSupplier, messageSupplier));
+        }
     }
 
     /**
@@ -37,6 +114,50 @@ public class ConvertErrorRecorder {
      * @return true if no error was registered, false otherwise (see class Javadoc for semantics)
      */
     public boolean isFullyValid() {
-        return !hasError;
+        return errorCount == 0;
+    }
+
+    /**
+     * Returns the number of errors that have been registered so far. Allows to determine whether errors were
+     * registered during a part of the conversion.
+     *
+     * @return number of registered errors
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Returns the registered errors in the order they were registered. Always empty if this recorder was not
+     * created to collect errors (see {@link #collectingErrors()}).
+     *
+     * @return the registered errors
+     */
+    public @NotNull List<ConvertError> getErrors() {
+        return errors == null ? Collections.emptyList() : Collections.unmodifiableList(errors);
+    }
+
+    public boolean isCollectingErrors() {
+        return mode == Mode.COLLECT;
+    }
+
+    public boolean isFailingFast() {
+        return mode == Mode.FAIL_FAST;
+    }
+
+    /**
+     * Defines what an error recorder does with the errors that are registered.
+     */
+    protected enum Mode {
+
+        /** Only the number of errors is kept. */
+        TRACK,
+
+        /** Errors are kept, see {@link #getErrors()}. */
+        COLLECT,
+
+        /** An exception is thrown for the first error, see {@link #failingFast()}. */
+        FAIL_FAST
+
     }
 }
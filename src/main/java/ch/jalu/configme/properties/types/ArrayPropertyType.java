@@ -1,7 +1,9 @@
 package ch.jalu.configme.properties.types;
 
+import ch.jalu.configme.internal.CollectionUtils;
 import ch.jalu.configme.internal.ConversionUtils;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.schema.ValueSchema;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -10,7 +12,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.IntFunction;
-import java.util.stream.Collectors;
 
 /**
  * Property type for arrays: wraps another property type, which handles individual array elements, into an array type.
@@ -53,11 +54,21 @@ public class ArrayPropertyType<T> implements PropertyType<T[]> {
         return null;
     }
 
+    /**
+     * Returns the export value of the given array: a list view of the array in which each entry is converted with
+     * the entry type when it is accessed, so that the array is not copied for the export.
+     *
+     * @param value the value to convert
+     * @return list view with the export values of the array's entries
+     */
     @Override
     public @NotNull List<?> toExportValue(T @NotNull [] value) {
-        return Arrays.stream(value)
-            .map(entryType::toExportValue)
-            .collect(Collectors.toList());
+        return CollectionUtils.transformedView(Arrays.asList(value), entryType::toExportValue);
+    }
+
+    @Override
+    public @NotNull ValueSchema getValueSchema() {
+        return ValueSchema.listOf(entryType.getValueSchema());
     }
 
     public final @NotNull PropertyType<T> getEntryType() {
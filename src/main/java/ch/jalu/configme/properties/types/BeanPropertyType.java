@@ -1,8 +1,11 @@
 package ch.jalu.configme.properties.types;
 
+import ch.jalu.configme.beanmapper.BeanReuseTable;
 import ch.jalu.configme.beanmapper.DefaultMapper;
+import ch.jalu.configme.beanmapper.ExportValueCache;
 import ch.jalu.configme.beanmapper.Mapper;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.schema.ValueSchema;
 import ch.jalu.typeresolver.TypeInfo;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -16,10 +19,41 @@ public class BeanPropertyType<B> implements PropertyType<B> {
 
     private final TypeInfo beanType;
     private final Mapper mapper;
+    private final boolean reuseBeans;
+    private final @Nullable ExportValueCache exportValueCache;
 
     public BeanPropertyType(@NotNull TypeInfo beanType, @NotNull Mapper mapper) {
+        this(beanType, mapper, false, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param beanType the bean type
+     * @param mapper the mapper to map with
+     * @param reuseBeans whether the beans of the previous conversion should be reused if their value is unchanged,
+     *                   see {@link #reusingBeans}
+     */
+    public BeanPropertyType(@NotNull TypeInfo beanType, @NotNull Mapper mapper, boolean reuseBeans) {
+        this(beanType, mapper, reuseBeans, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param beanType the bean type
+     * @param mapper the mapper to map with
+     * @param reuseBeans whether the beans of the previous conversion should be reused if their value is unchanged,
+     *                   see {@link #reusingBeans}
+     * @param exportValueCache cache with the export value of the last exported bean, null to always create the
+     *                         export value. Only for effectively immutable beans, see {@link ExportValueCache}
+     */
+    public BeanPropertyType(@NotNull TypeInfo beanType, @NotNull Mapper mapper,
+                            boolean reuseBeans, @Nullable ExportValueCache exportValueCache) {
         this.beanType = beanType;
         this.mapper = mapper;
+        this.reuseBeans = reuseBeans;
+        this.exportValueCache = exportValueCache;
     }
 
     public static <B> @NotNull BeanPropertyType<B> of(@NotNull Class<B> type, @NotNull Mapper mapper) {
@@ -30,14 +64,66 @@ public class BeanPropertyType<B> implements PropertyType<B> {
         return of(type, DefaultMapper.getInstance());
     }
 
+    /**
+     * Creates a property type which reuses the beans of the previous conversion whose value is unchanged, e.g. when
+     * the configuration is reloaded. The beans are kept by the configuration data (one table per property and
+     * configuration data), which passes the table to {@link #convert(Object, ConvertErrorRecorder, BeanReuseTable)}.
+     * See {@link BeanReuseTable} for details.
+     *
+     * @param type the bean type
+     * @param mapper the mapper to map with
+     * @param <B> the bean type
+     * @return property type reusing beans
+     */
+    public static <B> @NotNull BeanPropertyType<B> reusingBeans(@NotNull Class<B> type, @NotNull Mapper mapper) {
+        return new BeanPropertyType<>(new TypeInfo(type), mapper, true);
+    }
+
+    /**
+     * Creates a property type which keeps the export value of each bean it exports, so that it is only created for
+     * beans which have not been exported before. Can also be used as entry type of a collection or map property, in
+     * which case the export value of each entry is kept. The bean class must be effectively immutable: see
+     * {@link ExportValueCache}.
+     *
+     * @param type the bean type
+     * @param mapper the mapper to map with
+     * @param <B> the bean type
+     * @return property type caching the export value
+     */
+    public static <B> @NotNull BeanPropertyType<B> cachingExportValue(@NotNull Class<B> type,
+                                                                      @NotNull Mapper mapper) {
+        return new BeanPropertyType<>(new TypeInfo(type), mapper, false, new ExportValueCache());
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public B convert(@Nullable Object object, @NotNull ConvertErrorRecorder errorRecorder) {
         return (B) mapper.convertToBean(object, beanType, errorRecorder);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public B convert(@Nullable Object object, @NotNull ConvertErrorRecorder errorRecorder,
+                     @NotNull BeanReuseTable beanReuseTable) {
+        return reuseBeans
+            ? (B) mapper.convertToBean(object, beanType, errorRecorder, beanReuseTable)
+            : (B) mapper.convertToBean(object, beanType, errorRecorder);
+    }
+
+    @Override
+    public boolean isReusingBeans() {
+        return reuseBeans;
+    }
+
+    @Override
+    public @NotNull ValueSchema getValueSchema() {
+        return mapper.getValueSchema(beanType);
+    }
+
     @Override
     public @Nullable Object toExportValue(@NotNull B value) {
-        return mapper.toExportValue(value);
+        return exportValueCache == null
+            ? mapper.toExportValue(value)
+            : mapper.toExportValue(value, exportValueCache);
     }
 }
@@ -1,7 +1,9 @@
 package ch.jalu.configme.properties.types;
 
+import ch.jalu.configme.internal.CollectionUtils;
 import ch.jalu.configme.internal.ConversionUtils;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.schema.ValueSchema;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -9,7 +11,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 /**
  * Property type for collections of elements. This class and its extensions delegate individual element operations to
@@ -69,11 +70,21 @@ public abstract class CollectionPropertyType<E, C extends Collection<E>> impleme
         return null;
     }
 
+    /**
+     * Returns the export value of the given collection: a list view of the collection in which each entry is
+     * converted with the entry type when it is accessed, so that the collection is not copied for the export.
+     *
+     * @param value the value to convert
+     * @return list view with the export values of the collection's entries
+     */
     @Override
     public @NotNull List<?> toExportValue(@NotNull C value) {
-        return value.stream()
-            .map(entryType::toExportValue)
-            .collect(Collectors.toList());
+        return CollectionUtils.transformedView(value, entryType::toExportValue);
+    }
+
+    @Override
+    public @NotNull ValueSchema getValueSchema() {
+        return ValueSchema.listOf(entryType.getValueSchema());
     }
 
     /**
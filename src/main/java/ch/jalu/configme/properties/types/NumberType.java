@@ -102,7 +102,7 @@ public class NumberType<N extends Number> extends PropertyAndLeafType<N> {
             return numberType.convertUnsafe(number);
         }
 
-        errorRecorder.setHasError("Value cannot be represented in type (" + comparison + ")");
+        errorRecorder.setHasError(() -> "", () -> "Value cannot be represented in type (" + comparison + ")");
         return numberType.convertToBounds(number);
     }
 
@@ -1,6 +1,7 @@
 package ch.jalu.configme.properties.types;
 
 import ch.jalu.configme.beanmapper.leafvaluehandler.MapperLeafType;
+import ch.jalu.configme.internal.ReflectionUtils;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
 import ch.jalu.typeresolver.TypeInfo;
 import org.jetbrains.annotations.NotNull;
@@ -49,6 +50,36 @@ public abstract class PropertyAndLeafType<T> implements PropertyType<T>, MapperL
         return null;
     }
 
+    /**
+     * Returns whether this type may convert to the given target type, based on {@link #canConvertToType}. If a subclass
+     * overrides {@link #convert(Object, TypeInfo, ConvertErrorRecorder)}, true is returned so that the subclass is
+     * tried for all target types, as it may support other types.
+     *
+     * @param targetType the target type
+     * @return true if this type may convert to the given type, false otherwise
+     */
+    @Override
+    public boolean mayConvertToType(@NotNull TypeInfo targetType) {
+        return ReflectionUtils.isMethodOverridden(getClass(), PropertyAndLeafType.class,
+            "convert", Object.class, TypeInfo.class, ConvertErrorRecorder.class)
+            || canConvertToType(targetType);
+    }
+
+    /**
+     * Returns whether this type may produce an export value for values of the given class, i.e. whether the class
+     * is a subtype of this type's class. If a subclass overrides {@link #toExportValueIfApplicable}, true is returned
+     * so that the subclass is tried for all values.
+     *
+     * @param valueClass the class of the value to export
+     * @return true if this type may produce an export value for the class, false otherwise
+     */
+    @Override
+    public boolean mayExportValueOfType(@NotNull Class<?> valueClass) {
+        return ReflectionUtils.isMethodOverridden(getClass(), PropertyAndLeafType.class,
+            "toExportValueIfApplicable", Object.class)
+            || clazz.isAssignableFrom(valueClass);
+    }
+
     /**
      * Specifies whether this object can convert to the given type. Used by
      * {@link #convert(Object, TypeInfo, ConvertErrorRecorder)}.
@@ -1,6 +1,8 @@
 package ch.jalu.configme.properties.types;
 
+import ch.jalu.configme.beanmapper.BeanReuseTable;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.schema.ValueSchema;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -23,6 +25,30 @@ public interface PropertyType<T> {
      */
     @Nullable T convert(@Nullable Object object, @NotNull ConvertErrorRecorder errorRecorder);
 
+    /**
+     * Converts the given object like {@link #convert(Object, ConvertErrorRecorder)}, reusing the beans of the
+     * previous conversion from the given table whose source is unchanged. By default, the table is ignored.
+     *
+     * @param object the object to convert
+     * @param errorRecorder error recorder to register errors even if a valid value is returned
+     * @param beanReuseTable the beans of the previous conversion
+     * @return the converted value, or null
+     */
+    default @Nullable T convert(@Nullable Object object, @NotNull ConvertErrorRecorder errorRecorder,
+                                @NotNull BeanReuseTable beanReuseTable) {
+        return convert(object, errorRecorder);
+    }
+
+    /**
+     * Returns whether this type reuses the beans of previous conversions, i.e. whether a table should be passed to
+     * {@link #convert(Object, ConvertErrorRecorder, BeanReuseTable)}. False by default.
+     *
+     * @return true if this type reuses beans, false otherwise
+     */
+    default boolean isReusingBeans() {
+        return false;
+    }
+
     /**
      * Converts the given value to its export value. (Converts in the opposite way of {@link #convert}.)
      *
@@ -31,4 +57,14 @@ public interface PropertyType<T> {
      */
     @Nullable Object toExportValue(@NotNull T value);
 
+    /**
+     * Returns the schema of the values this type can convert, used to validate a property resource without
+     * converting its values. By default, a value is valid if it can be converted with {@link #convert}.
+     *
+     * @return the schema of the values this type converts
+     */
+    default @NotNull ValueSchema getValueSchema() {
+        return ValueSchema.convertedBy(value -> convert(value, new ConvertErrorRecorder()));
+    }
+
 }
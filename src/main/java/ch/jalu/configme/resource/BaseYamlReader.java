@@ -0,0 +1,184 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.internal.PathUtils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Base implementation of a property reader whose values come from a YAML document, which has been loaded
+ * into a (nested) map. Extensions define where the document is loaded from.
+ *
+ * @see YamlFileReader
+ * @see YamlStreamReader
+ */
+public abstract class BaseYamlReader implements PropertyReader {
+
+    @Override
+    public @Nullable Object getObject(@NotNull String path) {
+        Map<String, Object> root = getRootMap();
+        if (path.isEmpty()) {
+            return root;
+        }
+
+        Object node = root;
+        String[] keys = path.split("\\.");
+        for (String key : keys) {
+            node = getEntryIfIsMap(key, node);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    @Override
+    public @Nullable String getString(@NotNull String path) {
+        return getTypedObject(path, String.class);
+    }
+
+    @Override
+    public @Nullable Integer getInt(@NotNull String path) {
+        Number n = getTypedObject(path, Number.class);
+        return (n == null)
+            ? null
+            : n.intValue();
+    }
+
+    @Override
+    public @Nullable Double getDouble(@NotNull String path) {
+        Number n = getTypedObject(path, Number.class);
+        return (n == null)
+            ? null
+            : n.doubleValue();
+    }
+
+    @Override
+    public @Nullable Boolean getBoolean(@NotNull String path) {
+        return getTypedObject(path, Boolean.class);
+    }
+
+    @Override
+    public @Nullable List<?> getList(@NotNull String path) {
+        return getTypedObject(path, List.class);
+    }
+
+    @Override
+    public boolean contains(@NotNull String path) {
+        return getObject(path) != null;
+    }
+
+    @Override
+    public @NotNull Set<String> getKeys(boolean onlyLeafNodes) {
+        Map<String, Object> root = getRootMap();
+        if (root == null) {
+            return Collections.emptySet();
+        }
+        Set<String> allKeys = new LinkedHashSet<>();
+        collectKeysIntoSet("", root, allKeys, onlyLeafNodes);
+        return allKeys;
+    }
+
+    @Override
+    public @NotNull Set<String> getChildKeys(@NotNull String path) {
+        Object object = getObject(path);
+        if (object instanceof Map) {
+            String pathPrefix = path.isEmpty() ? "" : path + ".";
+            return ((Map<String, Object>) object).keySet().stream()
+                .map(childPath -> pathPrefix + childPath)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+        return Collections.emptySet();
+    }
+
+    /**
+     * Returns the root map of the YAML document. Null if the document was empty.
+     *
+     * @return the root map, or null if there is none
+     */
+    protected abstract @Nullable Map<String, Object> getRootMap();
+
+    /**
+     * Collects the keys of the given map and its nested maps into the given set, depth-first. The nested maps are
+     * visited with an explicit stack, so that maps of any depth can be processed in constant stack space.
+     *
+     * @param path the path of the given map
+     * @param map the map to process
+     * @param result set to save keys to
+     * @param onlyLeafNodes whether only leaf nodes should be added to the result set
+     */
+    private void collectKeysIntoSet(@NotNull String path, @NotNull Map<String, Object> map, @NotNull Set<String> result,
+                                    boolean onlyLeafNodes) {
+        Deque<String> paths = new ArrayDeque<>();
+        Deque<Iterator<Map.Entry<String, Object>>> iterators = new ArrayDeque<>();
+        paths.push(path);
+        iterators.push(map.entrySet().iterator());
+        while (!iterators.isEmpty()) {
+            Iterator<Map.Entry<String, Object>> entries = iterators.peek();
+            if (!entries.hasNext()) {
+                iterators.pop();
+                paths.pop();
+                continue;
+            }
+
+            Map.Entry<String, Object> entry = entries.next();
+            String childPath = PathUtils.concat(paths.peek(), entry.getKey());
+            if (!onlyLeafNodes || isLeafValue(entry.getValue())) {
+                result.add(childPath);
+            }
+
+            if (entry.getValue() instanceof Map) {
+                paths.push(childPath);
+                iterators.push(((Map<String, Object>) entry.getValue()).entrySet().iterator());
+            }
+        }
+    }
+
+    private static boolean isLeafValue(@Nullable Object o) {
+        return !(o instanceof Map) || ((Map) o).isEmpty();
+    }
+
+    /**
+     * Processes the map as read from SnakeYAML and may return a new, adjusted one.
+     *
+     * @param map the map to normalize
+     * @return the normalized map (or same map if no changes are needed)
+     */
+    protected @Nullable Map<String, Object> normalizeMap(@Nullable Map<Object, Object> map) {
+        return new MapNormalizer().normalizeMap(map);
+    }
+
+    /**
+     * Gets the object at the given path and safely casts it to the given class's type. Returns null
+     * if no value is available or if it cannot be cast.
+     *
+     * @param path the path to retrieve
+     * @param clazz the class to cast to
+     * @param <T> the class type
+     * @return cast value at the given path, null if not applicable
+     */
+    protected <T> @Nullable T getTypedObject(@NotNull String path, @NotNull Class<T> clazz) {
+        Object value = getObject(path);
+        if (clazz.isInstance(value)) {
+            return clazz.cast(value);
+        }
+        return null;
+    }
+
+    private static @Nullable Object getEntryIfIsMap(@NotNull String key, @Nullable Object value) {
+        if (value instanceof Map<?, ?>) {
+            return ((Map<?, ?>) value).get(key);
+        }
+        return null;
+    }
+}
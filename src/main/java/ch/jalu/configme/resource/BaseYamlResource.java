@@ -0,0 +1,253 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.internal.ByteBufferOutputStream;
+import ch.jalu.configme.internal.StreamUtils;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.resource.PropertyPathTraverser.PathElement;
+import ch.jalu.configme.resource.yaml.SnakeYamlEventWriter;
+import ch.jalu.configme.resource.yaml.SnakeYamlNodeBuilder;
+import ch.jalu.configme.resource.yaml.SnakeYamlNodeBuilderImpl;
+import ch.jalu.configme.resource.yaml.SnakeYamlNodeContainer;
+import ch.jalu.configme.resource.yaml.SnakeYamlNodeContainerImpl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.nodes.Node;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Base class for property resources in YAML format. Provides the export of configuration data to YAML, which can be
+ * written to any output stream, byte channel or byte buffer. Extensions define the medium the YAML is read from and
+ * written to when {@link #createReader()} and {@link #exportProperties(ConfigurationData)} are called.
+ *
+ * @see YamlFileResource
+ * @see YamlByteBufferResource
+ * @see YamlChannelResource
+ */
+public abstract class BaseYamlResource implements PropertyResource {
+
+    private final @NotNull YamlFileResourceOptions options;
+    private @Nullable Yaml yamlObject;
+
+    /**
+     * Constructor.
+     *
+     * @param options the options to read and write YAML with
+     */
+    protected BaseYamlResource(@NotNull YamlFileResourceOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Exports the provided configuration data as YAML to the given output stream. The stream is flushed
+     * but not closed.
+     *
+     * @param configurationData the configuration data to export
+     * @param outputStream the stream to write to
+     */
+    public void exportProperties(@NotNull ConfigurationData configurationData, @NotNull OutputStream outputStream) {
+        Node rootNode = createRootNode(configurationData);
+        try {
+            writeNode(rootNode, outputStream);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not write config to the output stream", e);
+        } finally {
+            onWriteComplete();
+        }
+    }
+
+    /**
+     * Exports the provided configuration data as YAML to the given channel. The channel is not closed.
+     * The channel must be in blocking mode if it is a selectable channel.
+     *
+     * @param configurationData the configuration data to export
+     * @param channel the channel to write to
+     */
+    public void exportProperties(@NotNull ConfigurationData configurationData,
+                                 @NotNull WritableByteChannel channel) {
+        exportProperties(configurationData, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Exports the provided configuration data as YAML into the given byte buffer, starting at its position.
+     * If the buffer does not have enough space left, the data is written into a new buffer of sufficient capacity
+     * instead. The returned buffer is ready to be read from: its position is the given buffer's original position and
+     * its limit is the end of the YAML data. It can be reused for subsequent exports after it has been
+     * {@link ByteBuffer#clear() cleared}.
+     *
+     * @param configurationData the configuration data to export
+     * @param buffer the buffer to write into
+     * @return the buffer with the YAML data (the same buffer as the parameter, unless its capacity was too small)
+     */
+    public @NotNull ByteBuffer exportToBuffer(@NotNull ConfigurationData configurationData,
+                                              @NotNull ByteBuffer buffer) {
+        int startPosition = buffer.position();
+        ByteBufferOutputStream outputStream = new ByteBufferOutputStream(buffer);
+        exportProperties(configurationData, outputStream);
+
+        ByteBuffer result = outputStream.getBuffer();
+        // Buffer methods are called on Buffer since ByteBuffer only overrides them from Java 9 onwards
+        ((Buffer) result).flip();
+        ((Buffer) result).position(startPosition);
+        return result;
+    }
+
+    /**
+     * Creates the YAML node representing all properties of the given configuration data.
+     *
+     * @param configurationData the configuration data to export
+     * @return the root node of the YAML document
+     */
+    protected @NotNull Node createRootNode(@NotNull ConfigurationData configurationData) {
+        SnakeYamlNodeContainer root = createNodeContainerForRoot(configurationData.getCommentsForSection(""));
+        PropertyPathTraverser pathTraverser = new PropertyPathTraverser();
+        SnakeYamlNodeBuilder nodeBuilder = createNodeBuilder();
+
+        List<Property<?>> properties = configurationData.getPropertiesToExport();
+        for (Property<?> property : properties) {
+            Object exportValue = getExportValue(property, configurationData);
+            if (exportValue != null) {
+                String path = property.getPath();
+                List<PathElement> pathElements = pathTraverser.getPathElements(path);
+                createAndAddYamlNode(exportValue, path, pathElements, root, configurationData, nodeBuilder);
+            }
+        }
+
+        if (properties.size() == 1 && "".equals(properties.get(0).getPath())) {
+            return root.getRootValueNode();
+        }
+        return root.convertToNode(nodeBuilder);
+    }
+
+    /**
+     * Writes the given YAML node to the output stream, using the charset as defined in the options. The stream
+     * is flushed but not closed. The nodes are traversed once and written as they are visited, so that the nodes
+     * of collection entries only exist while they are written (see {@link SnakeYamlEventWriter}).
+     *
+     * @param rootNode the node to write
+     * @param outputStream the stream to write to
+     * @throws IOException if writing to the stream failed
+     */
+    protected void writeNode(@NotNull Node rootNode, @NotNull OutputStream outputStream) throws IOException {
+        Writer writer = new OutputStreamWriter(outputStream, options.getCharset());
+        new SnakeYamlEventWriter(writer, createDumperOptions()).writeDocument(rootNode);
+        writer.flush();
+    }
+
+    /**
+     * Creates a YAML node for the export value and stores it, along with any comments for intermediate paths that
+     * have not been visited yet.
+     *
+     * @param exportValue the export value to store
+     * @param path the path the export value is for
+     * @param pathElements the path elements of this property's path
+     * @param rootContainer the root YAML node container for storing the export value
+     * @param configurationData the configuration data (for the retrieval of comments)
+     * @param nodeBuilder YAML node builder
+     */
+    protected void createAndAddYamlNode(@NotNull Object exportValue, @NotNull String path,
+                                        @NotNull List<PathElement> pathElements,
+                                        @NotNull SnakeYamlNodeContainer rootContainer,
+                                        @NotNull ConfigurationData configurationData,
+                                        @NotNull SnakeYamlNodeBuilder nodeBuilder) {
+        SnakeYamlNodeContainer container = rootContainer;
+        for (PathElement pathElement : pathElements) {
+            if (pathElement.isEndOfPath()) {
+                int emptyLines = options.getNumberOfEmptyLinesBefore(pathElement);
+                container.putNode(pathElement.getName(),
+                    nodeBuilder.createYamlNode(exportValue, path, configurationData, emptyLines));
+            } else {
+                container = container.getOrCreateChildContainer(pathElement.getName(),
+                    () -> getCommentsForPathElement(configurationData, pathElement));
+            }
+        }
+    }
+
+    @NotNull
+    protected List<String> getCommentsForPathElement(@NotNull ConfigurationData configurationData,
+                                                     @NotNull PathElement pathElement) {
+        return Stream.concat(
+                    StreamUtils.repeat("\n", options.getNumberOfEmptyLinesBefore(pathElement)),
+                    configurationData.getCommentsForSection(pathElement.getFullPath()).stream())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Called at the end of an export, regardless whether the execution was successful or not.
+     */
+    protected void onWriteComplete() {
+        yamlObject = null;
+    }
+
+    /**
+     * Returns the YAML instance with which values are converted to YAML.
+     *
+     * @return the YAML instance to use
+     * @deprecated nodes are written with {@link SnakeYamlEventWriter} and the options of
+     *             {@link #createDumperOptions()}; the YAML instance is no longer used for the export
+     */
+    @Deprecated
+    protected @NotNull Yaml getYamlObject() {
+        if (yamlObject == null) {
+            yamlObject = createNewYaml();
+        }
+        return yamlObject;
+    }
+
+    /**
+     * Creates a new SnakeYAML object with the appropriate options.
+     *
+     * @return the YAML instance for exporting values
+     * @deprecated override {@link #createDumperOptions()} to change how YAML is written
+     */
+    @Deprecated
+    protected @NotNull Yaml createNewYaml() {
+        return new Yaml(createDumperOptions());
+    }
+
+    /**
+     * Creates the SnakeYAML options with which the YAML is written.
+     *
+     * @return the options to write YAML with
+     */
+    protected @NotNull DumperOptions createDumperOptions() {
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        options.setAllowUnicode(true);
+        options.setProcessComments(true);
+        options.setIndent(this.options.getIndentationSize());
+        return options;
+    }
+
+    protected final @NotNull YamlFileResourceOptions getOptions() {
+        return options;
+    }
+
+    protected @NotNull SnakeYamlNodeBuilder createNodeBuilder() {
+        return new SnakeYamlNodeBuilderImpl(options);
+    }
+
+    protected @NotNull SnakeYamlNodeContainer createNodeContainerForRoot(@NotNull List<String> rootComments) {
+        return new SnakeYamlNodeContainerImpl(rootComments);
+    }
+
+    private <T> @Nullable Object getExportValue(@NotNull Property<T> property,
+                                                @NotNull ConfigurationData configurationData) {
+        return property.toExportValue(configurationData.getValue(property));
+    }
+}
@@ -0,0 +1,234 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Makes files durable by syncing them to disk and atomically moving them to their target location.
+ * <p>
+ * Each file is synced on the thread that commits it, so files of concurrent saves are synced in parallel. The moves
+ * are then performed on a single background I/O thread: commits which are submitted while the thread is busy are
+ * processed together as one batch (group commit), in which each file is moved and each affected directory is synced
+ * once for the entire batch. Threads which submit a commit wait until their batch has been processed, so concurrent
+ * saves share the directory syncs instead of each syncing the directory after the other.
+ */
+public class GroupCommitSyncer {
+
+    private static final GroupCommitSyncer SHARED_INSTANCE = new GroupCommitSyncer("ConfigMe-sync");
+
+    private final BlockingQueue<PendingCommit> pendingCommits = new LinkedBlockingQueue<>();
+    private final String threadName;
+    private @Nullable Thread ioThread;
+
+    /**
+     * Constructor.
+     *
+     * @param threadName the name of the I/O thread, started when the first commit is submitted
+     */
+    public GroupCommitSyncer(@NotNull String threadName) {
+        this.threadName = threadName;
+    }
+
+    /**
+     * Returns the instance that is shared by all resources by default.
+     *
+     * @return the shared instance
+     */
+    public static @NotNull GroupCommitSyncer getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Syncs the given temporary file to disk and atomically moves it to the target path, replacing any existing file.
+     * The file is synced on the calling thread; blocks until the commit has been processed by the I/O thread.
+     *
+     * @param tempFile the file to commit (should be in the same directory as the target)
+     * @param target the path the file should be moved to
+     * @throws IOException if the file could not be synced or moved
+     */
+    public void commit(@NotNull Path tempFile, @NotNull Path target) throws IOException {
+        syncFile(tempFile);
+        PendingCommit commit = new PendingCommit(tempFile, target);
+        submit(commit);
+        commit.await();
+    }
+
+    /**
+     * Adds the given commit to the queue of the I/O thread, and starts the thread if it is not running.
+     *
+     * @param commit the commit to submit
+     */
+    protected void submit(@NotNull PendingCommit commit) {
+        pendingCommits.add(commit);
+        startThreadIfNeeded();
+    }
+
+    /**
+     * Processes a batch of commits, whose files have already been synced: moves the files and syncs the directories
+     * they are in. Each commit in the batch must be completed or failed by this method.
+     *
+     * @param batch the commits to process
+     */
+    protected void processBatch(@NotNull List<PendingCommit> batch) {
+        List<PendingCommit> moved = new ArrayList<>(batch.size());
+        Set<Path> directoriesToSync = new LinkedHashSet<>();
+        for (PendingCommit commit : batch) {
+            try {
+                moveFile(commit.getTempFile(), commit.getTarget());
+                moved.add(commit);
+                Path directory = commit.getTarget().toAbsolutePath().getParent();
+                if (directory != null) {
+                    directoriesToSync.add(directory);
+                }
+            } catch (IOException | RuntimeException e) {
+                commit.fail(e);
+            }
+        }
+
+        for (Path directory : directoriesToSync) {
+            syncDirectory(directory);
+        }
+        moved.forEach(PendingCommit::complete);
+    }
+
+    protected void syncFile(@NotNull Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    protected void moveFile(@NotNull Path source, @NotNull Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs the given directory so that the file renames within it are durable. Not all platforms support opening
+     * directories (e.g. Windows), so errors are ignored.
+     *
+     * @param directory the directory to sync
+     */
+    protected void syncDirectory(@NotNull Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | RuntimeException ignore) {
+            // Directory syncs are best-effort
+        }
+    }
+
+    private synchronized void startThreadIfNeeded() {
+        if (ioThread == null || !ioThread.isAlive()) {
+            ioThread = new Thread(this::processCommits, threadName);
+            ioThread.setDaemon(true);
+            ioThread.start();
+        }
+    }
+
+    private void processCommits() {
+        List<PendingCommit> batch = new ArrayList<>();
+        Throwable stopCause = null;
+        try {
+            while (true) {
+                batch.add(pendingCommits.take());
+                pendingCommits.drainTo(batch);
+                processBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopCause = e;
+        } catch (RuntimeException | Error e) {
+            stopCause = e;
+            throw e;
+        } finally {
+            failRemainingCommits(batch, stopCause);
+        }
+    }
+
+    /**
+     * Called when the I/O thread stops: fails the commits which have not been processed, so that the threads waiting
+     * for them don't block forever. The next commit starts a new I/O thread.
+     *
+     * @param batch the commits of the batch that was being processed (completed commits are not changed)
+     * @param stopCause the reason the thread stopped
+     */
+    private void failRemainingCommits(@NotNull List<PendingCommit> batch, @Nullable Throwable stopCause) {
+        synchronized (this) {
+            if (ioThread == Thread.currentThread()) {
+                ioThread = null;
+            }
+            pendingCommits.drainTo(batch);
+        }
+        IOException exception = new IOException(
+            "The thread '" + threadName + "' stopped before the commit was processed", stopCause);
+        batch.forEach(commit -> commit.fail(exception));
+    }
+
+    /**
+     * A commit that has been submitted and is waiting to be processed.
+     */
+    public static final class PendingCommit {
+
+        private final Path tempFile;
+        private final Path target;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        PendingCommit(@NotNull Path tempFile, @NotNull Path target) {
+            this.tempFile = tempFile;
+            this.target = target;
+        }
+
+        public @NotNull Path getTempFile() {
+            return tempFile;
+        }
+
+        public @NotNull Path getTarget() {
+            return target;
+        }
+
+        public void complete() {
+            result.complete(null);
+        }
+
+        public void fail(@NotNull Exception exception) {
+            result.completeExceptionally(exception);
+        }
+
+        void await() throws IOException {
+            try {
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for '" + target + "' to be committed");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+    }
+}
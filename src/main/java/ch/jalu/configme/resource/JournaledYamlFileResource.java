@@ -0,0 +1,329 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * YAML file resource which persists individual property changes to an append-only journal next to the YAML file.
+ * <p>
+ * Every time a property is changed via the settings manager, a small record with the property's new export value
+ * is appended to the journal, so that persisting a change costs time proportional to the change and not to the
+ * entire configuration. When the configuration is read, the journal is replayed over the values of the YAML file.
+ * Once the journal has grown larger than the compaction threshold, the entire configuration is saved to the YAML file
+ * and the journal is deleted; the same happens on every regular {@link #exportProperties save}.
+ * <p>
+ * Each record is a YAML document with a single entry, mapping the property path to its export value (as maps, lists
+ * and scalars, without comments). If the last record is incomplete (e.g. because the application was terminated while
+ * writing it), it is ignored; an exception is thrown if any other record cannot be read.
+ * <p>
+ * Appending records, saving and reading are synchronized on the resource instance.
+ */
+public class JournaledYamlFileResource extends YamlFileResource {
+
+    /** Default size in bytes from which the journal is compacted into the YAML file. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64 * 1024;
+
+    private static final Pattern RECORD_START = Pattern.compile("^---(?=\\s|$)", Pattern.MULTILINE);
+
+    private final Path journalPath;
+    private final long compactionThreshold;
+    private @Nullable Yaml journalYaml;
+
+    /**
+     * Constructor. The journal is saved as a sibling of the YAML file, with ".journal" appended to its file name.
+     *
+     * @param path the YAML file
+     */
+    public JournaledYamlFileResource(@NotNull Path path) {
+        this(path, YamlFileResourceOptions.builder().build());
+    }
+
+    /**
+     * Constructor. The journal is saved as a sibling of the YAML file, with ".journal" appended to its file name.
+     *
+     * @param path the YAML file
+     * @param options the options for reading and writing YAML
+     */
+    public JournaledYamlFileResource(@NotNull Path path, @NotNull YamlFileResourceOptions options) {
+        this(path, options, path.resolveSibling(path.getFileName() + ".journal"), DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the YAML file
+     * @param options the options for reading and writing YAML
+     * @param journalPath the file to append changes to
+     * @param compactionThreshold size of the journal in bytes from which it is compacted into the YAML file
+     */
+    public JournaledYamlFileResource(@NotNull Path path, @NotNull YamlFileResourceOptions options,
+                                     @NotNull Path journalPath, long compactionThreshold) {
+        super(path, options);
+        this.journalPath = journalPath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public synchronized @NotNull PropertyReader createReader() {
+        Object rootValue = super.createReader().getObject("");
+        if (rootValue != null && !(rootValue instanceof Map<?, ?>)) {
+            throw new ConfigMeException("Top-level is not a map in '" + getPath() + "'");
+        }
+
+        Map<String, Object> root = (Map<String, Object>) rootValue;
+        if (Files.exists(journalPath)) {
+            root = replayJournal(root);
+        }
+        return new JournalReplayedReader(root);
+    }
+
+    /**
+     * Saves the configuration to the YAML file and deletes the journal. Synchronized with
+     * {@link #onPropertyChanged}, so that no record is appended between the save and the deletion of the journal.
+     *
+     * @param configurationData the configuration data to export
+     */
+    @Override
+    public synchronized void exportProperties(@NotNull ConfigurationData configurationData) {
+        super.exportProperties(configurationData);
+        try {
+            Files.deleteIfExists(journalPath);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not delete journal '" + journalPath + "'", e);
+        }
+    }
+
+    /**
+     * Appends the new value of the property to the journal, and compacts the journal into the YAML file if it
+     * exceeds the compaction threshold.
+     *
+     * @param property the property whose value was changed
+     * @param configurationData the configuration data with the property's new value
+     */
+    @Override
+    public synchronized void onPropertyChanged(@NotNull Property<?> property,
+                                               @NotNull ConfigurationData configurationData) {
+        Object exportValue = normalizeExportValue(getExportValue(property, configurationData));
+        String record = getJournalYaml().dump(Collections.singletonMap(property.getPath(), exportValue));
+
+        long journalSize;
+        try {
+            Files.write(journalPath, record.getBytes(getOptions().getCharset()),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            journalSize = Files.size(journalPath);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not append to journal '" + journalPath + "'", e);
+        }
+
+        if (journalSize > compactionThreshold) {
+            exportProperties(configurationData);
+        }
+    }
+
+    /**
+     * Applies all records of the journal to the given root map (the values of the YAML file).
+     *
+     * @param root the root map to apply the records to (may be modified)
+     * @return the root map with all records applied
+     */
+    protected @Nullable Map<String, Object> replayJournal(@Nullable Map<String, Object> root) {
+        String journal;
+        try {
+            journal = new String(Files.readAllBytes(journalPath), getOptions().getCharset());
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not read journal '" + journalPath + "'", e);
+        }
+
+        Yaml yaml = new Yaml();
+        List<String> records = splitIntoRecords(journal);
+        for (int i = 0; i < records.size(); ++i) {
+            boolean isLastRecord = i == records.size() - 1;
+            Object record;
+            try {
+                record = yaml.load(records.get(i));
+            } catch (YAMLException e) {
+                if (isLastRecord) {
+                    // Incomplete last record, e.g. if the application was terminated while appending to the journal
+                    break;
+                }
+                throw new ConfigMeException("Journal '" + journalPath + "' has a corrupt record (#" + (i + 1) + ")", e);
+            }
+            if (record == null && isLastRecord) {
+                break; // Only the document start of the last record was written
+            } else if (!(record instanceof Map<?, ?>)) {
+                throw new ConfigMeException("Journal '" + journalPath + "' has an invalid record (#" + (i + 1) + ")");
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) record).entrySet()) {
+                root = applyRecord(root, String.valueOf(entry.getKey()), entry.getValue());
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Converts the given export value to a structure of maps, lists and scalars (strings, numbers and booleans),
+     * which can be written as journal record and be read again without any Java-specific type information.
+     * Comments ({@link ValueWithComments}) are dropped and enums are replaced by their name, as in the YAML export.
+     *
+     * @param exportValue the export value to normalize
+     * @return the normalized value
+     */
+    protected @Nullable Object normalizeExportValue(@Nullable Object exportValue) {
+        if (exportValue == null) {
+            return null;
+        }
+
+        Object value = ValueWithComments.unwrapValue(exportValue);
+        if (value instanceof Enum<?>) {
+            return ((Enum<?>) value).name();
+        } else if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        } else if (value instanceof Iterable<?>) {
+            List<Object> list = new ArrayList<>();
+            for (Object entry : (Iterable<?>) value) {
+                list.add(normalizeExportValue(entry));
+            }
+            return list;
+        } else if (value instanceof Object[]) {
+            return normalizeExportValue(Arrays.asList((Object[]) value));
+        } else if (value instanceof Map<?, ?>) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(String.valueOf(entry.getKey()), normalizeExportValue(entry.getValue()));
+            }
+            return map;
+        }
+        throw new ConfigMeException("Unsupported export value of type " + value.getClass().getName());
+    }
+
+    /**
+     * Sets the given value at the path in the root map, creating intermediate maps as needed.
+     *
+     * @param root the root map to modify
+     * @param path the path of the record
+     * @param value the value to set, null to remove the value
+     * @return the root map (a new one if the record was for the root path)
+     */
+    protected @Nullable Map<String, Object> applyRecord(@Nullable Map<String, Object> root, @NotNull String path,
+                                                        @Nullable Object value) {
+        Object normalizedValue = value instanceof Map<?, ?>
+            ? new MapNormalizer().normalizeMap((Map<Object, Object>) value)
+            : value;
+        if (path.isEmpty()) {
+            return (Map<String, Object>) normalizedValue;
+        }
+
+        Map<String, Object> result = root == null ? new LinkedHashMap<>() : root;
+        Map<String, Object> parent = result;
+        String[] keys = path.split("\\.");
+        for (int i = 0; i < keys.length - 1; ++i) {
+            Object child = parent.get(keys[i]);
+            if (!(child instanceof Map<?, ?>)) {
+                child = new LinkedHashMap<String, Object>();
+                parent.put(keys[i], child);
+            }
+            parent = (Map<String, Object>) child;
+        }
+
+        if (normalizedValue == null) {
+            parent.remove(keys[keys.length - 1]);
+        } else {
+            parent.put(keys[keys.length - 1], normalizedValue);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the YAML instance with which journal records are written.
+     *
+     * @return YAML instance for journal records
+     */
+    protected @NotNull Yaml createJournalYaml() {
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.FLOW);
+        options.setExplicitStart(true);
+        options.setAllowUnicode(true);
+        options.setWidth(Integer.MAX_VALUE);
+        return new Yaml(options);
+    }
+
+    protected final @NotNull Path getJournalPath() {
+        return journalPath;
+    }
+
+    protected final long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    private @NotNull Yaml getJournalYaml() {
+        if (journalYaml == null) {
+            journalYaml = createJournalYaml();
+        }
+        return journalYaml;
+    }
+
+    /*
+     * Splits the journal into its records. Each record starts with a document start marker ("---") at the beginning
+     * of a line, which YAML does not allow in the content of a document.
+     */
+    private static @NotNull List<String> splitIntoRecords(@NotNull String journal) {
+        List<String> records = new ArrayList<>();
+        Matcher matcher = RECORD_START.matcher(journal);
+        int recordStart = 0;
+        while (matcher.find()) {
+            addRecordIfNotBlank(records, journal.substring(recordStart, matcher.start()));
+            recordStart = matcher.start();
+        }
+        addRecordIfNotBlank(records, journal.substring(recordStart));
+        return records;
+    }
+
+    private static void addRecordIfNotBlank(@NotNull List<String> records, @NotNull String record) {
+        if (!record.trim().isEmpty()) {
+            records.add(record);
+        }
+    }
+
+    private static <T> @Nullable Object getExportValue(@NotNull Property<T> property,
+                                                       @NotNull ConfigurationData configurationData) {
+        return property.toExportValue(configurationData.getValue(property));
+    }
+
+    /**
+     * Reader for the values of the YAML file with the journal applied to them.
+     */
+    private static final class JournalReplayedReader extends BaseYamlReader {
+
+        private final @Nullable Map<String, Object> root;
+
+        JournalReplayedReader(@Nullable Map<String, Object> root) {
+            this.root = root;
+        }
+
+        @Override
+        protected @Nullable Map<String, Object> getRootMap() {
+            return root;
+        }
+    }
+}
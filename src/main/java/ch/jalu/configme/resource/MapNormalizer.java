@@ -3,6 +3,9 @@ package ch.jalu.configme.resource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -31,7 +34,8 @@ public class MapNormalizer {
 
     /**
      * Processes the given value if it is a Map and returns an Optional with a new Map if the input
-     * value is not in its "normalized form". Recursively visits and replaces nested maps.
+     * value is not in its "normalized form". Visits and replaces nested maps. The nested maps are visited with
+     * an explicit stack, so that maps of any depth can be processed in constant stack space.
      *
      * @param value the value to process
      * @return optional with a new map to replace the given one with, empty optional if not needed or not applicable
@@ -41,25 +45,45 @@ public class MapNormalizer {
             return Optional.empty();
         }
 
-        Map<Object, Object> map = (Map<Object, Object>) value;
-        boolean mapNeedsModification = false;
-        for (Map.Entry<Object, Object> entry : map.entrySet()) {
-            createNormalizedMapIfNeeded(entry.getValue())
-                .ifPresent(newMap -> map.put(entry.getKey(), newMap));
-
-            if (!mapNeedsModification && isKeyInvalid(entry.getKey())) {
-                mapNeedsModification = true;
+        Deque<NormalizationFrame> stack = new ArrayDeque<>();
+        stack.push(new NormalizationFrame(null, null, (Map<Object, Object>) value));
+        Map<String, Object> normalizedRoot = null;
+        while (!stack.isEmpty()) {
+            NormalizationFrame frame = stack.peek();
+            if (frame.entries.hasNext()) {
+                Map.Entry<Object, Object> entry = frame.entries.next();
+                if (!frame.needsModification && isKeyInvalid(entry.getKey())) {
+                    frame.needsModification = true;
+                }
+                if (entry.getValue() instanceof Map<?, ?>) {
+                    stack.push(new NormalizationFrame(frame, entry.getKey(), (Map<Object, Object>) entry.getValue()));
+                }
+            } else {
+                stack.pop();
+                Map<String, Object> newMap = frame.needsModification ? createMapWithStringKeys(frame.map) : null;
+                if (frame.parent == null) {
+                    normalizedRoot = newMap;
+                } else if (newMap != null) {
+                    // Replacing the value of an existing key does not interfere with the parent's iteration
+                    frame.parent.map.put(frame.keyInParent, newMap);
+                }
             }
         }
+        return Optional.ofNullable(normalizedRoot);
+    }
 
-        if (mapNeedsModification) {
-            Map<String, Object> cleanedMap = new LinkedHashMap<>(map.size());
-            for (Map.Entry<Object, Object> entry : map.entrySet()) {
-                addValueIntoMap(cleanedMap, Objects.toString(entry.getKey()), entry.getValue());
-            }
-            return Optional.of(cleanedMap);
+    /**
+     * Creates a new map with the entries of the given map, whose keys are converted to Strings.
+     *
+     * @param map the map whose nested maps have already been normalized
+     * @return new map with String keys
+     */
+    protected @NotNull Map<String, Object> createMapWithStringKeys(@NotNull Map<Object, Object> map) {
+        Map<String, Object> cleanedMap = new LinkedHashMap<>(map.size());
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+            addValueIntoMap(cleanedMap, Objects.toString(entry.getKey()), entry.getValue());
         }
-        return Optional.empty();
+        return cleanedMap;
     }
 
     protected boolean isKeyInvalid(@NotNull Object key) {
@@ -75,13 +99,27 @@ public class MapNormalizer {
      * @param value the value to store
      */
     protected void addValueIntoMap(@NotNull Map<String, Object> map, @NotNull String path, @NotNull Object value) {
-        if (value instanceof Map<?, ?>) {
-            Map<String, Object> mapAtPath = getOrInsertMap(map, path);
-            Map<?, ?> mapValue = (Map<?, ?>) value;
-            mapValue.forEach((entryKey, entryValue) ->
-                addValueIntoMap(mapAtPath, Objects.toString(entryKey), entryValue));
-        } else { // value is not a map: just insert it
+        if (!(value instanceof Map<?, ?>)) { // value is not a map: just insert it
             map.put(path, value);
+            return;
+        }
+
+        // Merge the map and its nested maps depth-first, keeping the iterator of each level on an explicit stack
+        Deque<MergeFrame> stack = new ArrayDeque<>();
+        stack.push(new MergeFrame(getOrInsertMap(map, path), (Map<?, ?>) value));
+        while (!stack.isEmpty()) {
+            MergeFrame frame = stack.peek();
+            if (frame.entries.hasNext()) {
+                Map.Entry<?, ?> entry = frame.entries.next();
+                String entryPath = Objects.toString(entry.getKey());
+                if (entry.getValue() instanceof Map<?, ?>) {
+                    stack.push(new MergeFrame(getOrInsertMap(frame.target, entryPath), (Map<?, ?>) entry.getValue()));
+                } else {
+                    frame.target.put(entryPath, entry.getValue());
+                }
+            } else {
+                stack.pop();
+            }
         }
     }
 
@@ -104,4 +142,38 @@ public class MapNormalizer {
         parentMap.put(path, newMap);
         return newMap;
     }
+
+    /**
+     * Map whose entries are being visited in {@link #createNormalizedMapIfNeeded}.
+     */
+    private static final class NormalizationFrame {
+
+        private final @Nullable NormalizationFrame parent;
+        private final @Nullable Object keyInParent;
+        private final @NotNull Map<Object, Object> map;
+        private final @NotNull Iterator<Map.Entry<Object, Object>> entries;
+        private boolean needsModification;
+
+        NormalizationFrame(@Nullable NormalizationFrame parent, @Nullable Object keyInParent,
+                           @NotNull Map<Object, Object> map) {
+            this.parent = parent;
+            this.keyInParent = keyInParent;
+            this.map = map;
+            this.entries = map.entrySet().iterator();
+        }
+    }
+
+    /**
+     * Map whose entries are being merged into a target map in {@link #addValueIntoMap}.
+     */
+    private static final class MergeFrame {
+
+        private final @NotNull Map<String, Object> target;
+        private final @NotNull Iterator<? extends Map.Entry<?, ?>> entries;
+
+        MergeFrame(@NotNull Map<String, Object> target, @NotNull Map<?, ?> source) {
+            this.target = target;
+            this.entries = source.entrySet().iterator();
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package ch.jalu.configme.resource;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -25,4 +26,16 @@ public interface PropertyResource {
      */
     void exportProperties(@NotNull ConfigurationData configurationData);
 
+    /**
+     * Called after the value of a property has been changed via the settings manager. Resources may use this to
+     * persist individual changes right away. Does nothing by default: changes are only persisted when
+     * {@link #exportProperties} is called.
+     *
+     * @param property the property whose value was changed
+     * @param configurationData the configuration data, containing the property's new value
+     */
+    default void onPropertyChanged(@NotNull Property<?> property, @NotNull ConfigurationData configurationData) {
+        // noop
+    }
+
 }
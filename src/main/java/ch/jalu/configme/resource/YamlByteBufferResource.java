@@ -0,0 +1,67 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Property resource whose YAML data is held in memory in a byte buffer. The buffer is read directly (without
+ * copying its data) when a reader is created, and it is reused by every export as long as its capacity suffices.
+ * <p>
+ * This resource is useful to hold configurations in memory, e.g. when they are cached or sent over the network
+ * rather than saved to a file.
+ */
+public class YamlByteBufferResource extends BaseYamlResource {
+
+    private @Nullable ByteBuffer buffer;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer buffer with the initial YAML data (from its position to its limit), null if there is no data yet
+     */
+    public YamlByteBufferResource(@Nullable ByteBuffer buffer) {
+        this(buffer, YamlFileResourceOptions.builder().build());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param buffer buffer with the initial YAML data (from its position to its limit), null if there is no data yet;
+     *               the buffer is overwritten on export unless it is read-only
+     * @param options the options to read and write YAML with
+     */
+    public YamlByteBufferResource(@Nullable ByteBuffer buffer, @NotNull YamlFileResourceOptions options) {
+        super(options);
+        this.buffer = buffer;
+    }
+
+    @Override
+    public @NotNull PropertyReader createReader() {
+        if (buffer == null) {
+            return YamlStreamReader.fromByteBuffer(ByteBuffer.allocate(0), getOptions().getCharset());
+        }
+        return YamlStreamReader.fromByteBuffer(buffer, getOptions().getCharset());
+    }
+
+    @Override
+    public void exportProperties(@NotNull ConfigurationData configurationData) {
+        ByteBuffer target = (buffer == null || buffer.isReadOnly()) ? ByteBuffer.allocate(0) : buffer;
+        ((Buffer) target).clear(); // cast for Java 8, where ByteBuffer does not override clear()
+        buffer = exportToBuffer(configurationData, target);
+    }
+
+    /**
+     * Returns a read-only view of the YAML data held by this resource. The returned buffer's position is 0 and
+     * its limit is the end of the data.
+     *
+     * @return the YAML data, null if there is no data
+     */
+    public @Nullable ByteBuffer getBuffer() {
+        return buffer == null ? null : buffer.asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,69 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Supplier;
+
+/**
+ * Property resource which reads its YAML data from a byte channel and writes its exports to a byte channel.
+ * A new channel is requested from the respective supplier whenever data should be read or written; it is closed
+ * once the operation is complete.
+ * <p>
+ * Channels can be created for most kinds of I/O, such as sockets or compressed archives (e.g. by wrapping a stream
+ * with {@link java.nio.channels.Channels#newChannel}). Selectable channels must be in blocking mode.
+ */
+public class YamlChannelResource extends BaseYamlResource {
+
+    private final Supplier<? extends ReadableByteChannel> sourceChannelSupplier;
+    private final Supplier<? extends WritableByteChannel> targetChannelSupplier;
+
+    /**
+     * Constructor.
+     *
+     * @param sourceChannelSupplier supplier of the channel to read data from
+     * @param targetChannelSupplier supplier of the channel to export to
+     */
+    public YamlChannelResource(@NotNull Supplier<? extends ReadableByteChannel> sourceChannelSupplier,
+                               @NotNull Supplier<? extends WritableByteChannel> targetChannelSupplier) {
+        this(sourceChannelSupplier, targetChannelSupplier, YamlFileResourceOptions.builder().build());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sourceChannelSupplier supplier of the channel to read data from
+     * @param targetChannelSupplier supplier of the channel to export to
+     * @param options the options to read and write YAML with
+     */
+    public YamlChannelResource(@NotNull Supplier<? extends ReadableByteChannel> sourceChannelSupplier,
+                               @NotNull Supplier<? extends WritableByteChannel> targetChannelSupplier,
+                               @NotNull YamlFileResourceOptions options) {
+        super(options);
+        this.sourceChannelSupplier = sourceChannelSupplier;
+        this.targetChannelSupplier = targetChannelSupplier;
+    }
+
+    @Override
+    public @NotNull PropertyReader createReader() {
+        try (ReadableByteChannel channel = sourceChannelSupplier.get()) {
+            return YamlStreamReader.fromChannel(channel, getOptions().getCharset());
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not close the channel that was read from", e);
+        }
+    }
+
+    @Override
+    public void exportProperties(@NotNull ConfigurationData configurationData) {
+        try (WritableByteChannel channel = targetChannelSupplier.get()) {
+            exportProperties(configurationData, channel);
+        } catch (IOException e) {
+            throw new ConfigMeException("Could not close the channel that was written to", e);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package ch.jalu.configme.resource;
 
 import ch.jalu.configme.exception.ConfigMeException;
-import ch.jalu.configme.internal.PathUtils;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -15,17 +14,12 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * YAML file reader.
  */
-public class YamlFileReader implements PropertyReader {
+public class YamlFileReader extends BaseYamlReader {
 
     private final Path path;
     private final Charset charset;
@@ -53,107 +47,6 @@ public class YamlFileReader implements PropertyReader {
         this.root = loadFile();
     }
 
-    @Override
-    public @Nullable Object getObject(@NotNull String path) {
-        if (path.isEmpty()) {
-            return root;
-        }
-
-        Object node = root;
-        String[] keys = path.split("\\.");
-        for (String key : keys) {
-            node = getEntryIfIsMap(key, node);
-            if (node == null) {
-                return null;
-            }
-        }
-        return node;
-    }
-
-    @Override
-    public @Nullable String getString(@NotNull String path) {
-        return getTypedObject(path, String.class);
-    }
-
-    @Override
-    public @Nullable Integer getInt(@NotNull String path) {
-        Number n = getTypedObject(path, Number.class);
-        return (n == null)
-            ? null
-            : n.intValue();
-    }
-
-    @Override
-    public @Nullable Double getDouble(@NotNull String path) {
-        Number n = getTypedObject(path, Number.class);
-        return (n == null)
-            ? null
-            : n.doubleValue();
-    }
-
-    @Override
-    public @Nullable Boolean getBoolean(@NotNull String path) {
-        return getTypedObject(path, Boolean.class);
-    }
-
-    @Override
-    public @Nullable List<?> getList(@NotNull String path) {
-        return getTypedObject(path, List.class);
-    }
-
-    @Override
-    public boolean contains(@NotNull String path) {
-        return getObject(path) != null;
-    }
-
-    @Override
-    public @NotNull Set<String> getKeys(boolean onlyLeafNodes) {
-        if (root == null) {
-            return Collections.emptySet();
-        }
-        Set<String> allKeys = new LinkedHashSet<>();
-        collectKeysIntoSet("", root, allKeys, onlyLeafNodes);
-        return allKeys;
-    }
-
-    @Override
-    public @NotNull Set<String> getChildKeys(@NotNull String path) {
-        Object object = getObject(path);
-        if (object instanceof Map) {
-            String pathPrefix = path.isEmpty() ? "" : path + ".";
-            return ((Map<String, Object>) object).keySet().stream()
-                .map(childPath -> pathPrefix + childPath)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
-        }
-        return Collections.emptySet();
-    }
-
-    /**
-     * Recursively collects keys from maps into the given set.
-     *
-     * @param path the path of the given map
-     * @param map the map to process recursively
-     * @param result set to save keys to
-     * @param onlyLeafNodes whether only leaf nodes should be added to the result set
-     */
-    private void collectKeysIntoSet(@NotNull String path, @NotNull Map<String, Object> map, @NotNull Set<String> result,
-                                    boolean onlyLeafNodes) {
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            String childPath = PathUtils.concat(path, entry.getKey());
-            if (!onlyLeafNodes || isLeafValue(entry.getValue())) {
-                result.add(childPath);
-            }
-
-            if (entry.getValue() instanceof Map) {
-                collectKeysIntoSet(childPath, (Map) entry.getValue(), result, onlyLeafNodes);
-            }
-        }
-    }
-
-    private static boolean isLeafValue(@Nullable Object o) {
-        return !(o instanceof Map) || ((Map) o).isEmpty();
-    }
-
     /**
      * Loads the values of the file.
      *
@@ -173,14 +66,9 @@ public class YamlFileReader implements PropertyReader {
         }
     }
 
-    /**
-     * Processes the map as read from SnakeYAML and may return a new, adjusted one.
-     *
-     * @param map the map to normalize
-     * @return the normalized map (or same map if no changes are needed)
-     */
-    protected @Nullable Map<String, Object> normalizeMap(@Nullable Map<Object, Object> map) {
-        return new MapNormalizer().normalizeMap(map);
+    @Override
+    protected @Nullable Map<String, Object> getRootMap() {
+        return root;
     }
 
     protected final @NotNull Path getPath() {
@@ -195,29 +83,4 @@ public class YamlFileReader implements PropertyReader {
     protected final @Nullable Map<String, Object> getRoot() {
         return root;
     }
-
-    /**
-     * Gets the object at the given path and safely casts it to the given class's type. Returns null
-     * if no value is available or if it cannot be cast.
-     *
-     * @param path the path to retrieve
-     * @param clazz the class to cast to
-     * @param <T> the class type
-     * @return cast value at the given path, null if not applicable
-     */
-    protected <T> @Nullable T getTypedObject(@NotNull String path, @NotNull Class<T> clazz) {
-        Object value = getObject(path);
-        if (clazz.isInstance(value)) {
-            return clazz.cast(value);
-        }
-        return null;
-    }
-
-    private static @Nullable Object getEntryIfIsMap(@NotNull String key, @Nullable Object value) {
-        if (value instanceof Map<?, ?>) {
-            return ((Map<?, ?>) value).get(key);
-        }
-        return null;
-    }
-
 }
@@ -2,78 +2,49 @@ package ch.jalu.configme.resource;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.exception.ConfigMeException;
-import ch.jalu.configme.internal.StreamUtils;
-import ch.jalu.configme.properties.Property;
-import ch.jalu.configme.resource.PropertyPathTraverser.PathElement;
-import ch.jalu.configme.resource.yaml.SnakeYamlNodeBuilder;
-import ch.jalu.configme.resource.yaml.SnakeYamlNodeBuilderImpl;
-import ch.jalu.configme.resource.yaml.SnakeYamlNodeContainer;
-import ch.jalu.configme.resource.yaml.SnakeYamlNodeContainerImpl;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.nodes.Node;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Property resource based on a YAML file.
  */
-public class YamlFileResource implements PropertyResource {
+public class YamlFileResource extends BaseYamlResource {
 
     private final Path path;
-    private final @NotNull YamlFileResourceOptions options;
-    private @Nullable Yaml yamlObject;
 
     public YamlFileResource(@NotNull Path path) {
         this(path, YamlFileResourceOptions.builder().build());
     }
 
     public YamlFileResource(@NotNull Path path, @NotNull YamlFileResourceOptions options) {
+        super(options);
         this.path = path;
-        this.options = options;
     }
 
     @Override
     public @NotNull PropertyReader createReader() {
-        return new YamlFileReader(path, options.getCharset());
+        return new YamlFileReader(path, getOptions().getCharset());
     }
 
     @Override
     public void exportProperties(@NotNull ConfigurationData configurationData) {
-        SnakeYamlNodeContainer root = createNodeContainerForRoot(configurationData.getCommentsForSection(""));
-        PropertyPathTraverser pathTraverser = new PropertyPathTraverser();
-        SnakeYamlNodeBuilder nodeBuilder = createNodeBuilder();
-
-        List<Property<?>> properties = configurationData.getProperties();
-        for (Property<?> property : properties) {
-            Object exportValue = getExportValue(property, configurationData);
-            if (exportValue != null) {
-                String path = property.getPath();
-                List<PathElement> pathElements = pathTraverser.getPathElements(path);
-                createAndAddYamlNode(exportValue, path, pathElements, root, configurationData, nodeBuilder);
-            }
-        }
-
-        Node rootNode;
-        if (properties.size() == 1 && "".equals(properties.get(0).getPath())) {
-            rootNode = root.getRootValueNode();
-        } else {
-            rootNode = root.convertToNode(nodeBuilder);
+        Node rootNode = createRootNode(configurationData);
+        if (getOptions().isDurableSave()) {
+            exportDurably(rootNode);
+            return;
         }
 
-        try (OutputStream os = Files.newOutputStream(path);
-             OutputStreamWriter writer = new OutputStreamWriter(os, options.getCharset())) {
-            getYamlObject().serialize(rootNode, writer);
+        try (OutputStream os = Files.newOutputStream(path)) {
+            writeNode(rootNode, os);
         } catch (IOException e) {
             throw new ConfigMeException("Could not save config to '" + path + "'", e);
         } finally {
@@ -82,94 +53,80 @@ public class YamlFileResource implements PropertyResource {
     }
 
     /**
-     * Creates a YAML node for the export value and stores it, along with any comments for intermediate paths that
-     * have not been visited yet.
+     * Writes the given node to a temporary file next to the configuration file and commits it with the
+     * {@link #getSyncer() syncer}, which syncs it to disk and atomically replaces the configuration file.
      *
-     * @param exportValue the export value to store
-     * @param path the path the export value is for
-     * @param pathElements the path elements of this property's path
-     * @param rootContainer the root YAML node container for storing the export value
-     * @param configurationData the configuration data (for the retrieval of comments)
-     * @param nodeBuilder YAML node builder
+     * @param rootNode the root node to write
      */
-    protected void createAndAddYamlNode(@NotNull Object exportValue, @NotNull String path,
-                                        @NotNull List<PathElement> pathElements,
-                                        @NotNull SnakeYamlNodeContainer rootContainer,
-                                        @NotNull ConfigurationData configurationData,
-                                        @NotNull SnakeYamlNodeBuilder nodeBuilder) {
-        SnakeYamlNodeContainer container = rootContainer;
-        for (PathElement pathElement : pathElements) {
-            if (pathElement.isEndOfPath()) {
-                int emptyLines = options.getNumberOfEmptyLinesBefore(pathElement);
-                container.putNode(pathElement.getName(),
-                    nodeBuilder.createYamlNode(exportValue, path, configurationData, emptyLines));
-            } else {
-                container = container.getOrCreateChildContainer(pathElement.getName(),
-                    () -> getCommentsForPathElement(configurationData, pathElement));
+    protected void exportDurably(@NotNull Node rootNode) {
+        Path absolutePath = path.toAbsolutePath();
+        Path tempFile = null;
+        try {
+            tempFile = createTempFile(absolutePath);
+            try (OutputStream os = Files.newOutputStream(tempFile)) {
+                writeNode(rootNode, os);
             }
+            getSyncer().commit(tempFile, path);
+        } catch (IOException e) {
+            deleteTempFile(tempFile);
+            throw new ConfigMeException("Could not save config to '" + path + "'", e);
+        } catch (RuntimeException e) {
+            deleteTempFile(tempFile);
+            throw e;
+        } finally {
+            onWriteComplete();
         }
     }
 
-    @NotNull
-    protected List<String> getCommentsForPathElement(@NotNull ConfigurationData configurationData,
-                                                     @NotNull PathElement pathElement) {
-        return Stream.concat(
-                    StreamUtils.repeat("\n", options.getNumberOfEmptyLinesBefore(pathElement)),
-                    configurationData.getCommentsForSection(pathElement.getFullPath()).stream())
-            .collect(Collectors.toList());
-    }
-
-    protected final @NotNull Path getPath() {
-        return path;
-    }
-
     /**
-     * Called at the end of {@link #exportProperties}, regardless whether the execution was successful or not.
-     */
-    protected void onWriteComplete() {
-        yamlObject = null;
-    }
-
-    /**
-     * Returns the YAML instance with which values are converted to YAML.
+     * Creates the temporary file to write to before it replaces the configuration file. The file is created with the
+     * default permissions, like a file created by a regular save; if the configuration file exists, its POSIX
+     * permissions are copied so that they are not changed when the temporary file replaces it.
      *
-     * @return the YAML instance to use
+     * @param absolutePath the absolute path of the configuration file
+     * @return the created temporary file
+     * @throws IOException if the file could not be created
      */
-    protected @NotNull Yaml getYamlObject() {
-        if (yamlObject == null) {
-            yamlObject = createNewYaml();
+    protected @NotNull Path createTempFile(@NotNull Path absolutePath) throws IOException {
+        // Files#createTempFile restricts the permissions to the owner, so a unique name is generated instead
+        String tempFileName = absolutePath.getFileName() + "."
+            + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp";
+        Path tempFile = Files.createFile(absolutePath.resolveSibling(tempFileName));
+
+        PosixFileAttributeView attributeView =
+            Files.getFileAttributeView(absolutePath, PosixFileAttributeView.class);
+        if (attributeView != null && Files.exists(absolutePath)) {
+            try {
+                Files.setPosixFilePermissions(tempFile, attributeView.readAttributes().permissions());
+            } catch (IOException | RuntimeException e) {
+                deleteTempFile(tempFile);
+                throw e;
+            }
         }
-        return yamlObject;
+        return tempFile;
     }
 
     /**
-     * Creates a new SnakeYAML object with the appropriate options.
+     * Returns the syncer used to commit files if durable saves are enabled. Returns the shared instance by default,
+     * so that syncs from multiple resources can be batched together.
      *
-     * @return the YAML instance for exporting values
+     * @return the syncer to use
      */
-    protected @NotNull Yaml createNewYaml() {
-        DumperOptions options = new DumperOptions();
-        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
-        options.setAllowUnicode(true);
-        options.setProcessComments(true);
-        options.setIndent(this.options.getIndentationSize());
-        return new Yaml(options);
-    }
-
-    protected final @NotNull YamlFileResourceOptions getOptions() {
-        return options;
+    protected @NotNull GroupCommitSyncer getSyncer() {
+        return GroupCommitSyncer.getSharedInstance();
     }
 
-    protected @NotNull SnakeYamlNodeBuilder createNodeBuilder() {
-        return new SnakeYamlNodeBuilderImpl();
-    }
-
-    protected @NotNull SnakeYamlNodeContainer createNodeContainerForRoot(@NotNull List<String> rootComments) {
-        return new SnakeYamlNodeContainerImpl(rootComments);
+    protected final @NotNull Path getPath() {
+        return path;
     }
 
-    private <T> @Nullable Object getExportValue(@NotNull Property<T> property,
-                                                @NotNull ConfigurationData configurationData) {
-        return property.toExportValue(configurationData.getValue(property));
+    private static void deleteTempFile(@Nullable Path tempFile) {
+        if (tempFile != null) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignore) {
+                // Nothing more we can do; the original exception is more relevant
+            }
+        }
     }
 }
@@ -6,6 +6,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 
 /**
@@ -16,6 +17,9 @@ public class YamlFileResourceOptions {
     private final @NotNull Charset charset;
     private final @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction;
     private final int indentationSize;
+    private final int flowStyleMinimumSize;
+    private final @Nullable Predicate<String> flowStylePathPredicate;
+    private final boolean durableSave;
 
     /**
      * Constructor. Use {@link #builder()} to instantiate option objects.
@@ -27,9 +31,46 @@ public class YamlFileResourceOptions {
     protected YamlFileResourceOptions(@Nullable Charset charset,
                                       @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction,
                                       int indentationSize) {
+        this(charset, numberOfLinesBeforeFunction, indentationSize, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Constructor. Use {@link #builder()} to instantiate option objects.
+     *
+     * @param charset the charset
+     * @param numberOfLinesBeforeFunction function defining how many lines before a path element should be in the export
+     * @param indentationSize number of spaces to use for each level of indentation
+     * @param flowStyleMinimumSize minimum number of entries a list of scalars must have to be exported in flow style
+     * @param flowStylePathPredicate predicate defining the paths whose list of scalars is exported in flow style
+     */
+    protected YamlFileResourceOptions(@Nullable Charset charset,
+                                      @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction,
+                                      int indentationSize, int flowStyleMinimumSize,
+                                      @Nullable Predicate<String> flowStylePathPredicate) {
+        this(charset, numberOfLinesBeforeFunction, indentationSize, flowStyleMinimumSize, flowStylePathPredicate,
+            false);
+    }
+
+    /**
+     * Constructor. Use {@link #builder()} to instantiate option objects.
+     *
+     * @param charset the charset
+     * @param numberOfLinesBeforeFunction function defining how many lines before a path element should be in the export
+     * @param indentationSize number of spaces to use for each level of indentation
+     * @param flowStyleMinimumSize minimum number of entries a list of scalars must have to be exported in flow style
+     * @param flowStylePathPredicate predicate defining the paths whose list of scalars is exported in flow style
+     * @param durableSave whether files should be saved durably (see {@link Builder#durableSave})
+     */
+    protected YamlFileResourceOptions(@Nullable Charset charset,
+                                      @Nullable ToIntFunction<PathElement> numberOfLinesBeforeFunction,
+                                      int indentationSize, int flowStyleMinimumSize,
+                                      @Nullable Predicate<String> flowStylePathPredicate, boolean durableSave) {
         this.charset = charset == null ? StandardCharsets.UTF_8 : charset;
         this.numberOfLinesBeforeFunction = numberOfLinesBeforeFunction;
         this.indentationSize = indentationSize;
+        this.flowStyleMinimumSize = flowStyleMinimumSize;
+        this.flowStylePathPredicate = flowStylePathPredicate;
+        this.durableSave = durableSave;
     }
 
     public static @NotNull Builder builder() {
@@ -48,10 +89,35 @@ public class YamlFileResourceOptions {
         return indentationSize;
     }
 
+    public boolean isDurableSave() {
+        return durableSave;
+    }
+
+    /**
+     * Returns whether a sequence (e.g. the export value of a list, set or array property) whose entries are all
+     * scalar values should be exported in flow style ({@code [1, 2, 3]}) rather than with one line per entry.
+     *
+     * @param path the path of the sequence (e.g. the property path)
+     * @param size the number of entries in the sequence
+     * @return true if flow style should be used, false for block style
+     */
+    public boolean useFlowStyleForScalarSequence(@NotNull String path, int size) {
+        return size >= flowStyleMinimumSize
+            || (flowStylePathPredicate != null && flowStylePathPredicate.test(path));
+    }
+
     protected final @Nullable ToIntFunction<PathElement> getIndentFunction() {
         return numberOfLinesBeforeFunction;
     }
 
+    protected final int getFlowStyleMinimumSize() {
+        return flowStyleMinimumSize;
+    }
+
+    protected final @Nullable Predicate<String> getFlowStylePathPredicate() {
+        return flowStylePathPredicate;
+    }
+
     /**
      * Builder to create YAML file resource options.
      */
@@ -62,6 +128,9 @@ public class YamlFileResourceOptions {
         private Charset charset;
         private ToIntFunction<PathElement> numberOfLinesBeforeFunction;
         private int indentationSize = DEFAULT_INDENTATION_SIZE;
+        private int flowStyleMinimumSize = Integer.MAX_VALUE;
+        private Predicate<String> flowStylePathPredicate;
+        private boolean durableSave;
 
         public @NotNull Builder charset(@Nullable Charset charset) {
             this.charset = charset;
@@ -79,8 +148,48 @@ public class YamlFileResourceOptions {
             return this;
         }
 
+        /**
+         * Sets the minimum number of entries that lists of scalar values (such as the values of list, set and array
+         * properties) must have to be exported in flow style, e.g. {@code [1, 2, 3]}. Long lines are wrapped. By
+         * default, all lists are exported in block style, i.e. with one line per entry.
+         *
+         * @param minimumSize the minimum size from which lists are exported in flow style
+         * @return this builder
+         */
+        public @NotNull Builder flowStyleMinimumSize(int minimumSize) {
+            this.flowStyleMinimumSize = minimumSize;
+            return this;
+        }
+
+        /**
+         * Sets a predicate defining, by path, which lists of scalar values should be exported in flow style,
+         * e.g. {@code [1, 2, 3]}, regardless of their size. Long lines are wrapped.
+         *
+         * @param flowStylePathPredicate predicate that returns true for the paths to export in flow style
+         * @return this builder
+         */
+        public @NotNull Builder flowStylePathPredicate(@NotNull Predicate<String> flowStylePathPredicate) {
+            this.flowStylePathPredicate = flowStylePathPredicate;
+            return this;
+        }
+
+        /**
+         * Sets whether files should be saved durably. If enabled, the configuration is written to a temporary file
+         * which is synced to disk and then atomically moved to the configuration file, so that a crash during the
+         * save never leaves a truncated file behind. The syncs are batched with those of other resources saving at
+         * the same time (see {@link GroupCommitSyncer}). Disabled by default.
+         *
+         * @param durableSave true to save files durably
+         * @return this builder
+         */
+        public @NotNull Builder durableSave(boolean durableSave) {
+            this.durableSave = durableSave;
+            return this;
+        }
+
         public @NotNull YamlFileResourceOptions build() {
-            return new YamlFileResourceOptions(charset, numberOfLinesBeforeFunction, indentationSize);
+            return new YamlFileResourceOptions(charset, numberOfLinesBeforeFunction, indentationSize,
+                flowStyleMinimumSize, flowStylePathPredicate, durableSave);
         }
     }
 }
@@ -0,0 +1,94 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.internal.ByteBufferInputStream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Map;
+
+/**
+ * Reader for YAML data which is read from an input stream, a byte channel or a byte buffer instead of a file.
+ * The data is read fully on construction; the stream or channel is not closed by this reader.
+ */
+public class YamlStreamReader extends BaseYamlReader {
+
+    @Nullable
+    private final Map<String, Object> root;
+
+    /**
+     * Constructor. Reads the YAML data from the given input stream until its end.
+     *
+     * @param inputStream the stream to read from (not closed by this reader)
+     * @param charset the charset to read the data as
+     */
+    public YamlStreamReader(@NotNull InputStream inputStream, @NotNull Charset charset) {
+        this.root = loadFromStream(inputStream, charset);
+    }
+
+    /**
+     * Creates a reader with the YAML data from the given channel, which is read until its end.
+     *
+     * @param channel the channel to read from (not closed by this reader)
+     * @param charset the charset to read the data as
+     * @return reader with the data read from the channel
+     */
+    public static @NotNull YamlStreamReader fromChannel(@NotNull ReadableByteChannel channel,
+                                                        @NotNull Charset charset) {
+        return new YamlStreamReader(Channels.newInputStream(channel), charset);
+    }
+
+    /**
+     * Creates a reader with the YAML data in the given buffer, from its position to its limit. The buffer's
+     * position is not changed, and its data is read directly without being copied.
+     *
+     * @param buffer the buffer to read from
+     * @param charset the charset to read the data as
+     * @return reader with the data in the buffer
+     */
+    public static @NotNull YamlStreamReader fromByteBuffer(@NotNull ByteBuffer buffer, @NotNull Charset charset) {
+        InputStream inputStream = buffer.hasArray()
+            ? new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining())
+            : new ByteBufferInputStream(buffer);
+        return new YamlStreamReader(inputStream, charset);
+    }
+
+    /**
+     * Loads the values from the given stream.
+     *
+     * @param inputStream the stream to read from
+     * @param charset the charset to read the data as
+     * @return map with the values from the stream
+     */
+    protected @Nullable Map<String, Object> loadFromStream(@NotNull InputStream inputStream,
+                                                           @NotNull Charset charset) {
+        try {
+            // Do not close the reader as it would close the underlying stream
+            Map<Object, Object> rootMap = new Yaml().load(new InputStreamReader(inputStream, charset));
+            return normalizeMap(rootMap);
+        } catch (ClassCastException e) {
+            throw new ConfigMeException("Top-level is not a map", e);
+        } catch (YAMLException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new ConfigMeException("Could not read YAML data", e.getCause());
+            }
+            throw new ConfigMeException("YAML error while trying to load data", e);
+        }
+    }
+
+    @Override
+    protected @Nullable Map<String, Object> getRootMap() {
+        return root;
+    }
+}
@@ -0,0 +1,125 @@
+package ch.jalu.configme.resource.yaml;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.comments.CommentLine;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.events.CommentEvent;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.ImplicitTuple;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceEndEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.events.StreamEndEvent;
+import org.yaml.snakeyaml.events.StreamStartEvent;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes a SnakeYAML node as YAML document by passing the events that represent it to SnakeYAML's {@link Emitter}.
+ * <p>
+ * Unlike SnakeYAML's serializer, which visits all nodes in advance to find nodes that appear multiple times, the
+ * nodes are traversed only once and are not referenced after they have been written. This allows the nodes of
+ * collection entries to be created as they are written (see {@link SnakeYamlNodeBuilderImpl}), such that large
+ * collections are written without a node for each entry being kept in memory. Anchors and aliases are never written.
+ */
+public class SnakeYamlEventWriter {
+
+    private final Emitter emitter;
+    private final DumperOptions dumperOptions;
+    private final Resolver resolver = new Resolver();
+
+    /**
+     * Constructor.
+     *
+     * @param writer the writer to write the YAML to
+     * @param dumperOptions the options to write the YAML with
+     */
+    public SnakeYamlEventWriter(@NotNull Writer writer, @NotNull DumperOptions dumperOptions) {
+        this.emitter = new Emitter(writer, dumperOptions);
+        this.dumperOptions = dumperOptions;
+    }
+
+    /**
+     * Writes the given node as YAML document. The writer is not flushed.
+     *
+     * @param rootNode the node to write
+     * @throws IOException if writing to the writer failed
+     */
+    public void writeDocument(@NotNull Node rootNode) throws IOException {
+        emitter.emit(new StreamStartEvent(null, null));
+        emitter.emit(new DocumentStartEvent(null, null, dumperOptions.isExplicitStart(),
+            dumperOptions.getVersion(), dumperOptions.getTags()));
+        writeNode(rootNode);
+        emitter.emit(new DocumentEndEvent(null, null, dumperOptions.isExplicitEnd()));
+        emitter.emit(new StreamEndEvent(null, null));
+    }
+
+    /**
+     * Writes the events for the given node and its children.
+     *
+     * @param node the node to write
+     * @throws IOException if writing to the writer failed
+     */
+    protected void writeNode(@NotNull Node node) throws IOException {
+        writeComments(node.getBlockComments());
+        String tag = node.getTag().getValue();
+
+        if (node.getNodeId() == NodeId.scalar) {
+            ScalarNode scalarNode = (ScalarNode) node;
+            ImplicitTuple implicit = new ImplicitTuple(
+                node.getTag().equals(resolver.resolve(NodeId.scalar, scalarNode.getValue(), true)),
+                node.getTag().equals(resolver.resolve(NodeId.scalar, scalarNode.getValue(), false)));
+            emitter.emit(new ScalarEvent(null, tag, implicit, scalarNode.getValue(), null, null,
+                scalarNode.getScalarStyle()));
+        } else if (node.getNodeId() == NodeId.sequence) {
+            SequenceNode sequenceNode = (SequenceNode) node;
+            boolean implicit = node.getTag().equals(resolver.resolve(NodeId.sequence, null, true));
+            emitter.emit(new SequenceStartEvent(null, tag, implicit, null, null, sequenceNode.getFlowStyle()));
+            for (Node entry : sequenceNode.getValue()) {
+                writeNode(entry);
+            }
+            emitter.emit(new SequenceEndEvent(null, null));
+        } else if (node.getNodeId() == NodeId.mapping) {
+            if (node.getTag() == Tag.COMMENT) {
+                return;
+            }
+            MappingNode mappingNode = (MappingNode) node;
+            boolean implicit = node.getTag().equals(resolver.resolve(NodeId.mapping, null, true));
+            emitter.emit(new MappingStartEvent(null, tag, implicit, null, null, mappingNode.getFlowStyle()));
+            for (NodeTuple entry : mappingNode.getValue()) {
+                writeNode(entry.getKeyNode());
+                writeNode(entry.getValueNode());
+            }
+            emitter.emit(new MappingEndEvent(null, null));
+        } else {
+            throw new IllegalArgumentException("Unsupported node of type " + node.getNodeId());
+        }
+
+        writeComments(node.getInLineComments());
+        writeComments(node.getEndComments());
+    }
+
+    private void writeComments(@Nullable List<CommentLine> comments) throws IOException {
+        if (comments != null) {
+            for (CommentLine comment : comments) {
+                emitter.emit(new CommentEvent(comment.getCommentType(), comment.getValue(),
+                    comment.getStartMark(), comment.getEndMark()));
+            }
+        }
+    }
+}
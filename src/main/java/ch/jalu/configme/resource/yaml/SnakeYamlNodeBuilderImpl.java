@@ -3,6 +3,7 @@ package ch.jalu.configme.resource.yaml;
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.internal.StreamUtils;
 import ch.jalu.configme.properties.convertresult.ValueWithComments;
+import ch.jalu.configme.resource.YamlFileResourceOptions;
 
 import org.jetbrains.annotations.NotNull;
 import org.yaml.snakeyaml.DumperOptions;
@@ -16,19 +17,20 @@ import org.yaml.snakeyaml.nodes.SequenceNode;
 import org.yaml.snakeyaml.nodes.Tag;
 
 import java.math.BigDecimal;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static ch.jalu.configme.internal.PathUtils.concatSpecifierAware;
 import static ch.jalu.configme.internal.PathUtils.pathSpecifierForIndex;
@@ -40,6 +42,23 @@ import static ch.jalu.configme.internal.PathUtils.pathSpecifierForMapKey;
 public class SnakeYamlNodeBuilderImpl implements SnakeYamlNodeBuilder {
 
     private final Set<UUID> usedUniqueCommentIds = new HashSet<>();
+    private final YamlFileResourceOptions options;
+
+    /**
+     * Constructor; uses the default options.
+     */
+    public SnakeYamlNodeBuilderImpl() {
+        this(YamlFileResourceOptions.builder().build());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param options the resource options (to determine the flow style of sequences)
+     */
+    public SnakeYamlNodeBuilderImpl(@NotNull YamlFileResourceOptions options) {
+        this.options = options;
+    }
 
     @Override
     public @NotNull Node createYamlNode(@NotNull Object obj, @NotNull String path,
@@ -57,13 +76,11 @@ public class SnakeYamlNodeBuilderImpl implements SnakeYamlNodeBuilder {
         } else if (value instanceof Boolean) {
             node = createBooleanNode((Boolean) value);
         } else if (value instanceof Iterable<?>) {
-            Stream<?> stream = StreamSupport.stream(((Iterable<?>) value).spliterator(), false);
-            node = createSequenceNode(stream, path, configurationData);
+            node = createSequenceNode((Iterable<?>) value, path, configurationData);
         } else if (value instanceof Map<?, ?>) {
             node = createMapNode((Map<String, ?>) value, path, configurationData);
         } else if (value instanceof Object[]) {
-            Stream<?> stream = Arrays.stream((Object[]) value);
-            node = createSequenceNode(stream, path, configurationData);
+            node = createSequenceNode(Arrays.asList((Object[]) value), path, configurationData);
         } else {
             throw new IllegalArgumentException("Unsupported value of type: "
                 + (value == null ? null : value.getClass().getName()));
@@ -116,29 +133,102 @@ public class SnakeYamlNodeBuilderImpl implements SnakeYamlNodeBuilder {
     }
 
     /**
-     * Creates a SnakeYAML node representing a sequence of the entries in the stream.
+     * Creates a SnakeYAML node representing a sequence of the given entries. The nodes of the entries are not created
+     * upfront: the returned node's list creates the node of an entry whenever it is accessed, so that the entries can
+     * be written one after the other without keeping a node for each of them. The list is therefore meant to be
+     * traversed once, as done by {@link SnakeYamlEventWriter}; iterables which are not a collection are copied to a
+     * list once, as their size must be known.
      *
-     * @param entries stream of the entries (from a Java collection or array)
+     * @param entries the entries (from a Java collection or array)
      * @param path the property path
      * @param configurationData the configuration data (to retrieve comments)
      * @return SnakeYAML node representing the entries
      */
-    protected @NotNull Node createSequenceNode(@NotNull Stream<?> entries, @NotNull String path,
+    protected @NotNull Node createSequenceNode(@NotNull Iterable<?> entries, @NotNull String path,
                                                @NotNull ConfigurationData configurationData) {
-        AtomicInteger counter = new AtomicInteger();
+        Collection<?> entryCollection;
+        if (entries instanceof Collection<?>) {
+            entryCollection = (Collection<?>) entries;
+        } else {
+            List<Object> entryList = new ArrayList<>();
+            entries.forEach(entryList::add);
+            entryCollection = entryList;
+        }
 
-        List<Node> values = entries
-            .map(entry -> {
-                String entryPath = concatSpecifierAware(path, pathSpecifierForIndex(counter.getAndIncrement()));
-                return createYamlNode(entry, entryPath, configurationData, 0);
-            })
-            .collect(Collectors.toList());
+        DumperOptions.FlowStyle flowStyle = getFlowStyleForSequence(entryCollection, path, configurationData);
+        return new SequenceNode(Tag.SEQ, new EntryNodeList(entryCollection, path, configurationData), flowStyle);
+    }
 
-        return new SequenceNode(Tag.SEQ, values, DumperOptions.FlowStyle.BLOCK);
+    /**
+     * Creates the node for an entry of a sequence.
+     *
+     * @param entry the entry to create the node for
+     * @param index the index of the entry in the sequence
+     * @param path the path of the sequence
+     * @param configurationData the configuration data (to retrieve comments)
+     * @return SnakeYAML node representing the entry
+     */
+    protected @NotNull Node createSequenceEntryNode(@NotNull Object entry, int index, @NotNull String path,
+                                                    @NotNull ConfigurationData configurationData) {
+        String entryPath = concatSpecifierAware(path, pathSpecifierForIndex(index));
+        return createYamlNode(entry, entryPath, configurationData, 0);
     }
 
     /**
-     * Creates a SnakeYAML node representing a map (collection of key-value pairs).
+     * Returns the flow style to use for a sequence with the given entries. Flow style is only used for sequences
+     * whose entries are all scalars without any comments, if the {@link YamlFileResourceOptions options} define
+     * that flow style should be used for the path or number of entries.
+     *
+     * @param entries the entries of the sequence (export values)
+     * @param path the path of the sequence
+     * @param configurationData the configuration data (to retrieve comments)
+     * @return the flow style to use
+     */
+    protected @NotNull DumperOptions.FlowStyle getFlowStyleForSequence(@NotNull Collection<?> entries,
+                                                                      @NotNull String path,
+                                                                      @NotNull ConfigurationData configurationData) {
+        if (!entries.isEmpty() && options.useFlowStyleForScalarSequence(path, entries.size())) {
+            int index = 0;
+            for (Object entry : entries) {
+                String entryPath = concatSpecifierAware(path, pathSpecifierForIndex(index));
+                if (!isScalarWithoutComments(entry, entryPath, configurationData)) {
+                    return DumperOptions.FlowStyle.BLOCK;
+                }
+                ++index;
+            }
+            return DumperOptions.FlowStyle.FLOW;
+        }
+        return DumperOptions.FlowStyle.BLOCK;
+    }
+
+    /**
+     * Returns whether the given export value is represented by a scalar node without any comments.
+     *
+     * @param value the export value to inspect
+     * @param path the path of the value
+     * @param configurationData the configuration data (to retrieve comments)
+     * @return true if the value is a scalar without comments, false otherwise
+     */
+    protected boolean isScalarWithoutComments(@NotNull Object value, @NotNull String path,
+                                              @NotNull ConfigurationData configurationData) {
+        if (value instanceof ValueWithComments) {
+            ValueWithComments valueWithComments = (ValueWithComments) value;
+            UUID uniqueCommentId = valueWithComments.getUniqueCommentId();
+            if (!valueWithComments.getComments().isEmpty()
+                    && (uniqueCommentId == null || !usedUniqueCommentIds.contains(uniqueCommentId))) {
+                return false;
+            }
+        }
+
+        Object unwrappedValue = ValueWithComments.unwrapValue(value);
+        return (unwrappedValue instanceof String || unwrappedValue instanceof Number
+                || unwrappedValue instanceof Boolean || unwrappedValue instanceof Enum<?>)
+            && configurationData.getCommentsForSection(path).isEmpty();
+    }
+
+    /**
+     * Creates a SnakeYAML node representing a map (collection of key-value pairs). Like for sequences, the nodes of
+     * the map's entries are created when they are accessed in the returned node's list.
      *
      * @param value the map whose values should be in the returned node
      * @param path the property path
@@ -147,18 +237,25 @@ public class SnakeYamlNodeBuilderImpl implements SnakeYamlNodeBuilder {
      */
     protected @NotNull Node createMapNode(@NotNull Map<String, ?> value, @NotNull String path,
                                           @NotNull ConfigurationData configurationData) {
-        List<NodeTuple> nodeEntries = new ArrayList<>(value.size());
-
-        for (Map.Entry<String, ?> entry : value.entrySet()) {
-            Node keyNode = createKeyNode(entry.getKey());
-            String entryPath = concatSpecifierAware(path, pathSpecifierForMapKey(entry));
-            Node valueNode = createYamlNode(entry.getValue(), entryPath, configurationData, 0);
-            transferComments(valueNode, keyNode);
-
-            nodeEntries.add(new NodeTuple(keyNode, valueNode));
-        }
+        return new MappingNode(Tag.MAP, new EntryTupleList(value, path, configurationData),
+            DumperOptions.FlowStyle.BLOCK);
+    }
 
-        return new MappingNode(Tag.MAP, nodeEntries, DumperOptions.FlowStyle.BLOCK);
+    /**
+     * Creates the key and value nodes for an entry of a map.
+     *
+     * @param entry the map entry to create the nodes for
+     * @param path the path of the map
+     * @param configurationData the configuration data (to retrieve comments)
+     * @return tuple with the nodes representing the map entry
+     */
+    protected @NotNull NodeTuple createMapEntryNodes(@NotNull Map.Entry<String, ?> entry, @NotNull String path,
+                                                     @NotNull ConfigurationData configurationData) {
+        Node keyNode = createKeyNode(entry.getKey());
+        String entryPath = concatSpecifierAware(path, pathSpecifierForMapKey(entry));
+        Node valueNode = createYamlNode(entry.getValue(), entryPath, configurationData, 0);
+        transferComments(valueNode, keyNode);
+        return new NodeTuple(keyNode, valueNode);
     }
 
     /**
@@ -174,8 +271,14 @@ public class SnakeYamlNodeBuilderImpl implements SnakeYamlNodeBuilder {
     protected @NotNull List<CommentLine> collectComments(@NotNull Object value, @NotNull String path,
                                                          @NotNull ConfigurationData configurationData,
                                                          int numberOfNewLines) {
+        List<String> configDataComments = configurationData.getCommentsForSection(path);
+        if (numberOfNewLines == 0 && configDataComments.isEmpty() && !(value instanceof ValueWithComments)) {
+            // Fast path for the most common case (e.g. entries of a large collection)
+            return Collections.emptyList();
+        }
+
         Stream<String> emptyLineStream = StreamUtils.repeat("\n", numberOfNewLines);
-        Stream<String> configDataStream = configurationData.getCommentsForSection(path).stream();
+        Stream<String> configDataStream = configDataComments.stream();
         Stream<String> additionalCommentsStream =
             ValueWithComments.streamThroughCommentsIfApplicable(value, usedUniqueCommentIds);
 
@@ -185,10 +288,116 @@ public class SnakeYamlNodeBuilderImpl implements SnakeYamlNodeBuilder {
             .collect(Collectors.toList());
     }
 
+    protected final @NotNull YamlFileResourceOptions getOptions() {
+        return options;
+    }
+
     /**
      * @return UUIDs of comments which should not be repeated that have already been included
      */
     protected final @NotNull Set<UUID> getUsedUniqueCommentIds() {
         return usedUniqueCommentIds;
     }
+
+    /**
+     * List of the nodes of a sequence's entries, which creates each node when it is accessed.
+     */
+    private final class EntryNodeList extends AbstractList<Node> {
+
+        private final Collection<?> entries;
+        private final String path;
+        private final ConfigurationData configurationData;
+
+        EntryNodeList(@NotNull Collection<?> entries, @NotNull String path,
+                      @NotNull ConfigurationData configurationData) {
+            this.entries = entries;
+            this.path = path;
+            this.configurationData = configurationData;
+        }
+
+        @Override
+        public @NotNull Node get(int index) {
+            Object entry = entries instanceof List<?>
+                ? ((List<?>) entries).get(index)
+                : getElementByIteration(entries, index);
+            return createSequenceEntryNode(entry, index, path, configurationData);
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public @NotNull Iterator<Node> iterator() {
+            Iterator<?> entryIterator = entries.iterator();
+            return new Iterator<Node>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return entryIterator.hasNext();
+                }
+
+                @Override
+                public Node next() {
+                    return createSequenceEntryNode(entryIterator.next(), index++, path, configurationData);
+                }
+            };
+        }
+    }
+
+    /**
+     * List of the key and value nodes of a map's entries, which creates the nodes of an entry when it is accessed.
+     */
+    private final class EntryTupleList extends AbstractList<NodeTuple> {
+
+        private final Map<String, ?> map;
+        private final String path;
+        private final ConfigurationData configurationData;
+
+        EntryTupleList(@NotNull Map<String, ?> map, @NotNull String path,
+                       @NotNull ConfigurationData configurationData) {
+            this.map = map;
+            this.path = path;
+            this.configurationData = configurationData;
+        }
+
+        @Override
+        public @NotNull NodeTuple get(int index) {
+            return createMapEntryNodes(getElementByIteration(map.entrySet(), index), path, configurationData);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public @NotNull Iterator<NodeTuple> iterator() {
+            Iterator<? extends Map.Entry<String, ?>> entryIterator = map.entrySet().iterator();
+            return new Iterator<NodeTuple>() {
+                @Override
+                public boolean hasNext() {
+                    return entryIterator.hasNext();
+                }
+
+                @Override
+                public NodeTuple next() {
+                    return createMapEntryNodes(entryIterator.next(), path, configurationData);
+                }
+            };
+        }
+    }
+
+    private static <T> T getElementByIteration(@NotNull Collection<T> collection, int index) {
+        if (index < 0 || index >= collection.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + collection.size());
+        }
+        Iterator<T> iterator = collection.iterator();
+        for (int i = 0; i < index; ++i) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
 }
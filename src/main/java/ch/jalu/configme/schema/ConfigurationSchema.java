@@ -0,0 +1,82 @@
+package ch.jalu.configme.schema;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.resource.PropertyReader;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Schema of a configuration: the {@link ValueSchema} of each property, by path. Validates the values of a
+ * {@link PropertyReader} in one pass without converting them, so that broken resources can be detected (and
+ * rejected) before the values of the properties are determined.
+ * <p>
+ * Create a schema once per configuration with {@link #create(ConfigurationData)}; it can be reused for any number
+ * of validations and by multiple threads at the same time.
+ */
+public class ConfigurationSchema {
+
+    private final Map<String, ValueSchema> schemasByPath;
+
+    /**
+     * Constructor.
+     *
+     * @param schemasByPath the schema of each property, by path
+     */
+    public ConfigurationSchema(@NotNull Map<String, ValueSchema> schemasByPath) {
+        this.schemasByPath = Collections.unmodifiableMap(new LinkedHashMap<>(schemasByPath));
+    }
+
+    /**
+     * Creates the schema for the properties of the given configuration data.
+     *
+     * @param configurationData the configuration data to create the schema for
+     * @return schema of the configuration
+     */
+    public static @NotNull ConfigurationSchema create(@NotNull ConfigurationData configurationData) {
+        Map<String, ValueSchema> schemasByPath = new LinkedHashMap<>();
+        for (Property<?> property : configurationData.getProperties()) {
+            schemasByPath.put(property.getPath(), property.getValueSchema());
+        }
+        return new ConfigurationSchema(schemasByPath);
+    }
+
+    /**
+     * Validates the values of the given reader and returns a report with all violations.
+     *
+     * @param reader the reader to validate
+     * @return report with the violations
+     */
+    public @NotNull SchemaValidationReport validate(@NotNull PropertyReader reader) {
+        return validate(reader, new SchemaValidationReport());
+    }
+
+    /**
+     * Validates the values of the given reader, adding the violations to the given report.
+     *
+     * @param reader the reader to validate
+     * @param report the report to add violations to (see {@link SchemaValidationReport#SchemaValidationReport(boolean)}
+     *               to stop at the first violation)
+     * @return the given report
+     */
+    public @NotNull SchemaValidationReport validate(@NotNull PropertyReader reader,
+                                                    @NotNull SchemaValidationReport report) {
+        for (Map.Entry<String, ValueSchema> entry : schemasByPath.entrySet()) {
+            if (report.isStopped()) {
+                break;
+            }
+            entry.getValue().validate(reader.getObject(entry.getKey()), entry.getKey(), report);
+        }
+        return report;
+    }
+
+    /**
+     * @return the schema of each property, by path
+     */
+    public @NotNull Map<String, ValueSchema> getSchemasByPath() {
+        return schemasByPath;
+    }
+}
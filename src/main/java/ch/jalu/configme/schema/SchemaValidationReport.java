@@ -0,0 +1,108 @@
+package ch.jalu.configme.schema;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the {@link SchemaViolation violations} found while validating the values of a property resource.
+ * The report can be configured to stop at the first violation, for callers that only need to know whether
+ * the resource is valid.
+ */
+public class SchemaValidationReport {
+
+    private final boolean stopAtFirstViolation;
+    private final List<SchemaViolation> violations = new ArrayList<>();
+    private int skippableValueDepth;
+
+    /**
+     * Constructor for a report that collects all violations.
+     */
+    public SchemaValidationReport() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param stopAtFirstViolation whether the validation should stop once a violation has been found
+     */
+    public SchemaValidationReport(boolean stopAtFirstViolation) {
+        this.stopAtFirstViolation = stopAtFirstViolation;
+    }
+
+    /**
+     * Adds a violation for a value that is absent.
+     *
+     * @param path the path of the value
+     */
+    public void addMissingValue(@NotNull String path) {
+        violations.add(new SchemaViolation(path, SchemaViolation.Kind.MISSING, "Value is missing"));
+    }
+
+    /**
+     * Adds a violation for a value that cannot be converted. The violation is of kind
+     * {@link SchemaViolation.Kind#SKIPPED SKIPPED} if the value is part of a value that is being validated with
+     * {@link #validateSkippableValue}, and {@link SchemaViolation.Kind#INVALID INVALID} otherwise.
+     *
+     * @param path the path of the value
+     * @param reason description of the violation
+     */
+    public void addInvalidValue(@NotNull String path, @NotNull String reason) {
+        SchemaViolation.Kind kind = skippableValueDepth > 0
+            ? SchemaViolation.Kind.SKIPPED
+            : SchemaViolation.Kind.INVALID;
+        violations.add(new SchemaViolation(path, kind, reason));
+    }
+
+    /**
+     * Validates a value that the conversion skips if it cannot be converted, such as an entry of a collection.
+     * The values that cannot be converted are reported as {@link SchemaViolation.Kind#SKIPPED skipped}.
+     *
+     * @param schema the schema to validate the value with
+     * @param value the value to validate
+     * @param path the path of the value
+     */
+    public void validateSkippableValue(@NotNull ValueSchema schema, @Nullable Object value, @NotNull String path) {
+        ++skippableValueDepth;
+        try {
+            schema.validate(value, path, this);
+        } finally {
+            --skippableValueDepth;
+        }
+    }
+
+    /**
+     * @return true if the validation should not continue, i.e. the report stops at the first violation and has one
+     */
+    public boolean isStopped() {
+        return stopAtFirstViolation && !violations.isEmpty();
+    }
+
+    /**
+     * @return true if no violation was found
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Returns whether a value that cannot be converted was found. Missing and skipped values are not considered,
+     * since the conversion uses default values for them or leaves them out.
+     *
+     * @return true if an invalid value was found, false otherwise
+     */
+    public boolean hasInvalidValues() {
+        return violations.stream().anyMatch(violation -> violation.getKind() == SchemaViolation.Kind.INVALID);
+    }
+
+    /**
+     * @return the violations in the order they were found
+     */
+    public @NotNull List<SchemaViolation> getViolations() {
+        return Collections.unmodifiableList(violations);
+    }
+}
@@ -0,0 +1,63 @@
+package ch.jalu.configme.schema;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A value of a property resource that does not match the {@link ValueSchema} of its property.
+ */
+public class SchemaViolation {
+
+    private final @NotNull String path;
+    private final @NotNull Kind kind;
+    private final @NotNull String reason;
+
+    /**
+     * Constructor.
+     *
+     * @param path the path of the value, e.g. "server.endpoints[1].port"
+     * @param kind the kind of violation
+     * @param reason description of the violation
+     */
+    public SchemaViolation(@NotNull String path, @NotNull Kind kind, @NotNull String reason) {
+        this.path = path;
+        this.kind = kind;
+        this.reason = reason;
+    }
+
+    public @NotNull String getPath() {
+        return path;
+    }
+
+    public @NotNull Kind getKind() {
+        return kind;
+    }
+
+    public @NotNull String getReason() {
+        return reason;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "For path '" + path + "': " + reason;
+    }
+
+    /**
+     * The kinds of violations.
+     */
+    public enum Kind {
+
+        /** No value is present, so the default value (or a bean's field default) will be used. */
+        MISSING,
+
+        /** The value is present but cannot be converted, so the value of the property cannot be converted either. */
+        INVALID,
+
+        /**
+         * The value is present but cannot be converted, and the conversion of the property skips it: entries of
+         * collections and maps are left out, empty optionals are used, and bean properties keep the default value
+         * of their field. If the field has no default value, the bean cannot be created.
+         */
+        SKIPPED
+
+    }
+}
@@ -0,0 +1,204 @@
+package ch.jalu.configme.schema;
+
+import ch.jalu.configme.internal.PathUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static ch.jalu.configme.internal.PathUtils.pathSpecifierForIndex;
+import static ch.jalu.configme.internal.PathUtils.pathSpecifierForMapKey;
+
+/**
+ * Describes the values a property (or a part of it) can be created from, so that the values of a
+ * {@link ch.jalu.configme.resource.PropertyReader PropertyReader} can be validated without converting them.
+ * See {@link ConfigurationSchema}.
+ * <p>
+ * A schema reports the values that cannot be converted. Values that the conversion skips or replaces with a default
+ * value are reported as {@link SchemaViolation.Kind#SKIPPED SKIPPED}, so that only the values reported as
+ * {@link SchemaViolation.Kind#INVALID INVALID} keep the value of the property from being converted.
+ * <p>
+ * The static methods of this interface create the schemas for the shapes of values that are read from a resource,
+ * i.e. collections, maps and beans (maps with defined keys), and for the leaf values.
+ */
+@FunctionalInterface
+public interface ValueSchema {
+
+    /**
+     * Validates the given value and adds any violations to the report.
+     *
+     * @param value the value to validate (null if absent)
+     * @param path the path of the value, used in violations
+     * @param report the report to add violations to
+     */
+    void validate(@Nullable Object value, @NotNull String path, @NotNull SchemaValidationReport report);
+
+    /**
+     * Returns a schema that accepts any value, including null. Used if the values of a property cannot be
+     * described.
+     *
+     * @return schema accepting any value
+     */
+    static @NotNull ValueSchema any() {
+        return (value, path, report) -> { };
+    }
+
+    /**
+     * Returns a schema that accepts the values for which the given converter does not return null. Null values
+     * are reported as missing.
+     *
+     * @param converter the function converting a value, returning null if the value is invalid
+     * @return schema accepting the values that can be converted
+     */
+    static @NotNull ValueSchema convertedBy(@NotNull Function<Object, ?> converter) {
+        return (value, path, report) -> {
+            if (value == null) {
+                report.addMissingValue(path);
+            } else if (converter.apply(value) == null) {
+                report.addInvalidValue(path, "Value cannot be converted");
+            }
+        };
+    }
+
+    /**
+     * Returns a schema that accepts null, and otherwise validates the value with the given schema. Invalid values
+     * are reported as skipped since an empty optional is used for them.
+     *
+     * @param schema the schema of present values
+     * @return schema for optional values
+     */
+    static @NotNull ValueSchema optional(@NotNull ValueSchema schema) {
+        return (value, path, report) -> {
+            if (value != null) {
+                report.validateSkippableValue(schema, value, path);
+            }
+        };
+    }
+
+    /**
+     * Returns a schema that accepts collections whose entries are validated with the given schema. Invalid entries
+     * are reported as skipped since they are left out of the converted collection.
+     *
+     * @param entrySchema the schema of the entries
+     * @return schema for collections
+     */
+    static @NotNull ValueSchema listOf(@NotNull ValueSchema entrySchema) {
+        return (value, path, report) -> {
+            if (value == null) {
+                report.addMissingValue(path);
+            } else if (!(value instanceof Collection<?>)) {
+                report.addInvalidValue(path, "Expected a list");
+            } else {
+                int index = 0;
+                for (Object entry : (Collection<?>) value) {
+                    if (report.isStopped()) {
+                        return;
+                    }
+                    report.validateSkippableValue(entrySchema, entry,
+                        PathUtils.concatSpecifierAware(path, pathSpecifierForIndex(index)));
+                    ++index;
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a schema that accepts maps whose values are validated with the given schema. Invalid values are
+     * reported as skipped since their entries are left out of the converted map.
+     *
+     * @param valueSchema the schema of the map values
+     * @return schema for maps
+     */
+    static @NotNull ValueSchema mapOf(@NotNull ValueSchema valueSchema) {
+        return (value, path, report) -> {
+            if (value == null) {
+                report.addMissingValue(path);
+            } else if (!(value instanceof Map<?, ?>)) {
+                report.addInvalidValue(path, "Expected a map");
+            } else {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    if (report.isStopped()) {
+                        return;
+                    }
+                    report.validateSkippableValue(valueSchema, entry.getValue(),
+                        PathUtils.concatSpecifierAware(path, pathSpecifierForMapKey(entry)));
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a schema that accepts maps with the given properties. Each property's value is validated with its
+     * schema; other entries of the map are ignored. All properties are required, as for beans that are created
+     * with a constructor.
+     *
+     * @param propertySchemas the schema of each property, by property name
+     * @return schema for beans
+     */
+    static @NotNull ValueSchema bean(@NotNull Map<String, ValueSchema> propertySchemas) {
+        return bean(propertySchemas, false);
+    }
+
+    /**
+     * Returns a schema that accepts maps with the given properties. Each property's value is validated with its
+     * schema; other entries of the map are ignored.
+     *
+     * @param propertySchemas the schema of each property, by property name
+     * @param fieldsHaveDefaults whether the properties keep the default value of their field if their value cannot
+     *                           be converted (beans with a no-args constructor), in which case the invalid values
+     *                           are reported as skipped
+     * @return schema for beans
+     */
+    static @NotNull ValueSchema bean(@NotNull Map<String, ValueSchema> propertySchemas, boolean fieldsHaveDefaults) {
+        Map<String, ValueSchema> properties = new LinkedHashMap<>(propertySchemas);
+        return (value, path, report) -> {
+            if (value == null) {
+                report.addMissingValue(path);
+            } else if (!(value instanceof Map<?, ?>)) {
+                report.addInvalidValue(path, "Expected a map");
+            } else {
+                Map<?, ?> entries = (Map<?, ?>) value;
+                for (Map.Entry<String, ValueSchema> property : properties.entrySet()) {
+                    if (report.isStopped()) {
+                        return;
+                    }
+                    Object propertyValue = entries.get(property.getKey());
+                    String propertyPath = PathUtils.concat(path, property.getKey());
+                    if (fieldsHaveDefaults) {
+                        report.validateSkippableValue(property.getValue(), propertyValue, propertyPath);
+                    } else {
+                        property.getValue().validate(propertyValue, propertyPath, report);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a schema that delegates to the schema of the given supplier, which is only called when the first
+     * value is validated. Allows to define the schemas of recursive structures.
+     *
+     * @param schemaSupplier supplier of the schema to delegate to
+     * @return schema delegating to the supplied schema
+     */
+    static @NotNull ValueSchema lazy(@NotNull Supplier<ValueSchema> schemaSupplier) {
+        return new ValueSchema() {
+            private volatile ValueSchema schema;
+
+            @Override
+            public void validate(@Nullable Object value, @NotNull String path,
+                                 @NotNull SchemaValidationReport report) {
+                ValueSchema delegate = schema;
+                if (delegate == null) {
+                    delegate = schemaSupplier.get();
+                    schema = delegate;
+                }
+                delegate.validate(value, path, report);
+            }
+        };
+    }
+}
@@ -2,6 +2,7 @@ package ch.jalu.configme;
 
 import ch.jalu.configme.configurationdata.ConfigurationData;
 import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.configurationdata.ConfigurationDataTemplate;
 import ch.jalu.configme.migration.MigrationService;
 import ch.jalu.configme.migration.PlainMigrationService;
 import ch.jalu.configme.migration.version.VersionMigration;
@@ -35,7 +36,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -110,6 +113,27 @@ class SettingsManagerBuilderTest {
         assertThat(settingsManager.getMigrationService(), nullValue());
     }
 
+    @Test
+    void shouldCreateConfigurationDataFromTemplate() {
+        // given
+        PropertyResource resource = mock(PropertyResource.class);
+        given(resource.createReader()).willReturn(mock(PropertyReader.class));
+        ConfigurationDataTemplate template = ConfigurationDataTemplate.create(TestConfiguration.class);
+
+        // when
+        SettingsManagerImpl settingsManager1 = (SettingsManagerImpl) SettingsManagerBuilder.withResource(resource)
+            .configurationData(template)
+            .create();
+        SettingsManagerImpl settingsManager2 = (SettingsManagerImpl) SettingsManagerBuilder.withResource(resource)
+            .configurationData(template)
+            .create();
+
+        // then
+        assertThat(settingsManager1.getConfigurationData().getProperties(), sameInstance(template.getProperties()));
+        assertThat(settingsManager2.getConfigurationData(),
+            not(sameInstance(settingsManager1.getConfigurationData())));
+    }
+
     /**
      * Similar to {@link #shouldCreateSettingsManagerWithYamlFileAndDefaultMigrationService}
      * but also checks the writing and everything.
@@ -0,0 +1,65 @@
+package ch.jalu.configme.beanmapper;
+
+import ch.jalu.configme.beanmapper.polymorphic.FileHandler;
+import ch.jalu.configme.beanmapper.polymorphic.Handler;
+import ch.jalu.configme.beanmapper.polymorphic.HandlerConfig;
+import ch.jalu.configme.beanmapper.polymorphic.RedisHandler;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link BeanSubtypeTable}.
+ */
+class BeanSubtypeTableTest {
+
+    @Test
+    void shouldCreateTableFromAnnotation() {
+        // given / when
+        BeanSubtypeTable table = BeanSubtypeTable.fromAnnotation(Handler.class);
+
+        // then
+        assertThat(table.getBaseType(), equalTo(Handler.class));
+        assertThat(table.getDiscriminatorKey(), equalTo("type"));
+        assertThat(table.getSubtypes(), contains(RedisHandler.class, FileHandler.class));
+        assertThat(table.getSubtype("file"), equalTo(FileHandler.class));
+        assertThat(table.getSubtype("other"), nullValue());
+        assertThat(table.getSubtype(3), nullValue());
+        assertThat(table.getName(RedisHandler.class), equalTo("redis"));
+        assertThat(table.getName(Handler.class), nullValue());
+    }
+
+    @Test
+    void shouldReturnNullForClassWithoutAnnotation() {
+        // given / when / then
+        assertThat(BeanSubtypeTable.fromAnnotation(HandlerConfig.class), nullValue());
+    }
+
+    @Test
+    void shouldRejectInvalidSubtypes() {
+        // given
+        BeanSubtypeTable.Builder builder = BeanSubtypeTable.builder(Handler.class, "kind")
+            .add("redis", RedisHandler.class);
+
+        // when
+        IllegalArgumentException notSubtypeEx = assertThrows(IllegalArgumentException.class,
+            () -> builder.add("config", HandlerConfig.class));
+        IllegalArgumentException duplicateNameEx = assertThrows(IllegalArgumentException.class,
+            () -> builder.add("redis", FileHandler.class));
+        IllegalArgumentException duplicateTypeEx = assertThrows(IllegalArgumentException.class,
+            () -> builder.add("cache", RedisHandler.class));
+
+        // then
+        assertThat(notSubtypeEx.getMessage(), equalTo("Subtype '" + HandlerConfig.class.getName()
+            + "' does not extend '" + Handler.class.getName() + "'"));
+        assertThat(duplicateNameEx.getMessage(), equalTo("Subtype name 'redis' is used multiple times for '"
+            + Handler.class.getName() + "'"));
+        assertThat(duplicateTypeEx.getMessage(), equalTo("Subtype '" + RedisHandler.class.getName()
+            + "' has multiple names for '" + Handler.class.getName() + "'"));
+        assertThat(builder.build().getSubtypes(), contains(RedisHandler.class));
+    }
+}
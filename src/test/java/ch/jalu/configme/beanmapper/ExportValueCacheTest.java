@@ -0,0 +1,88 @@
+package ch.jalu.configme.beanmapper;
+
+import ch.jalu.configme.demo.beans.Location;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link ExportValueCache}.
+ */
+class ExportValueCacheTest {
+
+    @Test
+    void shouldReuseExportValueOfSameInstance() {
+        // given
+        ExportValueCache cache = new ExportValueCache();
+        List<Object> exportedValues = new ArrayList<>();
+        Function<Object, Object> exportFunction = value -> {
+            exportedValues.add(value);
+            return new Object();
+        };
+        Location location = new Location();
+
+        // when
+        Object exportValue1 = cache.getExportValue(location, exportFunction);
+        Object exportValue2 = cache.getExportValue(location, exportFunction);
+
+        // then
+        assertThat(exportValue2, sameInstance(exportValue1));
+        assertThat(exportedValues, contains(location));
+    }
+
+    @Test
+    void shouldCreateExportValueForOtherInstanceOrAfterClear() {
+        // given
+        ExportValueCache cache = new ExportValueCache();
+        List<Object> exportedValues = new ArrayList<>();
+        Function<Object, Object> exportFunction = value -> {
+            exportedValues.add(value);
+            return null;
+        };
+        Location location1 = new Location();
+        Location location2 = new Location();
+
+        // when
+        Object exportValue1 = cache.getExportValue(location1, exportFunction);
+        cache.getExportValue(location1, exportFunction);
+        cache.getExportValue(location2, exportFunction);
+        cache.clear();
+        cache.getExportValue(location2, exportFunction);
+
+        // then
+        assertThat(exportValue1, nullValue());
+        assertThat(exportedValues, contains(sameInstance(location1), sameInstance(location2),
+            sameInstance(location2)));
+    }
+
+    @Test
+    void shouldKeepExportValueOfEachInstance() {
+        // given
+        ExportValueCache cache = new ExportValueCache();
+        List<Object> exportedValues = new ArrayList<>();
+        Function<Object, Object> exportFunction = value -> {
+            exportedValues.add(value);
+            return new Object();
+        };
+        Location location1 = new Location();
+        Location location2 = new Location();
+
+        // when
+        Object exportValue1 = cache.getExportValue(location1, exportFunction);
+        Object exportValue2 = cache.getExportValue(location2, exportFunction);
+        Object exportValue1Again = cache.getExportValue(location1, exportFunction);
+        Object exportValue2Again = cache.getExportValue(location2, exportFunction);
+
+        // then
+        assertThat(exportValue1Again, sameInstance(exportValue1));
+        assertThat(exportValue2Again, sameInstance(exportValue2));
+        assertThat(exportedValues, contains(sameInstance(location1), sameInstance(location2)));
+    }
+}
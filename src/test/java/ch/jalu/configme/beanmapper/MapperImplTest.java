@@ -8,11 +8,19 @@ import ch.jalu.configme.beanmapper.command.Executor;
 import ch.jalu.configme.beanmapper.command.optionalproperties.ComplexCommand;
 import ch.jalu.configme.beanmapper.command.optionalproperties.ComplexCommandConfig;
 import ch.jalu.configme.beanmapper.command.optionalproperties.ComplexOptionalTypeConfig;
+import ch.jalu.configme.beanmapper.immutable.EndpointConfig;
+import ch.jalu.configme.beanmapper.immutable.ServerEndpoint;
 import ch.jalu.configme.beanmapper.context.MappingContext;
 import ch.jalu.configme.beanmapper.context.MappingContextImpl;
 import ch.jalu.configme.beanmapper.leafvaluehandler.LeafValueHandler;
 import ch.jalu.configme.beanmapper.leafvaluehandler.LeafValueHandlerImpl;
+import ch.jalu.configme.beanmapper.specialtypes.NumericTables;
+import ch.jalu.configme.beanmapper.polymorphic.FileHandler;
+import ch.jalu.configme.beanmapper.polymorphic.HandlerConfig;
+import ch.jalu.configme.beanmapper.polymorphic.RedisHandler;
 import ch.jalu.configme.beanmapper.propertydescription.BeanDescriptionFactory;
+import ch.jalu.configme.beanmapper.propertydescription.BeanDescriptionFactoryImpl;
+import ch.jalu.configme.beanmapper.recursive.TreeNode;
 import ch.jalu.configme.beanmapper.typeissues.GenericCollection;
 import ch.jalu.configme.beanmapper.typeissues.MapWithNonStringKeys;
 import ch.jalu.configme.beanmapper.typeissues.UnsupportedCollection;
@@ -22,11 +30,17 @@ import ch.jalu.configme.beanmapper.worldgroup.GameMode;
 import ch.jalu.configme.beanmapper.worldgroup.Group;
 import ch.jalu.configme.beanmapper.worldgroup.WorldGroupConfig;
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.convertresult.ConvertError;
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.properties.convertresult.ValueWithComments;
 import ch.jalu.configme.resource.PropertyReader;
 import ch.jalu.configme.resource.YamlFileReader;
+import ch.jalu.configme.schema.SchemaValidationReport;
+import ch.jalu.configme.schema.SchemaViolation;
+import ch.jalu.configme.schema.ValueSchema;
 import ch.jalu.configme.samples.TestEnum;
 import ch.jalu.typeresolver.TypeInfo;
+import ch.jalu.typeresolver.reference.TypeReference;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -35,16 +49,35 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static ch.jalu.configme.TestUtils.getJarPath;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -53,11 +86,14 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -187,7 +223,7 @@ class MapperImplTest {
 
         // then
         assertThat(ex.getMessage(), equalTo(
-            "The key type of maps may only be of String type, for mapping of: "
+            "The key type of maps may only be of String or enum type, for mapping of: "
                 + "[Bean path: 'map', type: 'java.util.Map<java.lang.Integer, java.lang.Integer>']"));
     }
 
@@ -203,7 +239,8 @@ class MapperImplTest {
 
         // then
         assertThat(ex.getMessage(),
-            equalTo("Unsupported collection type 'interface java.util.Deque', for mapping of: [Bean path: 'collection', type: 'java.util.Deque<java.lang.Double>']"));
+            equalTo("Unsupported collection type 'interface java.util.concurrent.BlockingQueue', for mapping of: "
+                + "[Bean path: 'collection', type: 'java.util.concurrent.BlockingQueue<java.lang.Double>']"));
     }
 
     @Test
@@ -466,6 +503,481 @@ class MapperImplTest {
         assertThat(returnedLeafValueHandler, sameInstance(leafValueHandler));
     }
 
+    @Test
+    void shouldCreateImmutableBeansViaConstructor() {
+        // given
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("host", "example.org");
+        first.put("port_number", 8443);
+        first.put("secure", true);
+        first.put("aliases", Arrays.asList("a", "b"));
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("host", "localhost");
+        second.put("port_number", "invalid");
+        second.put("secure", false);
+        second.put("aliases", Collections.emptyList());
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        endpoints.put("first", first);
+        endpoints.put("second", second);
+
+        MapperImpl mapper = new MapperImpl();
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        EndpointConfig result = mapper.convertToBean(
+            Collections.singletonMap("endpoints", endpoints), EndpointConfig.class, errorRecorder);
+
+        // then
+        assertThat(result.getEndpoints().keySet(), contains("first"));
+        ServerEndpoint endpoint = result.getEndpoints().get("first");
+        assertThat(endpoint.getHost(), equalTo("example.org"));
+        assertThat(endpoint.getPort(), equalTo(8443));
+        assertThat(endpoint.isSecure(), equalTo(true));
+        assertThat(endpoint.getAliases(), contains("a", "b"));
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+    }
+
+    @Test
+    void shouldExportImmutableBean() {
+        // given
+        ServerEndpoint endpoint = new ServerEndpoint("example.org", 80, false, Collections.singletonList("web"));
+        MapperImpl mapper = new MapperImpl();
+
+        // when
+        Object exportValue = mapper.toExportValue(endpoint);
+
+        // then
+        assertThat(exportValue, instanceOf(Map.class));
+        Map<?, ?> exportMap = (Map<?, ?>) exportValue;
+        assertThat(exportMap.keySet(), contains("host", "port_number", "secure", "aliases"));
+        assertThat(((ValueWithComments) exportMap.get("host")).getValue(), equalTo("example.org"));
+        assertThat(exportMap.get("port_number"), equalTo(80));
+        assertThat(exportMap.get("aliases"), equalTo(Collections.singletonList("web")));
+    }
+
+    @Test
+    void shouldCreateAndExportRecord(@TempDir Path tempDir) throws Exception {
+        // given
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null && isRecordSupported());
+        Path sourceFile = tempDir.resolve("Coordinate.java");
+        Files.write(sourceFile, Collections.singletonList(
+            "public record Coordinate(String world, int x, int z, java.util.List<String> tags) { }"));
+        assertThat(compiler.run(null, null, null, "-d", tempDir.toString(), sourceFile.toString()), equalTo(0));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{ tempDir.toUri().toURL() })) {
+            Class<?> recordClass = classLoader.loadClass("Coordinate");
+            Map<String, Object> value = new HashMap<>();
+            value.put("world", "nether");
+            value.put("x", 12);
+            value.put("z", -3);
+            value.put("tags", Arrays.asList("spawn", "portal"));
+            MapperImpl mapper = new MapperImpl();
+
+            // when
+            Object result = mapper.convertToBean(value, recordClass, new ConvertErrorRecorder());
+            Object exportValue = mapper.toExportValue(result);
+
+            // then
+            assertThat(result, notNullValue());
+            assertThat(result.toString(), equalTo("Coordinate[world=nether, x=12, z=-3, tags=[spawn, portal]]"));
+            assertThat(exportValue, instanceOf(Map.class));
+            assertThat(((Map<?, ?>) exportValue).keySet(), contains("world", "x", "z", "tags"));
+            assertThat(exportValue, equalTo(value));
+        }
+    }
+
+    @Test
+    void shouldMapArraysAndEnumCollections() {
+        // given
+        PropertyReader reader = createReaderFromFile("/beanmapper/specialtypes/numeric_tables.yml");
+        MapperImpl mapper = new MapperImpl();
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        NumericTables result = mapper.convertToBean(reader.getObject("tables"), NumericTables.class, errorRecorder);
+
+        // then
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        assertThat(result.getCounts(), equalTo(new int[]{ 3, 1, 4 }));
+        assertThat(result.getTimestamps(), equalTo(new long[]{ 1700000000000L, 1700000060000L }));
+        assertThat(result.getRatios(), equalTo(new double[]{ 0.5, 1.25 }));
+        assertThat(result.getLabels(), equalTo(new String[]{ "a", "b", "c" }));
+        assertThat(result.getEnabled(), equalTo(EnumSet.of(TestEnum.FIRST, TestEnum.THIRD)));
+        assertThat(result.getLimits().keySet(), contains(TestEnum.FIRST, TestEnum.SECOND));
+        assertThat(result.getLimits().get(TestEnum.SECOND), equalTo(20));
+        assertThat(result.getNames(), equalTo(Collections.singletonMap(TestEnum.FOURTH, "Four")));
+        assertThat(result.getHistory(), instanceOf(ArrayDeque.class));
+        assertThat(result.getHistory(), contains("one", "two", "three"));
+    }
+
+    @Test
+    void shouldExportArraysAndEnumCollections() {
+        // given
+        NumericTables tables = new NumericTables();
+        tables.setCounts(new int[]{ 7, 8 });
+        tables.setTimestamps(new long[0]);
+        tables.setRatios(new double[]{ 0.75 });
+        tables.setLabels(new String[]{ "x" });
+        tables.setEnabled(EnumSet.of(TestEnum.SECOND));
+        tables.setLimits(new EnumMap<>(Collections.singletonMap(TestEnum.THIRD, 3)));
+        tables.setNames(Collections.singletonMap(TestEnum.FIRST, "One"));
+        tables.setHistory(new ArrayDeque<>(Arrays.asList("a", "b")));
+        MapperImpl mapper = new MapperImpl();
+
+        // when
+        Map<?, ?> exportValue = (Map<?, ?>) mapper.toExportValue(tables);
+
+        // then
+        assertThat(exportValue.get("counts"), equalTo(Arrays.asList(7, 8)));
+        assertThat(exportValue.get("timestamps"), equalTo(Collections.emptyList()));
+        assertThat(exportValue.get("ratios"), equalTo(Collections.singletonList(0.75)));
+        assertThat(exportValue.get("labels"), equalTo(Collections.singletonList("x")));
+        assertThat(exportValue.get("enabled"), equalTo(Collections.singletonList("SECOND")));
+        assertThat(exportValue.get("limits"), equalTo(Collections.singletonMap("THIRD", 3)));
+        assertThat(exportValue.get("names"), equalTo(Collections.singletonMap("FIRST", "One")));
+        assertThat(exportValue.get("history"), equalTo(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    void shouldCreatePresizedAndSpecializedCollections() {
+        // given
+        MapperImpl mapper = new MapperImpl();
+        MappingContext dequeCtx = createContextWithTargetType(Deque.class);
+        MappingContext enumSetCtx = MappingContextImpl.createRoot(
+            new TypeReference<EnumSet<TestEnum>>() { }, new ConvertErrorRecorder());
+        MappingContext sortedSetCtx = createContextWithTargetType(SortedSet.class);
+
+        // when / then
+        assertThat(mapper.createCollectionMatchingType(dequeCtx, 10), instanceOf(ArrayDeque.class));
+        assertThat(mapper.createCollectionMatchingType(enumSetCtx, 2), equalTo(EnumSet.noneOf(TestEnum.class)));
+        assertThat(mapper.createCollectionMatchingType(sortedSetCtx, 5), instanceOf(TreeSet.class));
+    }
+
+    @Test
+    void shouldConvertLargeCollectionInParallelLikeSequentially() {
+        // given
+        List<Object> value = new ArrayList<>();
+        for (int i = 0; i < 200; ++i) {
+            if (i % 17 == 0) {
+                value.add(Collections.singletonMap("invalid", i));
+            } else {
+                value.add(Arrays.asList(i, i % 11 == 0 ? "invalid" : i * 2));
+            }
+        }
+        TypeInfo type = new TypeReference<List<List<Integer>>>() { };
+        ForkJoinPool pool = new ForkJoinPool(4);
+        MapperImpl parallelMapper = new MapperImpl(new BeanDescriptionFactoryImpl(),
+            new LeafValueHandlerImpl(LeafValueHandlerImpl.createDefaultLeafTypes()),
+            new ParallelCollectionConversion(pool, 50, 7));
+        MapperImpl sequentialMapper = new MapperImpl();
+        ReasonRecorder parallelErrorRecorder = new ReasonRecorder();
+        ReasonRecorder sequentialErrorRecorder = new ReasonRecorder();
+
+        // when
+        Object parallelResult = parallelMapper.convertToBean(value, type, parallelErrorRecorder);
+        Object sequentialResult = sequentialMapper.convertToBean(value, type, sequentialErrorRecorder);
+
+        // then
+        pool.shutdown();
+        assertThat(parallelResult, equalTo(sequentialResult));
+        assertThat(((List<?>) parallelResult).size(), equalTo(188));
+        assertThat(parallelErrorRecorder.isFullyValid(), equalTo(false));
+        assertThat(parallelErrorRecorder.reasons, equalTo(sequentialErrorRecorder.reasons));
+        assertThat(parallelErrorRecorder.reasons.get(0),
+            equalTo("For bean path '': Cannot convert value at index 0"));
+    }
+
+    @Test
+    void shouldConvertSequentiallyIfContextDoesNotSupportOtherErrorRecorders() {
+        // given
+        MapperImpl mapper = new MapperImpl(new BeanDescriptionFactoryImpl(),
+            new LeafValueHandlerImpl(LeafValueHandlerImpl.createDefaultLeafTypes()),
+            ParallelCollectionConversion.withCommonPool(2));
+        ConvertErrorRecorder errorRecorder = ConvertErrorRecorder.collectingErrors();
+        MappingContext context = new ContextWithDefaultMethods(
+            MappingContextImpl.createRoot(new TypeReference<List<Integer>>() { }, errorRecorder));
+
+        // when
+        Collection<?> result = mapper.convertToCollection(context, Arrays.asList(3, "invalid", 5, 7));
+
+        // then
+        assertThat(context.withErrorRecorder(new ConvertErrorRecorder()), nullValue());
+        assertThat(result, contains(3, 5, 7));
+        assertThat(toStrings(errorRecorder.getErrors()),
+            contains("For bean path '': Cannot convert value at index 1"));
+    }
+
+    @Test
+    void shouldConvertSmallCollectionSequentially() {
+        // given
+        MapperImpl mapper = new MapperImpl(new BeanDescriptionFactoryImpl(),
+            new LeafValueHandlerImpl(LeafValueHandlerImpl.createDefaultLeafTypes()),
+            ParallelCollectionConversion.withCommonPool(3));
+
+        // when / then
+        assertThat(mapper.shouldConvertInParallel(Arrays.asList(1, 2)), equalTo(false));
+        assertThat(mapper.shouldConvertInParallel(Arrays.asList(1, 2, 3)), equalTo(true));
+        assertThat(new MapperImpl().shouldConvertInParallel(Arrays.asList(1, 2, 3)), equalTo(false));
+    }
+
+    @Test
+    void shouldInternTypesOfMappingPlans() {
+        // given
+        MapperImpl mapper = new MapperImpl();
+        TypeInfo type = new TypeReference<Map<String, List<Set<Integer>>>>() { };
+
+        // when
+        TypeMappingPlan plan = mapper.getTypeMappingPlan(type);
+        TypeInfo listType = mapper.internType(new TypeReference<List<Set<Integer>>>() { });
+        TypeInfo setType = mapper.internType(new TypeReference<Set<Integer>>() { });
+
+        // then
+        assertThat(mapper.getTypeMappingPlan(new TypeReference<Map<String, List<Set<Integer>>>>() { }),
+            sameInstance(plan));
+        assertThat(plan.getTypeArgument(1), sameInstance(listType));
+        assertThat(mapper.getTypeMappingPlan(listType).getTypeArgument(0), sameInstance(setType));
+        assertThat(mapper.getTypeMappingPlan(setType).getRawClass(), equalTo(Set.class));
+    }
+
+    @Test
+    void shouldNotConvertValuesNestedTooDeeply() {
+        // given
+        MapperImpl mapper = new MapperImpl();
+        Map<String, Object> root = createTreeNodeMap(0);
+        Map<String, Object> parent = root;
+        for (int i = 1; i < 5000; ++i) {
+            Map<String, Object> child = createTreeNodeMap(i);
+            parent.put("children", Collections.singletonList(child));
+            parent = child;
+        }
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        TreeNode result = (TreeNode) mapper.convertToBean(root, new TypeInfo(TreeNode.class), errorRecorder);
+
+        // then
+        int levels = 1;
+        TreeNode node = result;
+        while (!node.getChildren().isEmpty()) {
+            node = node.getChildren().get(0);
+            assertThat(node.getName(), equalTo("node" + levels));
+            ++levels;
+        }
+        // Each level of the tree is two levels deep in the value: the property "children" and the list entry
+        assertThat(levels, equalTo(MapperImpl.DEFAULT_MAX_NESTING_DEPTH / 2));
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+    }
+
+    @Test
+    void shouldThrowForExportOfSelfReferencingBean() {
+        // given
+        MapperImpl mapper = new MapperImpl();
+        TreeNode node = new TreeNode();
+        node.setName("loop");
+        node.getChildren().add(node);
+
+        // when
+        ConfigMeMapperException ex = assertThrows(ConfigMeMapperException.class, () -> mapper.toExportValue(node));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Cannot export a value that is nested more than "
+            + MapperImpl.DEFAULT_MAX_NESTING_DEPTH + " levels deep. Does the value reference itself?"));
+    }
+
+    @Test
+    void shouldCreateValueSchemaOfBeanOnce() {
+        // given
+        MapperImpl mapper = new MapperImpl();
+        TypeInfo type = new TypeReference<List<EndpointConfig>>() { };
+        Map<String, Object> endpoint = new HashMap<>();
+        endpoint.put("host", "h");
+        endpoint.put("port_number", "x");
+        Map<String, Object> config = Collections.singletonMap("endpoints", Collections.singletonMap("a", endpoint));
+        SchemaValidationReport report = new SchemaValidationReport();
+
+        // when
+        ValueSchema schema = mapper.getValueSchema(type);
+        schema.validate(Arrays.asList(config, "b"), "list", report);
+
+        // then
+        assertThat(mapper.getValueSchema(new TypeReference<List<EndpointConfig>>() { }), sameInstance(schema));
+        assertThat(report.getViolations().stream().map(SchemaViolation::toString).collect(Collectors.toList()),
+            contains("For path 'list[0].endpoints[k=a].port_number': Value cannot be converted",
+                "For path 'list[0].endpoints[k=a].secure': Value is missing",
+                "For path 'list[0].endpoints[k=a].aliases': Value is missing",
+                "For path 'list[1]': Expected a map"));
+    }
+
+    @Test
+    void shouldMapToSubtypesByDiscriminator() {
+        // given
+        Map<String, Object> redis = new LinkedHashMap<>();
+        redis.put("type", "redis");
+        redis.put("host", "cache.local");
+        redis.put("port", 6379);
+        redis.put("enabled", true);
+        Map<String, Object> file = new LinkedHashMap<>();
+        file.put("type", "file");
+        file.put("path", "/var/log/app.log");
+        file.put("enabled", false);
+        Map<String, Object> unknown = new LinkedHashMap<>();
+        unknown.put("type", "kafka");
+        unknown.put("enabled", true);
+        Map<String, Object> value = Collections.singletonMap("handlers", Arrays.asList(redis, file, unknown));
+        MapperImpl mapper = new MapperImpl();
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        HandlerConfig result = mapper.convertToBean(value, HandlerConfig.class, errorRecorder);
+
+        // then
+        assertThat(result.getHandlers(), hasSize(2));
+        RedisHandler redisHandler = (RedisHandler) result.getHandlers().get(0);
+        assertThat(redisHandler.getHost(), equalTo("cache.local"));
+        assertThat(redisHandler.getPort(), equalTo(6379));
+        assertThat(redisHandler.isEnabled(), equalTo(true));
+        FileHandler fileHandler = (FileHandler) result.getHandlers().get(1);
+        assertThat(fileHandler.getPath(), equalTo("/var/log/app.log"));
+        assertThat(fileHandler.isEnabled(), equalTo(false));
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+    }
+
+    @Test
+    void shouldExportSubtypesWithDiscriminator() {
+        // given
+        HandlerConfig config = new HandlerConfig();
+        config.setHandlers(Arrays.asList(new FileHandler("out.txt"), new RedisHandler("localhost", 6380)));
+        MapperImpl mapper = new MapperImpl();
+
+        // when
+        Map<?, ?> exportValue = (Map<?, ?>) mapper.toExportValue(config);
+        HandlerConfig reloaded = mapper.convertToBean(exportValue, HandlerConfig.class, new ConvertErrorRecorder());
+
+        // then
+        List<?> handlers = (List<?>) exportValue.get("handlers");
+        assertThat(((Map<?, ?>) handlers.get(0)).keySet(), contains("type", "path", "enabled"));
+        assertThat(((Map<?, ?>) handlers.get(0)).get("type"), equalTo("file"));
+        assertThat(((Map<?, ?>) handlers.get(1)).keySet(), contains("type", "host", "port", "enabled"));
+        assertThat(((Map<?, ?>) handlers.get(1)).get("type"), equalTo("redis"));
+        assertThat(reloaded.getHandlers().get(0), instanceOf(FileHandler.class));
+        assertThat(((RedisHandler) reloaded.getHandlers().get(1)).getPort(), equalTo(6380));
+    }
+
+    @Test
+    void shouldReuseBeansWithUnchangedValue() {
+        // given
+        MapperImpl mapper = new MapperImpl();
+        BeanReuseTable beanReuseTable = new BeanReuseTable();
+        Object firstLoad = Collections.singletonMap("endpoints", createEndpointMaps("backup.local"));
+        Object secondLoad = Collections.singletonMap("endpoints", createEndpointMaps("backup.local"));
+        Object thirdLoad = Collections.singletonMap("endpoints", createEndpointMaps("fallback.local"));
+
+        // when
+        EndpointConfig result1 = (EndpointConfig) mapper.convertToBean(firstLoad, new TypeInfo(EndpointConfig.class),
+            new ConvertErrorRecorder(), beanReuseTable);
+        EndpointConfig result2 = (EndpointConfig) mapper.convertToBean(secondLoad, new TypeInfo(EndpointConfig.class),
+            new ConvertErrorRecorder(), beanReuseTable);
+        EndpointConfig result3 = (EndpointConfig) mapper.convertToBean(thirdLoad, new TypeInfo(EndpointConfig.class),
+            new ConvertErrorRecorder(), beanReuseTable);
+
+        // then
+        assertThat(result2, sameInstance(result1));
+        assertThat(result3, not(sameInstance(result1)));
+        assertThat(result3.getEndpoints().get("main"), sameInstance(result1.getEndpoints().get("main")));
+        assertThat(result3.getEndpoints().get("backup"), not(sameInstance(result1.getEndpoints().get("backup"))));
+        assertThat(result3.getEndpoints().get("backup").getHost(), equalTo("fallback.local"));
+        assertThat(beanReuseTable.size(), equalTo(3));
+    }
+
+    @Test
+    void shouldOnlyKeepBeansOfLastConversion() {
+        // given
+        MapperImpl mapper = new MapperImpl();
+        BeanReuseTable beanReuseTable = new BeanReuseTable();
+        Map<String, Object> endpoints = createEndpointMaps("backup.local");
+        Object firstLoad = Collections.singletonMap("endpoints", endpoints);
+        Map<String, Object> reducedEndpoints = new LinkedHashMap<>(endpoints);
+        reducedEndpoints.remove("backup");
+        Object secondLoad = Collections.singletonMap("endpoints", reducedEndpoints);
+
+        // when
+        EndpointConfig result1 = (EndpointConfig) mapper.convertToBean(firstLoad, new TypeInfo(EndpointConfig.class),
+            new ConvertErrorRecorder(), beanReuseTable);
+        int sizeAfterFirstLoad = beanReuseTable.size();
+        EndpointConfig result2 = (EndpointConfig) mapper.convertToBean(secondLoad, new TypeInfo(EndpointConfig.class),
+            new ConvertErrorRecorder(), beanReuseTable);
+        EndpointConfig result3 = (EndpointConfig) mapper.convertToBean(firstLoad, new TypeInfo(EndpointConfig.class),
+            new ConvertErrorRecorder(), beanReuseTable);
+
+        // then
+        assertThat(sizeAfterFirstLoad, equalTo(3));
+        assertThat(result2.getEndpoints().get("main"), sameInstance(result1.getEndpoints().get("main")));
+        assertThat(result3.getEndpoints().get("main"), sameInstance(result1.getEndpoints().get("main")));
+        // the backup endpoint was dropped by the second conversion, so it is created again
+        assertThat(result3.getEndpoints().get("backup"), not(sameInstance(result1.getEndpoints().get("backup"))));
+        assertThat(beanReuseTable.size(), equalTo(3));
+    }
+
+    @Test
+    void shouldReuseValidBeansAfterInvalidSibling() {
+        // given
+        MapperImpl mapper = new MapperImpl();
+        BeanReuseTable beanReuseTable = new BeanReuseTable();
+        Map<String, Object> invalidEndpoint = new LinkedHashMap<>();
+        invalidEndpoint.put("host", "broken.local");
+        invalidEndpoint.put("port_number", "x");
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        endpoints.put("broken", invalidEndpoint);
+        endpoints.putAll(createEndpointMaps("backup.local"));
+        Object value = Collections.singletonMap("endpoints", endpoints);
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        EndpointConfig result1 = (EndpointConfig) mapper.convertToBean(value, new TypeInfo(EndpointConfig.class),
+            errorRecorder, beanReuseTable);
+        EndpointConfig result2 = (EndpointConfig) mapper.convertToBean(value, new TypeInfo(EndpointConfig.class),
+            new ConvertErrorRecorder(), beanReuseTable);
+
+        // then
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        assertThat(result1.getEndpoints().keySet(), contains("main", "backup"));
+        assertThat(result2, not(sameInstance(result1)));
+        assertThat(result2.getEndpoints().get("main"), sameInstance(result1.getEndpoints().get("main")));
+        assertThat(result2.getEndpoints().get("backup"), sameInstance(result1.getEndpoints().get("backup")));
+        assertThat(beanReuseTable.size(), equalTo(2));
+    }
+
+    @Test
+    void shouldNotReuseBeansWithErrors() {
+        // given
+        MapperImpl mapper = new MapperImpl();
+        BeanReuseTable beanReuseTable = new BeanReuseTable();
+        Map<String, Object> execution = new LinkedHashMap<>();
+        execution.put("executor", "CONSOLE");
+        execution.put("optional", true);
+        execution.put("importance", 1.5);
+        execution.put("privileges", Collections.emptyList());
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("command", "save");
+        value.put("execution", execution); // no arguments -> error, default value is kept
+
+        // when
+        Command result1 = (Command) mapper.convertToBean(value, new TypeInfo(Command.class),
+            new ConvertErrorRecorder(), beanReuseTable);
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+        Command result2 = (Command) mapper.convertToBean(value, new TypeInfo(Command.class),
+            errorRecorder, beanReuseTable);
+
+        // then
+        assertThat(result2, not(sameInstance(result1)));
+        assertThat(result2.getCommand(), equalTo("save"));
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        // only the execution details, which were converted without errors, are reused
+        assertThat(result2.getExecution(), sameInstance(result1.getExecution()));
+        assertThat(beanReuseTable.size(), equalTo(1));
+    }
+
     private static void assertAllOptionalFieldsEmpty(ComplexCommand complexCommand) {
         assertAreAllEmpty(
             complexCommand.getNameStartsWith(),
@@ -522,4 +1034,86 @@ class MapperImplTest {
             }
         };
     }
+
+    private static final class ReasonRecorder extends ConvertErrorRecorder {
+
+        private final List<String> reasons = new ArrayList<>();
+
+        @Override
+        public void setHasError(Supplier<String> pathSupplier, Supplier<String> messageSupplier) {
+            super.setHasError(pathSupplier, messageSupplier);
+            reasons.add(new ConvertError(pathSupplier, messageSupplier).toString());
+        }
+    }
+
+    private static List<String> toStrings(List<ConvertError> errors) {
+        return errors.stream().map(ConvertError::toString).collect(Collectors.toList());
+    }
+
+    private static Map<String, Object> createTreeNodeMap(int index) {
+        Map<String, Object> node = new HashMap<>();
+        node.put("name", "node" + index);
+        return node;
+    }
+
+    private static Map<String, Object> createEndpointMaps(String backupHost) {
+        Map<String, Object> main = new LinkedHashMap<>();
+        main.put("host", "main.local");
+        main.put("port_number", 443);
+        main.put("secure", true);
+        main.put("aliases", Collections.singletonList("primary"));
+        Map<String, Object> backup = new LinkedHashMap<>();
+        backup.put("host", backupHost);
+        backup.put("port_number", 8080);
+        backup.put("secure", false);
+        backup.put("aliases", Collections.emptyList());
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        endpoints.put("main", main);
+        endpoints.put("backup", backup);
+        return endpoints;
+    }
+
+    private static boolean isRecordSupported() {
+        try {
+            Class.class.getMethod("isRecord");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /** Mapping context which does not override any default methods, delegating to another context. */
+    private static final class ContextWithDefaultMethods implements MappingContext {
+
+        private final MappingContext delegate;
+
+        ContextWithDefaultMethods(MappingContext delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public MappingContext createChild(String name, TypeInfo targetType) {
+            return delegate.createChild(name, targetType);
+        }
+
+        @Override
+        public String getBeanPath() {
+            return delegate.getBeanPath();
+        }
+
+        @Override
+        public TypeInfo getTargetType() {
+            return delegate.getTargetType();
+        }
+
+        @Override
+        public String createDescription() {
+            return delegate.createDescription();
+        }
+
+        @Override
+        public ConvertErrorRecorder getErrorRecorder() {
+            return delegate.getErrorRecorder();
+        }
+    }
 }
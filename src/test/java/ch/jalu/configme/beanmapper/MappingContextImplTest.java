@@ -8,6 +8,7 @@ import ch.jalu.typeresolver.reference.TypeReference;
 import ch.jalu.typeresolver.typeimpl.WildcardTypeImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
@@ -15,11 +16,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static ch.jalu.typeresolver.TypeInfo.of;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -29,6 +33,28 @@ import static org.mockito.Mockito.verify;
 @ExtendWith(MockitoExtension.class)
 class MappingContextImplTest {
 
+    @Test
+    void shouldCreatePathWithSpecifiers() {
+        // given
+        TypeInfo typeInformation = of(Integer.class);
+        MappingContext root = MappingContextImpl.createRoot(typeInformation, new ConvertErrorRecorder());
+
+        // when
+        MappingContext list = root.createChild("groups", typeInformation);
+        MappingContext entry = list.createChild("[2]", typeInformation);
+        MappingContext optional = entry.createChild("$opt", typeInformation)
+            .createChild("[k=test]", typeInformation)
+            .createChild("size", typeInformation);
+
+        // then
+        assertThat(optional.getBeanPath(), equalTo("groups[2]$opt[k=test].size"));
+        assertThat(entry.getBeanPath(), equalTo("groups[2]"));
+        assertThat(list.getBeanPath(), equalTo("groups"));
+        assertThat(root.getDepth(), equalTo(0));
+        assertThat(entry.getDepth(), equalTo(2));
+        assertThat(optional.getDepth(), equalTo(5));
+    }
+
     @Test
     void shouldCreateProperPath() {
         // given
@@ -66,15 +92,37 @@ class MappingContextImplTest {
     @Test
     void shouldForwardErrorToErrorRecorder() {
         // given
-        ConvertErrorRecorder errorRecorder = mock(ConvertErrorRecorder.class);
+        ConvertErrorRecorder errorRecorder = ConvertErrorRecorder.collectingErrors();
         MappingContext root = MappingContextImpl.createRoot(of(String.class), errorRecorder);
         MappingContext context = root.createChild("bar", of(Double.class));
 
         // when
         context.registerError("Not a valid value");
+        context.createChild("[2]", of(String.class)).registerError(() -> "Value " + 2 + " is invalid");
+
+        // then
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        assertThat(errorRecorder.getErrors(), hasSize(2));
+        assertThat(errorRecorder.getErrors().get(0).toString(), equalTo("For bean path 'bar': Not a valid value"));
+        assertThat(errorRecorder.getErrors().get(1).getPath(), equalTo("bar[2]"));
+        assertThat(errorRecorder.getErrors().get(1).getMessage(), equalTo("Value 2 is invalid"));
+    }
+
+    @Test
+    void shouldNotCreatePathOfErrorIfNotRequested() {
+        // given
+        ConvertErrorRecorder errorRecorder = mock(ConvertErrorRecorder.class);
+        MappingContext context = MappingContextImpl.createRoot(of(String.class), errorRecorder)
+            .createChild("bar", of(Double.class));
+        Supplier<String> reasonSupplier = () -> "Not a valid value";
+
+        // when
+        context.registerError(reasonSupplier);
 
         // then
-        verify(errorRecorder).setHasError("For bean path 'bar': Not a valid value");
+        ArgumentCaptor<Supplier<String>> pathCaptor = ArgumentCaptor.forClass(Supplier.class);
+        verify(errorRecorder).setHasError(pathCaptor.capture(), eq(reasonSupplier));
+        assertThat(pathCaptor.getValue().get(), equalTo("bar"));
     }
 
     @Test
@@ -0,0 +1,122 @@
+package ch.jalu.configme.beanmapper;
+
+import ch.jalu.configme.beanmapper.command.Command;
+import ch.jalu.typeresolver.TypeInfo;
+import ch.jalu.typeresolver.reference.TypeReference;
+import ch.jalu.typeresolver.typeimpl.WildcardTypeImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link TypeMappingPlan}.
+ */
+class TypeMappingPlanTest {
+
+    @Test
+    void shouldCreatePlanForCollection() {
+        // given
+        TypeInfo type = new TypeReference<Set<List<Command>>>() { };
+
+        // when
+        TypeMappingPlan plan = TypeMappingPlan.create(type);
+
+        // then
+        assertThat(plan.getKind(), equalTo(TypeMappingPlan.Kind.COLLECTION));
+        assertThat(plan.getRawClass(), equalTo(Set.class));
+        assertThat(plan.getTypeArgument(0), equalTo(new TypeReference<List<Command>>() { }));
+        assertThat(plan.getTypeArgument(1), nullValue());
+    }
+
+    @Test
+    void shouldCreatePlanForArrays() {
+        // given
+        TypeInfo primitiveArray = new TypeInfo(int[].class);
+        TypeInfo genericArray = new TypeReference<List<String>[]>() { };
+
+        // when
+        TypeMappingPlan primitivePlan = TypeMappingPlan.create(primitiveArray);
+        TypeMappingPlan genericPlan = TypeMappingPlan.create(genericArray);
+
+        // then
+        assertThat(primitivePlan.getKind(), equalTo(TypeMappingPlan.Kind.ARRAY));
+        assertThat(primitivePlan.getRawClass(), equalTo(int[].class));
+        assertThat(primitivePlan.getTypeArgument(0), equalTo(new TypeInfo(int.class)));
+        assertThat(genericPlan.getKind(), equalTo(TypeMappingPlan.Kind.ARRAY));
+        assertThat(genericPlan.getRawClass(), equalTo(List[].class));
+        assertThat(genericPlan.getTypeArgument(0), equalTo(new TypeReference<List<String>>() { }));
+    }
+
+    @Test
+    void shouldCreatePlanForMap() {
+        // given
+        TypeInfo type = new TypeReference<Map<String, Optional<Integer>>>() { };
+
+        // when
+        TypeMappingPlan plan = TypeMappingPlan.create(type);
+
+        // then
+        assertThat(plan.getKind(), equalTo(TypeMappingPlan.Kind.MAP));
+        assertThat(plan.getRawClass(), equalTo(Map.class));
+        assertThat(plan.getTypeArgument(0), equalTo(new TypeInfo(String.class)));
+        assertThat(plan.getTypeArgument(1), equalTo(new TypeReference<Optional<Integer>>() { }));
+    }
+
+    @Test
+    void shouldCreatePlanForOptionalWithoutTypeArgument() {
+        // given
+        TypeInfo type = new TypeInfo(Optional.class);
+
+        // when
+        TypeMappingPlan plan = TypeMappingPlan.create(type);
+
+        // then
+        assertThat(plan.getKind(), equalTo(TypeMappingPlan.Kind.OPTIONAL));
+        assertThat(plan.getTypeArgument(0), nullValue());
+    }
+
+    @Test
+    void shouldCreatePlanForBeanAndTypeWithoutClass() {
+        // given
+        TypeInfo beanType = new TypeInfo(Command.class);
+        TypeInfo wildcardType = new TypeInfo(WildcardTypeImpl.newWildcardExtends(Number.class));
+
+        // when
+        TypeMappingPlan beanPlan = TypeMappingPlan.create(beanType);
+        TypeMappingPlan wildcardPlan = TypeMappingPlan.create(wildcardType);
+
+        // then
+        assertThat(beanPlan.getKind(), equalTo(TypeMappingPlan.Kind.OTHER));
+        assertThat(beanPlan.getRawClass(), equalTo(Command.class));
+        assertThat(wildcardPlan.getKind(), equalTo(TypeMappingPlan.Kind.OTHER));
+        assertThat(wildcardPlan.getRawClass(), nullValue());
+    }
+
+    @Test
+    void shouldInternTypeArguments() {
+        // given
+        TypeInfo type = new TypeReference<Map<String, List<Integer>>>() { };
+        TypeInfo internedKeyType = new TypeInfo(String.class);
+        TypeInfo internedValueType = new TypeReference<List<Integer>>() { };
+        Map<TypeInfo, TypeInfo> internedTypes = new HashMap<>();
+        internedTypes.put(internedKeyType, internedKeyType);
+        internedTypes.put(internedValueType, internedValueType);
+
+        // when
+        TypeMappingPlan plan = TypeMappingPlan.create(type, internedTypes::get);
+
+        // then
+        assertThat(plan.getKind(), equalTo(TypeMappingPlan.Kind.MAP));
+        assertThat(plan.getTypeArgument(0), sameInstance(internedKeyType));
+        assertThat(plan.getTypeArgument(1), sameInstance(internedValueType));
+    }
+}
@@ -0,0 +1,19 @@
+package ch.jalu.configme.beanmapper.immutable;
+
+import java.util.Map;
+
+/**
+ * Regular bean with immutable beans as values.
+ */
+public class EndpointConfig {
+
+    private Map<String, ServerEndpoint> endpoints;
+
+    public Map<String, ServerEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, ServerEndpoint> endpoints) {
+        this.endpoints = endpoints;
+    }
+}
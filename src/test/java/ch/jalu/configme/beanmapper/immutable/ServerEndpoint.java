@@ -0,0 +1,44 @@
+package ch.jalu.configme.beanmapper.immutable;
+
+import ch.jalu.configme.Comment;
+import ch.jalu.configme.beanmapper.ExportName;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+
+/**
+ * Immutable bean whose properties are passed to its constructor.
+ */
+public final class ServerEndpoint {
+
+    @Comment("Host name of the server")
+    private final String host;
+    @ExportName("port_number")
+    private final int port;
+    private final boolean secure;
+    private final List<String> aliases;
+
+    @ConstructorProperties({"host", "port", "secure", "aliases"})
+    public ServerEndpoint(String host, int port, boolean secure, List<String> aliases) {
+        this.host = host;
+        this.port = port;
+        this.secure = secure;
+        this.aliases = aliases;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public boolean isSecure() {
+        return secure;
+    }
+
+    public List<String> getAliases() {
+        return aliases;
+    }
+}
@@ -9,6 +9,8 @@ import ch.jalu.configme.properties.types.BooleanType;
 import ch.jalu.configme.properties.types.NumberType;
 import ch.jalu.configme.properties.types.RegexType;
 import ch.jalu.configme.properties.types.StringType;
+import ch.jalu.typeresolver.TypeInfo;
+import ch.jalu.typeresolver.numbers.StandardNumberType;
 import ch.jalu.typeresolver.typeimpl.WildcardTypeImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -211,4 +213,121 @@ class LeafValueHandlerImplTest {
         assertThat(leafValueHandler.convert(null, stringContext), nullValue());
         assertThat(leafValueHandler.toExportValue(null, exportContext), nullValue());
     }
+
+    @Test
+    void shouldOnlyCallApplicableLeafTypesInOrder() {
+        // given
+        CountingLeafType customStringType = new CountingLeafType(String.class, "custom");
+        CountingLeafType customNumberType = new CountingLeafType(Integer.class, 42);
+        LeafValueHandlerImpl leafValueHandler = LeafValueHandlerImpl.builder()
+            .addType(customStringType)
+            .addDefaults()
+            .addType(customNumberType)
+            .build();
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        Object string1 = leafValueHandler.convert("test", MappingContextImpl.createRoot(of(String.class), errorRecorder));
+        Object string2 = leafValueHandler.convert(3, MappingContextImpl.createRoot(of(String.class), errorRecorder));
+        Object number = leafValueHandler.convert(7, MappingContextImpl.createRoot(of(Integer.class), errorRecorder));
+        Object list = leafValueHandler.convert("a", MappingContextImpl.createRoot(of(List.class), errorRecorder));
+
+        // then
+        assertThat(string1, equalTo("custom"));
+        assertThat(string2, equalTo("custom"));
+        assertThat(number, equalTo(7)); // default Integer type comes before the custom one
+        assertThat(list, nullValue());
+        assertThat(customStringType.convertCalls, equalTo(2));
+        assertThat(customNumberType.convertCalls, equalTo(0));
+    }
+
+    @Test
+    void shouldOnlyCallApplicableLeafTypesForExport() {
+        // given
+        CountingLeafType customStringType = new CountingLeafType(String.class, "custom");
+        LeafValueHandlerImpl leafValueHandler = LeafValueHandlerImpl.builder()
+            .addDefaults()
+            .addType(customStringType)
+            .build();
+        ExportContext exportContext = ExportContextImpl.createRoot();
+
+        // when
+        Object exportValue1 = leafValueHandler.toExportValue("test", exportContext);
+        Object exportValue2 = leafValueHandler.toExportValue(TimeUnit.SECONDS, exportContext);
+        Object exportValue3 = leafValueHandler.toExportValue(new ArrayList<>(), exportContext);
+
+        // then
+        assertThat(exportValue1, equalTo("test"));
+        assertThat(exportValue2, equalTo("SECONDS"));
+        assertThat(exportValue3, nullValue());
+        assertThat(customStringType.exportCalls, equalTo(0));
+    }
+
+    @Test
+    void shouldCallSubclassesOfBuiltInLeafTypesOverridingConversionMethods() {
+        // given
+        EnumLeafType customEnumType = new EnumLeafType() {
+            @Override
+            public Object toExportValueIfApplicable(Object value) {
+                return value instanceof LocalDate ? value.toString() : super.toExportValueIfApplicable(value);
+            }
+        };
+        NumberType<Integer> customIntegerType = new NumberType<Integer>(StandardNumberType.TYPE_INTEGER) {
+            @Override
+            public Object convert(Object value, TypeInfo targetType, ConvertErrorRecorder errorRecorder) {
+                return targetType.toClass() == LocalDate.class && value instanceof String
+                    ? LocalDate.parse((String) value)
+                    : super.convert(value, targetType, errorRecorder);
+            }
+        };
+        LeafValueHandlerImpl leafValueHandler = new LeafValueHandlerImpl(customEnumType, customIntegerType);
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+
+        // when
+        Object date = leafValueHandler.convert("2024-05-17",
+            MappingContextImpl.createRoot(of(LocalDate.class), errorRecorder));
+        Object exportValue = leafValueHandler.toExportValue(LocalDate.of(2024, 5, 17),
+            ExportContextImpl.createRoot());
+
+        // then
+        assertThat(date, equalTo(LocalDate.of(2024, 5, 17)));
+        assertThat(exportValue, equalTo("2024-05-17"));
+        assertThat(leafValueHandler.convert("4", MappingContextImpl.createRoot(of(Integer.class), errorRecorder)),
+            equalTo(4));
+    }
+
+    private static final class CountingLeafType implements MapperLeafType {
+
+        private final Class<?> type;
+        private final Object result;
+        private int convertCalls;
+        private int exportCalls;
+
+        CountingLeafType(Class<?> type, Object result) {
+            this.type = type;
+            this.result = result;
+        }
+
+        @Override
+        public Object convert(Object value, TypeInfo targetType, ConvertErrorRecorder errorRecorder) {
+            ++convertCalls;
+            return result;
+        }
+
+        @Override
+        public Object toExportValueIfApplicable(Object value) {
+            ++exportCalls;
+            return result;
+        }
+
+        @Override
+        public boolean mayConvertToType(TypeInfo targetType) {
+            return targetType.toClass() == type;
+        }
+
+        @Override
+        public boolean mayExportValueOfType(Class<?> valueClass) {
+            return type.isAssignableFrom(valueClass);
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package ch.jalu.configme.beanmapper.polymorphic;
+
+/**
+ * Handler implementation with type "file".
+ */
+public class FileHandler implements Handler {
+
+    private String path;
+    private boolean enabled;
+
+    public FileHandler() {
+    }
+
+    public FileHandler(String path) {
+        this.path = path;
+        this.enabled = true;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,17 @@
+package ch.jalu.configme.beanmapper.polymorphic;
+
+import ch.jalu.configme.beanmapper.BeanSubtype;
+import ch.jalu.configme.beanmapper.BeanSubtypes;
+
+/**
+ * Interface whose implementations are identified by the value of "type".
+ */
+@BeanSubtypes({
+    @BeanSubtype(name = "redis", type = RedisHandler.class),
+    @BeanSubtype(name = "file", type = FileHandler.class)
+})
+public interface Handler {
+
+    boolean isEnabled();
+
+}
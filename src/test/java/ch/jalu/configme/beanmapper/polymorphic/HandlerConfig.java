@@ -0,0 +1,19 @@
+package ch.jalu.configme.beanmapper.polymorphic;
+
+import java.util.List;
+
+/**
+ * Bean with a list of different handler implementations.
+ */
+public class HandlerConfig {
+
+    private List<Handler> handlers;
+
+    public List<Handler> getHandlers() {
+        return handlers;
+    }
+
+    public void setHandlers(List<Handler> handlers) {
+        this.handlers = handlers;
+    }
+}
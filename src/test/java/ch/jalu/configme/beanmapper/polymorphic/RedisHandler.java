@@ -0,0 +1,45 @@
+package ch.jalu.configme.beanmapper.polymorphic;
+
+/**
+ * Handler implementation with type "redis".
+ */
+public class RedisHandler implements Handler {
+
+    private String host;
+    private int port;
+    private boolean enabled;
+
+    public RedisHandler() {
+    }
+
+    public RedisHandler(String host, int port) {
+        this.host = host;
+        this.port = port;
+        this.enabled = true;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
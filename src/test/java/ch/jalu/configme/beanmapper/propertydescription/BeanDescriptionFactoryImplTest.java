@@ -4,6 +4,7 @@ package ch.jalu.configme.beanmapper.propertydescription;
 import ch.jalu.configme.Comment;
 import ch.jalu.configme.beanmapper.ConfigMeMapperException;
 import ch.jalu.configme.beanmapper.command.ExecutionDetails;
+import ch.jalu.configme.beanmapper.immutable.ServerEndpoint;
 import ch.jalu.configme.samples.beanannotations.AnnotatedEntry;
 import ch.jalu.configme.samples.beanannotations.BeanWithEmptyName;
 import ch.jalu.configme.samples.beanannotations.BeanWithExportName;
@@ -12,13 +13,26 @@ import ch.jalu.configme.samples.beanannotations.BeanWithNameClash;
 import ch.jalu.configme.samples.inheritance.Child;
 import ch.jalu.configme.samples.inheritance.Middle;
 import ch.jalu.typeresolver.TypeInfo;
+import ch.jalu.typeresolver.reference.TypeReference;
 import org.junit.jupiter.api.Test;
 
+import java.beans.ConstructorProperties;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
 import java.beans.Transient;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static ch.jalu.configme.TestUtils.transform;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -39,6 +53,35 @@ class BeanDescriptionFactoryImplTest {
 
     private final BeanDescriptionFactoryImpl factory = new BeanDescriptionFactoryImpl();
 
+    @Test
+    void shouldReturnCachedPropertiesForConcurrentCalls() throws Exception {
+        // given
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Collection<BeanPropertyDescription>>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < threads; ++i) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return factory.getAllProperties(AnnotatedEntry.class);
+                }));
+            }
+            start.countDown();
+
+            // then
+            Collection<BeanPropertyDescription> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Collection<BeanPropertyDescription>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS), sameInstance(first));
+            }
+            assertThat(factory.getAllProperties(AnnotatedEntry.class), sameInstance(first));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void shouldReturnWritableProperties() {
         // given / when
@@ -204,6 +247,80 @@ class BeanDescriptionFactoryImplTest {
         assertThat(properties.get(3).getComments().getComments(), contains("weight_com"));
     }
 
+    @Test
+    void shouldFindSamePropertiesAsIntrospector() throws IntrospectionException {
+        // given
+        List<Class<?>> classes = Arrays.asList(SampleBean.class, BooleanTestBean.class,
+            BeanWithTransientFields.class, Child.class, Middle.class, BeanWithNamingEdgeCases.class);
+
+        for (Class<?> clazz : classes) {
+            Set<String> expectedNames = new HashSet<>();
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(clazz).getPropertyDescriptors()) {
+                if (descriptor.getReadMethod() != null && descriptor.getWriteMethod() != null
+                    && !Boolean.TRUE.equals(descriptor.getValue("transient"))) {
+                    expectedNames.add(descriptor.getName());
+                }
+            }
+
+            // when
+            Collection<BeanPropertyDescription> properties = factory.getAllProperties(clazz);
+
+            // then
+            assertThat(clazz.getSimpleName(), new HashSet<>(transform(properties, BeanPropertyDescription::getName)),
+                equalTo(expectedNames));
+        }
+    }
+
+    @Test
+    void shouldHandleNamingEdgeCases() {
+        // given / when
+        Collection<BeanPropertyDescription> properties = factory.getAllProperties(BeanWithNamingEdgeCases.class);
+
+        // then
+        assertThat(transform(properties, BeanPropertyDescription::getName),
+            containsInAnyOrder("URL", "x", "enabled", "name"));
+        assertThat(getDescription("name", properties).getTypeInformation(), equalTo(new TypeInfo(String.class)));
+    }
+
+    @Test
+    void shouldDescribeConstructorOfImmutableBean() {
+        // given / when
+        BeanConstructorDescription constructor = factory.getConstructorDescription(ServerEndpoint.class);
+        Collection<BeanPropertyDescription> properties = factory.getAllProperties(ServerEndpoint.class);
+
+        // then
+        assertThat(constructor, notNullValue());
+        assertThat(factory.getConstructorDescription(ServerEndpoint.class), sameInstance(constructor));
+        assertThat(properties, equalTo(constructor.getParameters()));
+        assertThat(transform(properties, BeanPropertyDescription::getName),
+            contains("host", "port_number", "secure", "aliases"));
+        assertThat(constructor.getParameters().get(0).getComments().getComments(),
+            contains("Host name of the server"));
+        assertThat(constructor.getParameters().get(3).getTypeInformation(),
+            equalTo(new TypeReference<List<String>>() { }));
+
+        ServerEndpoint endpoint = (ServerEndpoint) constructor.newInstance("host", 80, true, Arrays.asList("a"));
+        assertThat(constructor.getParameters().get(1).getValue(endpoint), equalTo(80));
+        assertThat(constructor.getParameters().get(2).getValue(endpoint), equalTo(true));
+        assertThrows(ConfigMeMapperException.class,
+            () -> constructor.getParameters().get(0).setValue(endpoint, "other"));
+    }
+
+    @Test
+    void shouldNotWrapErrorThrownByConstructor() {
+        // given
+        BeanConstructorDescription constructor = factory.getConstructorDescription(ErrorThrowingImmutableBean.class);
+
+        // when / then
+        assertThrows(StackOverflowError.class, () -> constructor.newInstance("test"));
+    }
+
+    @Test
+    void shouldNotReturnConstructorDescriptionForRegularBean() {
+        // given / when / then
+        assertThat(factory.getConstructorDescription(SampleBean.class), nullValue());
+    }
+
     private static BeanPropertyDescription getDescription(String name,
                                                           Collection<BeanPropertyDescription> descriptions) {
         for (BeanPropertyDescription description : descriptions) {
@@ -214,6 +331,20 @@ class BeanDescriptionFactoryImplTest {
         throw new IllegalArgumentException(name);
     }
 
+    public static final class ErrorThrowingImmutableBean {
+
+        private final String name;
+
+        @ConstructorProperties("name")
+        public ErrorThrowingImmutableBean(String name) {
+            throw new StackOverflowError();
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
     private static final class SampleBean {
 
         private String name;
@@ -353,4 +484,68 @@ class BeanDescriptionFactoryImplTest {
             isMandatory = mandatory;
         }
     }
+
+    public static final class BeanWithNamingEdgeCases {
+        private String url;
+        private int x;
+        private boolean enabled;
+        private Boolean active;
+        private String name;
+
+        public String getURL() {
+            return url;
+        }
+
+        public void setURL(String url) {
+            this.url = url;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public void setX(int x) {
+            this.x = x;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public boolean getEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        // "is" prefix is only considered for primitive booleans
+        public Boolean isActive() {
+            return active;
+        }
+
+        public void setActive(Boolean active) {
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setName(int index) {
+            this.name = String.valueOf(index);
+        }
+
+        public static String getStatic() {
+            return "";
+        }
+
+        public static void setStatic(String value) {
+        }
+    }
 }
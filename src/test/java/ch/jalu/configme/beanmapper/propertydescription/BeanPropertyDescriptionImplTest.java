@@ -8,6 +8,7 @@ import java.util.Collection;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -55,6 +56,31 @@ public class BeanPropertyDescriptionImplTest {
             () -> sizeProperty.getValue(bean));
     }
 
+    @Test
+    void shouldNotWrapErrors() {
+        // given
+        BeanPropertyDescription sizeProperty = getDescriptor("size", SampleBean.class);
+        SampleBean bean = new ErrorThrowingBean();
+
+        // when / then
+        assertThrows(StackOverflowError.class, () -> sizeProperty.getValue(bean));
+        assertThrows(StackOverflowError.class, () -> sizeProperty.setValue(bean, 3));
+    }
+
+    @Test
+    void shouldHandleValueOfWrongType() {
+        // given
+        BeanPropertyDescription sizeProperty = getDescriptor("size", SampleBean.class);
+        SampleBean bean = new SampleBean();
+
+        // when
+        ConfigMeMapperException ex = assertThrows(ConfigMeMapperException.class,
+            () -> sizeProperty.setValue(bean, "test"));
+
+        // then
+        assertThat(ex.getMessage(), startsWith("Could not set property 'size' to value 'test' on instance"));
+    }
+
     @Test
     void shouldHaveAppropriateStringRepresentation() {
         // given
@@ -107,4 +133,16 @@ public class BeanPropertyDescriptionImplTest {
         }
     }
 
+    private static final class ErrorThrowingBean extends SampleBean {
+        @Override
+        public void setSize(int size) {
+            throw new StackOverflowError();
+        }
+
+        @Override
+        public int getSize() {
+            throw new StackOverflowError();
+        }
+    }
+
 }
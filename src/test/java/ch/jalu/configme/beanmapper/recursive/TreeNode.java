@@ -0,0 +1,29 @@
+package ch.jalu.configme.beanmapper.recursive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bean with children of its own type.
+ */
+public class TreeNode {
+
+    private String name;
+    private List<TreeNode> children = new ArrayList<>();
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<TreeNode> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<TreeNode> children) {
+        this.children = children;
+    }
+}
@@ -0,0 +1,87 @@
+package ch.jalu.configme.beanmapper.specialtypes;
+
+import ch.jalu.configme.samples.TestEnum;
+
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * Bean with arrays and enum-specialized collections.
+ */
+public class NumericTables {
+
+    private int[] counts;
+    private long[] timestamps;
+    private double[] ratios;
+    private String[] labels;
+    private EnumSet<TestEnum> enabled;
+    private EnumMap<TestEnum, Integer> limits;
+    private Map<TestEnum, String> names;
+    private Deque<String> history;
+
+    public int[] getCounts() {
+        return counts;
+    }
+
+    public void setCounts(int[] counts) {
+        this.counts = counts;
+    }
+
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    public void setTimestamps(long[] timestamps) {
+        this.timestamps = timestamps;
+    }
+
+    public double[] getRatios() {
+        return ratios;
+    }
+
+    public void setRatios(double[] ratios) {
+        this.ratios = ratios;
+    }
+
+    public String[] getLabels() {
+        return labels;
+    }
+
+    public void setLabels(String[] labels) {
+        this.labels = labels;
+    }
+
+    public EnumSet<TestEnum> getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(EnumSet<TestEnum> enabled) {
+        this.enabled = enabled;
+    }
+
+    public EnumMap<TestEnum, Integer> getLimits() {
+        return limits;
+    }
+
+    public void setLimits(EnumMap<TestEnum, Integer> limits) {
+        this.limits = limits;
+    }
+
+    public Map<TestEnum, String> getNames() {
+        return names;
+    }
+
+    public void setNames(Map<TestEnum, String> names) {
+        this.names = names;
+    }
+
+    public Deque<String> getHistory() {
+        return history;
+    }
+
+    public void setHistory(Deque<String> history) {
+        this.history = history;
+    }
+}
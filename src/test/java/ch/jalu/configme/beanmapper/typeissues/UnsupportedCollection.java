@@ -1,6 +1,6 @@
 package ch.jalu.configme.beanmapper.typeissues;
 
-import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * Class with unsupported collection type.
@@ -8,7 +8,7 @@ import java.util.Deque;
 public class UnsupportedCollection {
 
     private String name = "";
-    private Deque<Double> collection;
+    private BlockingQueue<Double> collection;
 
     public String getName() {
         return name;
@@ -18,11 +18,11 @@ public class UnsupportedCollection {
         this.name = name;
     }
 
-    public Deque<Double> getCollection() {
+    public BlockingQueue<Double> getCollection() {
         return collection;
     }
 
-    public void setCollection(Deque<Double> collection) {
+    public void setCollection(BlockingQueue<Double> collection) {
         this.collection = collection;
     }
 }
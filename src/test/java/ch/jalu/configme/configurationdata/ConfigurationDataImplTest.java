@@ -1,9 +1,15 @@
 package ch.jalu.configme.configurationdata;
 
 import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.beanmapper.DefaultMapper;
+import ch.jalu.configme.beanmapper.worldgroup.GameMode;
+import ch.jalu.configme.beanmapper.worldgroup.Group;
+import ch.jalu.configme.beanmapper.worldgroup.WorldGroupConfig;
 import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.BeanProperty;
 import ch.jalu.configme.properties.Property;
 import ch.jalu.configme.properties.convertresult.PropertyValue;
+import ch.jalu.configme.properties.types.BeanPropertyType;
 import ch.jalu.configme.resource.PropertyReader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +30,8 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -189,6 +197,39 @@ class ConfigurationDataImplTest {
         assertThat(configurationData.areAllValuesValidInResource(), equalTo(false));
     }
 
+    @Test
+    void shouldReuseBeansOfPreviousInitialization() {
+        // given
+        Property<WorldGroupConfig> property = new BeanProperty<>("worlds",
+            BeanPropertyType.reusingBeans(WorldGroupConfig.class, DefaultMapper.getInstance()), new WorldGroupConfig());
+        List<Property<?>> properties = Collections.singletonList(property);
+        ConfigurationData configurationData1 = new ConfigurationDataImpl(properties, Collections.emptyMap());
+        ConfigurationData configurationData2 = new ConfigurationDataImpl(properties, Collections.emptyMap());
+        PropertyReader reader = mock(PropertyReader.class);
+        given(reader.getObject("worlds")).willAnswer(invocation -> createWorldGroupValue());
+
+        // when
+        configurationData1.initializeValues(reader);
+        WorldGroupConfig value1 = configurationData1.getValue(property);
+        configurationData1.initializeValues(reader);
+        WorldGroupConfig value2 = configurationData1.getValue(property);
+        configurationData2.initializeValues(reader);
+        WorldGroupConfig value3 = configurationData2.getValue(property);
+
+        // then
+        assertThat(value1.getGroups().get("default").getWorlds(), contains("world", "world_nether"));
+        assertThat(value2, sameInstance(value1));
+        assertThat(value3, not(sameInstance(value1)));
+        assertThat(value3.getGroups().get("default").getDefaultGamemode(), equalTo(GameMode.SURVIVAL));
+    }
+
+    private static Map<String, Object> createWorldGroupValue() {
+        Map<String, Object> group = new HashMap<>();
+        group.put("worlds", Arrays.asList("world", "world_nether"));
+        group.put("default-gamemode", "SURVIVAL");
+        return Collections.singletonMap("groups", Collections.singletonMap("default", group));
+    }
+
     private static Map<String, List<String>> createSampleCommentsMap() {
         CommentsConfiguration commentsConfiguration = new CommentsConfiguration();
         commentsConfiguration.setComment("test", "test section comment");
@@ -0,0 +1,67 @@
+package ch.jalu.configme.configurationdata;
+
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link ConfigurationDataTemplate}.
+ */
+class ConfigurationDataTemplateTest {
+
+    @Test
+    void shouldCreateConfigurationDataSharingPropertiesAndComments() {
+        // given
+        ConfigurationDataTemplate template = ConfigurationDataTemplate.create(TestConfiguration.class);
+
+        // when
+        ConfigurationData data1 = template.createConfigurationData();
+        ConfigurationData data2 = template.createConfigurationData();
+        data1.setValue(TestConfiguration.DURATION_IN_SECONDS, 20);
+        data2.setValue(TestConfiguration.DURATION_IN_SECONDS, 30);
+
+        // then
+        assertThat(data1.getProperties(), sameInstance(template.getProperties()));
+        assertThat(data2.getProperties(), sameInstance(template.getProperties()));
+        assertThat(data2.getAllComments(), sameInstance(template.getAllComments()));
+        assertThat(data1.getProperties(),
+            equalTo(ConfigurationDataBuilder.createConfiguration(TestConfiguration.class).getProperties()));
+        assertThat(data1.getCommentsForSection("test.duration"), contains("Duration in seconds"));
+        assertThat(data1.getValue(TestConfiguration.DURATION_IN_SECONDS), equalTo(20));
+        assertThat(data2.getValue(TestConfiguration.DURATION_IN_SECONDS), equalTo(30));
+    }
+
+    @Test
+    void shouldNotBeAffectedByChangesToSourceCollections() {
+        // given
+        List<Property<?>> properties = new ArrayList<>(Arrays.asList(
+            newProperty("a", 1), newProperty("b", "b")));
+        List<String> commentLines = new ArrayList<>(Arrays.asList("Comment"));
+        Map<String, List<String>> comments = new HashMap<>();
+        comments.put("a", commentLines);
+        ConfigurationDataTemplate template = new ConfigurationDataTemplate(properties, comments);
+
+        // when
+        properties.clear();
+        commentLines.add("Other");
+        comments.clear();
+
+        // then
+        assertThat(template.getProperties().size(), equalTo(2));
+        assertThat(template.getAllComments().get("a"), contains("Comment"));
+        assertThrows(UnsupportedOperationException.class, () -> template.getAllComments().get("a").add("x"));
+    }
+}
@@ -0,0 +1,134 @@
+package ch.jalu.configme.configurationdata;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.resource.PropertyResource;
+import ch.jalu.configme.resource.YamlFileResource;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link LayeredConfigurationData}.
+ */
+class LayeredConfigurationDataTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ConfigurationData base;
+
+    @BeforeEach
+    void initBase() throws IOException {
+        Path baseFile = tempDir.resolve("base.yml");
+        Files.write(baseFile, Arrays.asList("test:", "  duration: 10", "  systemName: base"));
+        base = ConfigurationDataBuilder.createConfiguration(TestConfiguration.class);
+        base.initializeValues(new YamlFileResource(baseFile).createReader());
+    }
+
+    @Test
+    void shouldFallThroughToBaseForValuesWithoutOverride() {
+        // given
+        LayeredConfigurationData layer = new LayeredConfigurationData(base);
+
+        // when
+        layer.setValue(TestConfiguration.SYSTEM_NAME, "tenant");
+
+        // then
+        assertThat(layer.getValue(TestConfiguration.SYSTEM_NAME), equalTo("tenant"));
+        assertThat(layer.getValue(TestConfiguration.DURATION_IN_SECONDS), equalTo(10));
+        assertThat(base.getValue(TestConfiguration.SYSTEM_NAME), equalTo("base"));
+        assertThat(layer.hasOverride(TestConfiguration.SYSTEM_NAME), equalTo(true));
+        assertThat(layer.hasOverride(TestConfiguration.DURATION_IN_SECONDS), equalTo(false));
+        assertThat(layer.getProperties(), sameInstance(base.getProperties()));
+        assertThat(layer.getAllComments(), sameInstance(base.getAllComments()));
+
+        // when (2)
+        layer.removeOverride(TestConfiguration.SYSTEM_NAME);
+        base.setValue(TestConfiguration.SYSTEM_NAME, "new base");
+
+        // then (2)
+        assertThat(layer.getValue(TestConfiguration.SYSTEM_NAME), equalTo("new base"));
+    }
+
+    @Test
+    void shouldOnlyOverridePropertiesPresentInReader() throws IOException {
+        // given
+        Path tenantFile = tempDir.resolve("tenant.yml");
+        Files.write(tenantFile, Arrays.asList("version: 4", "features:", "  boring:", "    skip: true"));
+        LayeredConfigurationData layer = new LayeredConfigurationData(base);
+        layer.setValue(TestConfiguration.SYSTEM_NAME, "removed on initialization");
+
+        // when
+        layer.initializeValues(new YamlFileResource(tenantFile).createReader());
+
+        // then
+        assertThat(layer.getValue(TestConfiguration.VERSION_NUMBER), equalTo(4));
+        assertThat(layer.getValue(TestConfiguration.SKIP_BORING_FEATURES), equalTo(true));
+        assertThat(layer.getValue(TestConfiguration.SYSTEM_NAME), equalTo("base"));
+        assertThat(layer.getPropertiesToExport(),
+            contains(TestConfiguration.VERSION_NUMBER, TestConfiguration.SKIP_BORING_FEATURES));
+        assertThat(layer.areAllValuesValidInResource(), equalTo(true));
+    }
+
+    @Test
+    void shouldUseBaseValueForInvalidValueInReader() throws IOException {
+        // given
+        Path tenantFile = tempDir.resolve("tenant.yml");
+        Files.write(tenantFile, Arrays.asList("test:", "  duration: not-a-number", "  systemName: tenant"));
+        LayeredConfigurationData layer = new LayeredConfigurationData(base);
+
+        // when
+        layer.initializeValues(new YamlFileResource(tenantFile).createReader());
+
+        // then
+        assertThat(base.getValue(TestConfiguration.DURATION_IN_SECONDS), equalTo(10)); // not the default value (4)
+        assertThat(layer.getValue(TestConfiguration.DURATION_IN_SECONDS), equalTo(10));
+        assertThat(layer.hasOverride(TestConfiguration.DURATION_IN_SECONDS), equalTo(false));
+        assertThat(layer.getValue(TestConfiguration.SYSTEM_NAME), equalTo("tenant"));
+        assertThat(layer.getPropertiesToExport(), contains(TestConfiguration.SYSTEM_NAME));
+        assertThat(layer.areAllValuesValidInResource(), equalTo(false));
+    }
+
+    @Test
+    void shouldExportOnlyOverrides() throws IOException {
+        // given
+        Path tenantFile = tempDir.resolve("tenant.yml");
+        PropertyResource resource = new YamlFileResource(tenantFile);
+        LayeredConfigurationData layer = new LayeredConfigurationData(base);
+        layer.setValue(TestConfiguration.DURATION_IN_SECONDS, 22);
+
+        // when
+        resource.exportProperties(layer);
+
+        // then
+        List<String> lines = Files.readAllLines(tenantFile);
+        assertThat(lines, contains("# Test section", "test:", "    # Duration in seconds", "    duration: 22"));
+        LayeredConfigurationData reloadedLayer = new LayeredConfigurationData(base);
+        reloadedLayer.initializeValues(resource.createReader());
+        assertThat(reloadedLayer.getPropertiesToExport(), contains(TestConfiguration.DURATION_IN_SECONDS));
+    }
+
+    @Test
+    void shouldRejectInvalidValue() {
+        // given
+        LayeredConfigurationData layer = new LayeredConfigurationData(base);
+
+        // when / then
+        assertThrows(ConfigMeException.class, () -> layer.setValue(TestConfiguration.SYSTEM_NAME, null));
+        assertThat(layer.getPropertiesToExport(), empty());
+    }
+}
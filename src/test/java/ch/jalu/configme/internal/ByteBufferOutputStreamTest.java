@@ -0,0 +1,55 @@
+package ch.jalu.configme.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link ByteBufferOutputStream}.
+ */
+class ByteBufferOutputStreamTest {
+
+    @Test
+    void shouldWriteIntoGivenBuffer() {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        ByteBufferOutputStream outputStream = new ByteBufferOutputStream(buffer);
+
+        // when
+        outputStream.write(1);
+        outputStream.write(new byte[]{2, 3, 4}, 1, 2);
+
+        // then
+        assertThat(outputStream.getBuffer(), sameInstance(buffer));
+        assertThat(buffer.position(), equalTo(3));
+        assertThat(buffer.get(0), equalTo((byte) 1));
+        assertThat(buffer.get(1), equalTo((byte) 3));
+        assertThat(buffer.get(2), equalTo((byte) 4));
+    }
+
+    @Test
+    void shouldReplaceBufferWithLargerOne() {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocateDirect(2);
+        ByteBufferOutputStream outputStream = new ByteBufferOutputStream(buffer);
+        byte[] bytes = new byte[300];
+        bytes[299] = 7;
+
+        // when
+        outputStream.write(5);
+        outputStream.write(bytes, 0, bytes.length);
+
+        // then
+        ByteBuffer result = outputStream.getBuffer();
+        assertThat(result, not(sameInstance(buffer)));
+        assertThat(result.isDirect(), equalTo(true));
+        assertThat(result.position(), equalTo(301));
+        assertThat(result.get(0), equalTo((byte) 5));
+        assertThat(result.get(300), equalTo((byte) 7));
+    }
+}
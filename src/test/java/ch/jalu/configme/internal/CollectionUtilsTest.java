@@ -0,0 +1,59 @@
+package ch.jalu.configme.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Test for {@link CollectionUtils}.
+ */
+class CollectionUtilsTest {
+
+    @Test
+    void shouldReturnCapacityForExpectedSize() {
+        // given / when / then
+        assertThat(CollectionUtils.getCapacityForSize(0), equalTo(1));
+        assertThat(CollectionUtils.getCapacityForSize(2), equalTo(3));
+        assertThat(CollectionUtils.getCapacityForSize(3), equalTo(4));
+        assertThat(CollectionUtils.getCapacityForSize(12), equalTo(16));
+        assertThat(CollectionUtils.getCapacityForSize(13), equalTo(18));
+        assertThat(CollectionUtils.getCapacityForSize(Integer.MAX_VALUE), equalTo(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void shouldReturnTransformedViewOfList() {
+        // given
+        List<String> list = new ArrayList<>(Arrays.asList("a", "bb", "ccc"));
+
+        // when
+        List<Integer> view = CollectionUtils.transformedView(list, String::length);
+
+        // then
+        assertThat(view, contains(1, 2, 3));
+        assertThat(view.get(1), equalTo(2));
+        list.add("dddd");
+        assertThat(view, contains(1, 2, 3, 4));
+    }
+
+    @Test
+    void shouldReturnTransformedViewOfSet() {
+        // given
+        Set<String> set = new LinkedHashSet<>(Arrays.asList("north", "east", "south"));
+
+        // when
+        List<Integer> view = CollectionUtils.transformedView(set, String::length);
+
+        // then
+        assertThat(view, contains(5, 4, 5));
+        assertThat(view.size(), equalTo(3));
+        assertThat(view.get(1), equalTo(4));
+    }
+}
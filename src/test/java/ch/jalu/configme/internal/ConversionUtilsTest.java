@@ -18,7 +18,6 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
@@ -78,7 +77,7 @@ class ConversionUtilsTest {
     void shouldLogErrorIfConversionIsNotPossible() {
         // given
         Object element = "true";
-        ConvertErrorRecorder errorRecorder = mock(ConvertErrorRecorder.class);
+        ConvertErrorRecorder errorRecorder = ConvertErrorRecorder.collectingErrors();
         PropertyType<Boolean> type = mock(PropertyType.class);
         given(type.convert(element, errorRecorder)).willReturn(null);
 
@@ -87,7 +86,7 @@ class ConversionUtilsTest {
 
         // then
         assertThat(result, nullValue());
-        verify(errorRecorder).setHasError("Could not convert 'true'");
+        assertThat(errorRecorder.getErrors().get(0).getMessage(), equalTo("Could not convert 'true'"));
     }
 
     @Test
@@ -110,13 +109,13 @@ class ConversionUtilsTest {
         // given
         Object element = "true";
         Function<Object, Boolean> convertFunction = elem -> null;
-        ConvertErrorRecorder errorRecorder = mock(ConvertErrorRecorder.class);
+        ConvertErrorRecorder errorRecorder = ConvertErrorRecorder.collectingErrors();
 
         // when
         Boolean result = ConversionUtils.convertOrLogError(element, convertFunction, errorRecorder);
 
         // then
         assertThat(result, nullValue());
-        verify(errorRecorder).setHasError("Could not convert 'true'");
+        assertThat(errorRecorder.getErrors().get(0).getMessage(), equalTo("Could not convert 'true'"));
     }
 }
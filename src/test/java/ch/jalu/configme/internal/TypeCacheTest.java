@@ -0,0 +1,83 @@
+package ch.jalu.configme.internal;
+
+import ch.jalu.typeresolver.TypeInfo;
+import ch.jalu.typeresolver.reference.TypeReference;
+import ch.jalu.typeresolver.typeimpl.ParameterizedTypeImpl;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Test for {@link TypeCache}.
+ */
+class TypeCacheTest {
+
+    @Test
+    void shouldCacheValuesByType() {
+        // given
+        TypeCache<String> cache = new TypeCache<>();
+
+        // when
+        String previous1 = cache.putIfAbsent(new TypeReference<List<String>>() { }, "strings");
+        String previous2 = cache.putIfAbsent(new TypeInfo(new ParameterizedTypeImpl(List.class, null, String.class)),
+            "other");
+        cache.putIfAbsent(new TypeInfo(Integer.class), "integer");
+
+        // then
+        assertThat(previous1, nullValue());
+        assertThat(previous2, equalTo("strings"));
+        assertThat(cache.get(new TypeReference<List<String>>() { }), equalTo("strings"));
+        assertThat(cache.get(new TypeInfo(Integer.class)), equalTo("integer"));
+        assertThat(cache.get(new TypeReference<List<Integer>>() { }), nullValue());
+    }
+
+    @Test
+    void shouldUseClassOfMostSpecificClassLoaderAsAnchor() throws Exception {
+        // given
+        Class<?> childClass = new ChildClassLoader().loadSampleClass();
+        TypeInfo listType = new TypeInfo(new ParameterizedTypeImpl(List.class, null, childClass));
+        TypeInfo mapType = new TypeInfo(new ParameterizedTypeImpl(Map.class, null, TypeCacheTest.class, childClass));
+
+        // when / then
+        assertThat(childClass, not(equalTo(SampleClass.class)));
+        assertThat(TypeCache.getAnchorClass(listType), equalTo(childClass));
+        assertThat(TypeCache.getAnchorClass(mapType), equalTo(childClass));
+        assertThat(TypeCache.getAnchorClass(new TypeReference<Map<String, SampleClass>>() { }),
+            equalTo(SampleClass.class));
+        assertThat(TypeCache.getAnchorClass(new TypeReference<List<String>>() { }), equalTo(List.class));
+    }
+
+    public static final class SampleClass {
+    }
+
+    /** Class loader which defines its own copy of {@link SampleClass}. */
+    private static final class ChildClassLoader extends ClassLoader {
+
+        ChildClassLoader() {
+            super(TypeCacheTest.class.getClassLoader());
+        }
+
+        Class<?> loadSampleClass() throws IOException {
+            String resource = SampleClass.class.getName().replace('.', '/') + ".class";
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (InputStream is = getParent().getResourceAsStream(resource)) {
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    bytes.write(buffer, 0, read);
+                }
+            }
+            byte[] classBytes = bytes.toByteArray();
+            return defineClass(SampleClass.class.getName(), classBytes, 0, classBytes.length);
+        }
+    }
+}
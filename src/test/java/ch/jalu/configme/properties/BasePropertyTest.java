@@ -1,6 +1,7 @@
 package ch.jalu.configme.properties;
 
 import ch.jalu.configme.properties.convertresult.ConvertErrorRecorder;
+import ch.jalu.configme.properties.convertresult.PropertyValue;
 import ch.jalu.configme.resource.PropertyReader;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
@@ -65,6 +66,25 @@ class BasePropertyTest {
         assertThat(isValid2, equalTo(false));
     }
 
+    @Test
+    void shouldUseDefaultValueIfErrorRecorderFailsFast() {
+        // given
+        PropertyReader reader = mock(PropertyReader.class);
+        given(reader.getInt("path")).willReturn(300);
+        Property<Byte> lenientProperty = new ClampingPropertyTestImpl("path", false);
+        Property<Byte> strictProperty = new ClampingPropertyTestImpl("path", true);
+
+        // when
+        PropertyValue<Byte> lenientValue = lenientProperty.determineValue(reader);
+        PropertyValue<Byte> strictValue = strictProperty.determineValue(reader);
+
+        // then
+        assertThat(lenientValue.getValue(), equalTo(Byte.MAX_VALUE));
+        assertThat(lenientValue.isValidInResource(), equalTo(false));
+        assertThat(strictValue.getValue(), equalTo((byte) 0));
+        assertThat(strictValue.isValidInResource(), equalTo(false));
+    }
+
     private static final class PropertyTestImpl extends BaseProperty<Byte> {
         PropertyTestImpl(String path, Byte defaultValue) {
             super(path, defaultValue);
@@ -83,4 +103,36 @@ class BasePropertyTest {
             return value;
         }
     }
+
+    private static final class ClampingPropertyTestImpl extends BaseProperty<Byte> {
+
+        private final boolean failFast;
+
+        ClampingPropertyTestImpl(String path, boolean failFast) {
+            super(path, (byte) 0);
+            this.failFast = failFast;
+        }
+
+        @Override
+        protected @NotNull ConvertErrorRecorder createErrorRecorder() {
+            return failFast ? ConvertErrorRecorder.failingFast() : new ConvertErrorRecorder();
+        }
+
+        @Override
+        protected Byte getFromReader(@NotNull PropertyReader reader, @NotNull ConvertErrorRecorder errorRecorder) {
+            Integer value = reader.getInt(getPath());
+            if (value == null) {
+                return null;
+            } else if (value > Byte.MAX_VALUE) {
+                errorRecorder.setHasError(() -> "", () -> "Value is too large");
+                return Byte.MAX_VALUE;
+            }
+            return value.byteValue();
+        }
+
+        @Override
+        public Object toExportValue(@NotNull Byte value) {
+            return value;
+        }
+    }
 }
@@ -0,0 +1,126 @@
+package ch.jalu.configme.properties.convertresult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link ConvertErrorRecorder}.
+ */
+class ConvertErrorRecorderTest {
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldOnlyKeepTrackOfErrorByDefault() {
+        // given
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> supplier = () -> "call " + calls.incrementAndGet();
+
+        // when
+        errorRecorder.setHasError(supplier, supplier);
+        errorRecorder.setHasError("Invalid value");
+
+        // then
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        assertThat(errorRecorder.getErrors(), empty());
+        assertThat(calls.get(), equalTo(0));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldCollectErrorsAndCreateMessagesOnlyWhenRequested() {
+        // given
+        ConvertErrorRecorder errorRecorder = ConvertErrorRecorder.collectingErrors();
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        errorRecorder.setHasError(() -> "list[0]", () -> "Message " + calls.incrementAndGet());
+        errorRecorder.setHasError("Invalid value");
+
+        // then
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        assertThat(errorRecorder.getErrors(), hasSize(2));
+        assertThat(calls.get(), equalTo(0));
+        ConvertError error = errorRecorder.getErrors().get(0);
+        assertThat(error.getMessage(), equalTo("Message 1"));
+        assertThat(error.getMessage(), equalTo("Message 1"));
+        assertThat(error.toString(), equalTo("For bean path 'list[0]': Message 1"));
+        assertThat(calls.get(), equalTo(1));
+        assertThat(errorRecorder.getErrors().get(1).getPath(), equalTo(""));
+        assertThat(errorRecorder.getErrors().get(1).getMessage(), equalTo("Invalid value"));
+    }
+
+    @Test
+    void shouldFailFast() {
+        // given
+        ConvertErrorRecorder errorRecorder = ConvertErrorRecorder.failingFast();
+
+        // when
+        ConvertErrorException ex = assertThrows(ConvertErrorException.class,
+            () -> errorRecorder.setHasError(() -> "port", () -> "Invalid number"));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Conversion aborted: For bean path 'port': Invalid number"));
+        assertThat(ex.getError().getPath(), equalTo("port"));
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        assertThat(errorRecorder.getErrors(), empty());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void shouldPassAllErrorsToOverriddenSupplierMethod() {
+        // given
+        ReasonRecorder errorRecorder = new ReasonRecorder();
+
+        // when
+        errorRecorder.setHasError(() -> "list[0]", () -> "Invalid entry");
+        errorRecorder.setHasError("Invalid value");
+
+        // then
+        assertThat(errorRecorder.reasons, contains("For bean path 'list[0]': Invalid entry",
+            "For bean path '': Invalid value"));
+        assertThat(errorRecorder.isFullyValid(), equalTo(false));
+        assertThat(errorRecorder.getErrors(), hasSize(2));
+        assertThat(errorRecorder.getErrors().get(0).getPath(), equalTo("list[0]"));
+        assertThat(errorRecorder.getErrors().get(0).getMessage(), equalTo("Invalid entry"));
+        assertThat(errorRecorder.getErrors().get(1).getPath(), equalTo(""));
+        assertThat(errorRecorder.getErrors().get(1).getMessage(), equalTo("Invalid value"));
+    }
+
+    @Test
+    void shouldReturnModeOfFactoryMethods() {
+        // given / when / then
+        assertThat(new ConvertErrorRecorder().isCollectingErrors(), equalTo(false));
+        assertThat(new ConvertErrorRecorder().isFailingFast(), equalTo(false));
+        assertThat(ConvertErrorRecorder.collectingErrors().isCollectingErrors(), equalTo(true));
+        assertThat(ConvertErrorRecorder.collectingErrors().isFailingFast(), equalTo(false));
+        assertThat(ConvertErrorRecorder.failingFast().isCollectingErrors(), equalTo(false));
+        assertThat(ConvertErrorRecorder.failingFast().isFailingFast(), equalTo(true));
+    }
+
+    private static final class ReasonRecorder extends ConvertErrorRecorder {
+
+        private final List<String> reasons = new ArrayList<>();
+
+        ReasonRecorder() {
+            super(Mode.COLLECT);
+        }
+
+        @Override
+        public void setHasError(Supplier<String> pathSupplier, Supplier<String> messageSupplier) {
+            super.setHasError(pathSupplier, messageSupplier);
+            reasons.add(new ConvertError(pathSupplier, messageSupplier).toString());
+        }
+    }
+}
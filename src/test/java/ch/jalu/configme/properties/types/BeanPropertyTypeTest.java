@@ -1,5 +1,6 @@
 package ch.jalu.configme.properties.types;
 
+import ch.jalu.configme.beanmapper.BeanReuseTable;
 import ch.jalu.configme.beanmapper.DefaultMapper;
 import ch.jalu.configme.beanmapper.Mapper;
 import ch.jalu.configme.beanmapper.command.Command;
@@ -12,6 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -19,8 +23,11 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Test for {@link BeanPropertyType}.
@@ -47,6 +54,58 @@ class BeanPropertyTypeTest {
         assertThat(result, equalTo(location));
     }
 
+    @Test
+    void shouldPassBeanReuseTableToMapper() {
+        // given
+        Mapper mapper = mock(Mapper.class);
+        Location location = new Location();
+        BeanPropertyType<Location> beanPropertyType = BeanPropertyType.reusingBeans(Location.class, mapper);
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+        BeanReuseTable beanReuseTable = new BeanReuseTable();
+        given(mapper.convertToBean("test_bean", new TypeInfo(Location.class), errorRecorder, beanReuseTable))
+            .willReturn(location);
+
+        // when
+        Object result = beanPropertyType.convert("test_bean", errorRecorder, beanReuseTable);
+
+        // then
+        assertThat(result, sameInstance(location));
+    }
+
+    @Test
+    void shouldNotReuseBeansWithoutTable() {
+        // given
+        Mapper mapper = mock(Mapper.class);
+        Location location = new Location();
+        BeanPropertyType<Location> beanPropertyType = BeanPropertyType.reusingBeans(Location.class, mapper);
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+        given(mapper.convertToBean("test_bean", new TypeInfo(Location.class), errorRecorder)).willReturn(location);
+
+        // when
+        Object result = beanPropertyType.convert("test_bean", errorRecorder);
+
+        // then
+        assertThat(result, sameInstance(location));
+        verify(mapper, never()).convertToBean(any(), any(), any(), any(BeanReuseTable.class));
+    }
+
+    @Test
+    void shouldIgnoreTableIfBeansAreNotReused() {
+        // given
+        Mapper mapper = mock(Mapper.class);
+        Location location = new Location();
+        BeanPropertyType<Location> beanPropertyType = new BeanPropertyType<>(new TypeInfo(Location.class), mapper);
+        ConvertErrorRecorder errorRecorder = new ConvertErrorRecorder();
+        given(mapper.convertToBean("test_bean", new TypeInfo(Location.class), errorRecorder)).willReturn(location);
+
+        // when
+        Object result = beanPropertyType.convert("test_bean", errorRecorder, new BeanReuseTable());
+
+        // then
+        assertThat(result, sameInstance(location));
+        verify(mapper, never()).convertToBean(any(), any(), any(), any(BeanReuseTable.class));
+    }
+
     @Test
     void shouldReturnValueAsExportValue() {
         // given
@@ -69,6 +128,48 @@ class BeanPropertyTypeTest {
         assertThat(map.get("coordinateType"), equalTo("NAD"));
     }
 
+    @Test
+    void shouldCacheExportValue() {
+        // given
+        BeanPropertyType<Location> beanPropertyType =
+            BeanPropertyType.cachingExportValue(Location.class, DefaultMapper.getInstance());
+        Location location = new Location();
+        location.setLatitude(20f);
+        Location otherLocation = new Location();
+        otherLocation.setLatitude(30f);
+
+        // when
+        Object result1 = beanPropertyType.toExportValue(location);
+        Object result2 = beanPropertyType.toExportValue(location);
+        Object result3 = beanPropertyType.toExportValue(otherLocation);
+
+        // then
+        assertThat(result2, sameInstance(result1));
+        assertThat(((Map<?, ?>) result1).get("latitude"), equalTo(20f));
+        assertThat(((Map<?, ?>) result3).get("latitude"), equalTo(30f));
+    }
+
+    @Test
+    void shouldCacheExportValueOfEachEntryOfList() {
+        // given
+        ListPropertyType<Location> listType = new ListPropertyType<>(
+            BeanPropertyType.cachingExportValue(Location.class, DefaultMapper.getInstance()));
+        Location location = new Location();
+        location.setLatitude(20f);
+        Location otherLocation = new Location();
+        otherLocation.setLatitude(30f);
+        List<Location> locations = Arrays.asList(location, otherLocation);
+
+        // when
+        List<?> result1 = new ArrayList<>(listType.toExportValue(locations));
+        List<?> result2 = new ArrayList<>(listType.toExportValue(locations));
+
+        // then
+        assertThat(result2.get(0), sameInstance(result1.get(0)));
+        assertThat(result2.get(1), sameInstance(result1.get(1)));
+        assertThat(((Map<?, ?>) result1.get(1)).get("latitude"), equalTo(30f));
+    }
+
     @Test
     void shouldInitializeWithDefaultMapper() throws NoSuchFieldException, IllegalAccessException {
         // given / when
@@ -0,0 +1,74 @@
+package ch.jalu.configme.resource;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Test for {@link BaseYamlReader}.
+ */
+class BaseYamlReaderTest {
+
+    @Test
+    void shouldCollectKeysOfDeeplyNestedMaps() {
+        // given
+        Map<String, Object> root = new LinkedHashMap<>();
+        Map<String, Object> innermostMap = root;
+        for (int i = 0; i < 20_000; ++i) {
+            Map<String, Object> child = new LinkedHashMap<>();
+            innermostMap.put("k", child);
+            innermostMap = child;
+        }
+        innermostMap.put("end", true);
+        root.put("last", 3);
+        BaseYamlReader reader = new MapReader(root);
+
+        // when
+        Set<String> leafKeys = reader.getKeys(true);
+
+        // then
+        assertThat(leafKeys, hasSize(2));
+        Iterator<String> keyIterator = leafKeys.iterator();
+        assertThat(keyIterator.next().split("\\.").length, equalTo(20_001));
+        assertThat(keyIterator.next(), equalTo("last"));
+    }
+
+    @Test
+    void shouldCollectKeysInDepthFirstOrder() {
+        // given
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("b", 1);
+        nested.put("c", new LinkedHashMap<>());
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("a", nested);
+        root.put("d", 2);
+        BaseYamlReader reader = new MapReader(root);
+
+        // when / then
+        assertThat(reader.getKeys(false), contains("a", "a.b", "a.c", "d"));
+        assertThat(reader.getKeys(true), contains("a.b", "a.c", "d"));
+    }
+
+    private static final class MapReader extends BaseYamlReader {
+
+        private final Map<String, Object> root;
+
+        MapReader(Map<String, Object> root) {
+            this.root = root;
+        }
+
+        @Override
+        protected @Nullable Map<String, Object> getRootMap() {
+            return root;
+        }
+    }
+}
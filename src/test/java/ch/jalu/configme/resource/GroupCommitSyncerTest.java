@@ -0,0 +1,187 @@
+package ch.jalu.configme.resource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link GroupCommitSyncer}.
+ */
+class GroupCommitSyncerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldSyncAndReplaceTargetFile() throws IOException {
+        // given
+        Path target = createFile("config.yml", "old: true");
+        Path tempFile = createFile("config.yml.tmp", "new: true");
+        GroupCommitSyncer syncer = new GroupCommitSyncer("test-sync");
+
+        // when
+        syncer.commit(tempFile, target);
+
+        // then
+        assertThat(new String(Files.readAllBytes(target), StandardCharsets.UTF_8), equalTo("new: true"));
+        assertThat(Files.exists(tempFile), equalTo(false));
+    }
+
+    @Test
+    void shouldPropagateErrorToCommittingThread() {
+        // given
+        Path target = temporaryFolder.resolve("config.yml");
+        Path tempFile = temporaryFolder.resolve("missing.tmp");
+        GroupCommitSyncer syncer = new GroupCommitSyncer("test-sync");
+
+        // when / then
+        assertThrows(NoSuchFileException.class, () -> syncer.commit(tempFile, target));
+    }
+
+    @Test
+    void shouldSyncFileOnCommittingThread() throws IOException {
+        // given
+        List<Thread> syncingThreads = new ArrayList<>();
+        GroupCommitSyncer syncer = new GroupCommitSyncer("test-sync") {
+            @Override
+            protected void syncFile(Path file) throws IOException {
+                syncingThreads.add(Thread.currentThread());
+                super.syncFile(file);
+            }
+        };
+        Path tempFile = createFile("config.yml.tmp", "new: true");
+
+        // when
+        syncer.commit(tempFile, temporaryFolder.resolve("config.yml"));
+
+        // then
+        assertThat(syncingThreads, contains(Thread.currentThread()));
+        assertThat(Files.exists(temporaryFolder.resolve("config.yml")), equalTo(true));
+    }
+
+    @Test
+    void shouldBatchCommitsSubmittedWhileBusy() throws Exception {
+        // given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        CountDownLatch othersSubmitted = new CountDownLatch(3);
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Path> syncedDirectories = new ArrayList<>();
+        GroupCommitSyncer syncer = new GroupCommitSyncer("test-sync") {
+            @Override
+            protected void submit(PendingCommit commit) {
+                super.submit(commit);
+                if (!commit.getTarget().getFileName().toString().equals("first.yml")) {
+                    othersSubmitted.countDown();
+                }
+            }
+
+            @Override
+            protected void processBatch(List<PendingCommit> batch) {
+                batchSizes.add(batch.size());
+                if (batchSizes.size() == 1) {
+                    firstBatchStarted.countDown();
+                    awaitQuietly(releaseFirstBatch);
+                }
+                super.processBatch(batch);
+            }
+
+            @Override
+            protected void syncDirectory(Path directory) {
+                syncedDirectories.add(directory);
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // when
+            Future<?> first = executor.submit(() -> commit(syncer, "first"));
+            assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS), equalTo(true));
+            List<Future<?>> others = new ArrayList<>();
+            for (int i = 0; i < 3; ++i) {
+                String name = "other" + i;
+                others.add(executor.submit(() -> commit(syncer, name)));
+            }
+            assertThat(othersSubmitted.await(5, TimeUnit.SECONDS), equalTo(true));
+            releaseFirstBatch.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            for (Future<?> other : others) {
+                other.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(batchSizes, contains(1, 3));
+        Path directory = temporaryFolder.toAbsolutePath();
+        assertThat(syncedDirectories, contains(directory, directory));
+        for (String name : new String[]{"first", "other0", "other1", "other2"}) {
+            assertThat(Files.exists(temporaryFolder.resolve(name + ".yml")), equalTo(true));
+        }
+    }
+
+    @Test
+    void shouldFailCommitsAndRestartThreadIfItStops() throws IOException {
+        // given
+        AtomicInteger batchCount = new AtomicInteger();
+        GroupCommitSyncer syncer = new GroupCommitSyncer("test-sync") {
+            @Override
+            protected void processBatch(List<PendingCommit> batch) {
+                if (batchCount.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Thread stops");
+                }
+                super.processBatch(batch);
+            }
+        };
+        Path failingTempFile = createFile("failing.tmp", "failing: 1");
+        Path tempFile = createFile("config.tmp", "config: 1");
+
+        // when
+        IOException exception = assertThrows(IOException.class,
+            () -> syncer.commit(failingTempFile, temporaryFolder.resolve("failing.yml")));
+        syncer.commit(tempFile, temporaryFolder.resolve("config.yml"));
+
+        // then
+        assertThat(exception.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(batchCount.get(), equalTo(2));
+        assertThat(Files.exists(temporaryFolder.resolve("config.yml")), equalTo(true));
+    }
+
+    private Void commit(GroupCommitSyncer syncer, String name) throws IOException {
+        Path tempFile = createFile(name + ".tmp", name + ": 1");
+        syncer.commit(tempFile, temporaryFolder.resolve(name + ".yml"));
+        return null;
+    }
+
+    private Path createFile(String name, String content) throws IOException {
+        return Files.write(temporaryFolder.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.SettingsManager;
+import ch.jalu.configme.SettingsManagerBuilder;
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.beanmapper.command.Command;
+import ch.jalu.configme.beanmapper.command.ExecutionDetails;
+import ch.jalu.configme.beanmapper.command.Executor;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.exception.ConfigMeException;
+import ch.jalu.configme.properties.BeanProperty;
+import ch.jalu.configme.samples.TestConfiguration;
+import ch.jalu.configme.samples.TestEnum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.nodes.Node;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static ch.jalu.configme.configurationdata.ConfigurationDataBuilder.createConfiguration;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link JournaledYamlFileResource}.
+ */
+class JournaledYamlFileResourceTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldAppendChangesToJournalAndReplayThem() throws IOException {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        byte[] originalContents = Files.readAllBytes(file);
+        SettingsManager settingsManager = createSettingsManager(new JournaledYamlFileResource(file));
+
+        // when
+        settingsManager.setProperty(TestConfiguration.DURATION_IN_SECONDS, 44);
+        settingsManager.setProperty(TestConfiguration.SYSTEM_NAME, "multi\nline: 'text'");
+        settingsManager.setProperty(TestConfiguration.RATIO_ORDER, TestEnum.THIRD);
+        settingsManager.setProperty(TestConfiguration.COOL_OPTIONS, Arrays.asList("a", "b"));
+        settingsManager.setProperty(TestConfiguration.DURATION_IN_SECONDS, 45);
+
+        // then
+        assertThat(Files.readAllBytes(file), equalTo(originalContents));
+        assertThat(Files.exists(journalOf(file)), equalTo(true));
+
+        SettingsManager reloadedManager = createSettingsManager(new JournaledYamlFileResource(file));
+        assertThat(reloadedManager.getProperty(TestConfiguration.DURATION_IN_SECONDS), equalTo(45));
+        assertThat(reloadedManager.getProperty(TestConfiguration.SYSTEM_NAME), equalTo("multi\nline: 'text'"));
+        assertThat(reloadedManager.getProperty(TestConfiguration.RATIO_ORDER), equalTo(TestEnum.THIRD));
+        assertThat(reloadedManager.getProperty(TestConfiguration.COOL_OPTIONS), equalTo(Arrays.asList("a", "b")));
+        assertThat(reloadedManager.getProperty(TestConfiguration.VERSION_NUMBER), equalTo(2492));
+    }
+
+    @Test
+    void shouldCompactJournalIntoFile() throws IOException {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        JournaledYamlFileResource resource = new JournaledYamlFileResource(file,
+            YamlFileResourceOptions.builder().build(), journalOf(file), 100);
+        SettingsManager settingsManager = createSettingsManager(resource);
+
+        // when
+        for (int i = 0; i < 10; ++i) {
+            settingsManager.setProperty(TestConfiguration.DURATION_IN_SECONDS, i);
+        }
+
+        // then
+        long journalSize = Files.exists(journalOf(file)) ? Files.size(journalOf(file)) : 0;
+        assertThat(journalSize <= 100, equalTo(true));
+        SettingsManager reloadedManager = createSettingsManager(new YamlFileResource(file));
+        int durationInFile = reloadedManager.getProperty(TestConfiguration.DURATION_IN_SECONDS);
+        assertThat(durationInFile > 0, equalTo(true));
+        assertThat(createSettingsManager(new JournaledYamlFileResource(file))
+            .getProperty(TestConfiguration.DURATION_IN_SECONDS), equalTo(9));
+    }
+
+    @Test
+    void shouldDeleteJournalOnSave() throws IOException {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        SettingsManager settingsManager = createSettingsManager(new JournaledYamlFileResource(file));
+        settingsManager.setProperty(TestConfiguration.VERSION_NUMBER, 7);
+
+        // when
+        settingsManager.save();
+
+        // then
+        assertThat(Files.exists(journalOf(file)), equalTo(false));
+        assertThat(createSettingsManager(new YamlFileResource(file))
+            .getProperty(TestConfiguration.VERSION_NUMBER), equalTo(7));
+    }
+
+    @Test
+    void shouldNotLoseRecordAppendedDuringSave() throws Exception {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(new YamlFileResource(file).createReader());
+        ConfigurationData concurrentData = createConfiguration(TestConfiguration.class);
+        concurrentData.initializeValues(new YamlFileResource(file).createReader());
+        concurrentData.setValue(TestConfiguration.SYSTEM_NAME, "Concurrent");
+
+        AtomicReference<Thread> concurrentChange = new AtomicReference<>();
+        JournaledYamlFileResource resource = new JournaledYamlFileResource(file) {
+            @Override
+            protected void writeNode(Node rootNode, OutputStream outputStream) throws IOException {
+                super.writeNode(rootNode, outputStream);
+                if (concurrentChange.get() == null) {
+                    Thread thread = new Thread(() -> onPropertyChanged(TestConfiguration.SYSTEM_NAME, concurrentData));
+                    concurrentChange.set(thread);
+                    thread.start();
+                    try {
+                        thread.join(200);
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        };
+
+        // when
+        resource.exportProperties(configurationData);
+        concurrentChange.get().join(5000);
+
+        // then
+        SettingsManager reloadedManager = createSettingsManager(new JournaledYamlFileResource(file));
+        assertThat(reloadedManager.getProperty(TestConfiguration.SYSTEM_NAME), equalTo("Concurrent"));
+    }
+
+    @Test
+    void shouldThrowIfTopLevelIsNotMap() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("config.yml");
+        Files.write(file, "- a\n- b\n".getBytes(StandardCharsets.UTF_8));
+        JournaledYamlFileResource resource = new JournaledYamlFileResource(file);
+
+        // when
+        ConfigMeException exception = assertThrows(ConfigMeException.class, resource::createReader);
+
+        // then
+        assertThat(exception.getMessage(), containsString("Top-level is not a map"));
+    }
+
+    @Test
+    void shouldIgnoreIncompleteLastRecord() throws IOException {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        SettingsManager settingsManager = createSettingsManager(new JournaledYamlFileResource(file));
+        settingsManager.setProperty(TestConfiguration.VERSION_NUMBER, 7);
+        Files.write(journalOf(file), "--- {features.cool.options: ['a', 'b".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        // when
+        SettingsManager reloadedManager = createSettingsManager(new JournaledYamlFileResource(file));
+
+        // then
+        assertThat(reloadedManager.getProperty(TestConfiguration.VERSION_NUMBER), equalTo(7));
+        assertThat(reloadedManager.getProperty(TestConfiguration.COOL_OPTIONS),
+            equalTo(Arrays.asList("Dinosaurs", "Explosions", "Big trucks")));
+    }
+
+    @Test
+    void shouldFailForCorruptRecordBeforeLastRecord() throws IOException {
+        // given
+        Path file = TestUtils.copyFileFromResources("/config-sample.yml", temporaryFolder);
+        SettingsManager settingsManager = createSettingsManager(new JournaledYamlFileResource(file));
+        settingsManager.setProperty(TestConfiguration.VERSION_NUMBER, 7);
+        Files.write(journalOf(file), "--- {features.cool.options: ['a', 'b\n".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+        settingsManager.setProperty(TestConfiguration.DURATION_IN_SECONDS, 44);
+
+        // when
+        ConfigMeException exception = assertThrows(ConfigMeException.class,
+            () -> createSettingsManager(new JournaledYamlFileResource(file)));
+
+        // then
+        assertThat(exception.getMessage(), containsString("has a corrupt record (#2)"));
+    }
+
+    @Test
+    void shouldJournalAndReplayBeanProperty() throws IOException {
+        // given
+        Path file = temporaryFolder.resolve("config.yml");
+        Files.createFile(file);
+        BeanProperty<Command> property = new BeanProperty<>("command", Command.class, new Command());
+        ConfigurationData configurationData = createConfiguration(Collections.singletonList(property));
+        JournaledYamlFileResource resource = new JournaledYamlFileResource(file);
+        configurationData.initializeValues(resource.createReader());
+
+        Command command = new Command();
+        command.setCommand("save");
+        command.setArguments(Arrays.asList("all", "now"));
+        command.setExecution(new ExecutionDetails(Executor.CONSOLE, 2.5, true, "admin"));
+
+        // when
+        configurationData.setValue(property, command);
+        resource.onPropertyChanged(property, configurationData);
+
+        // then
+        String journal = new String(Files.readAllBytes(journalOf(file)), StandardCharsets.UTF_8);
+        assertThat(journal, not(containsString("!!")));
+        ConfigurationData reloadedData = createConfiguration(Collections.singletonList(property));
+        reloadedData.initializeValues(new JournaledYamlFileResource(file).createReader());
+        assertThat(reloadedData.areAllValuesValidInResource(), equalTo(true));
+        Command reloadedCommand = reloadedData.getValue(property);
+        assertThat(reloadedCommand.getCommand(), equalTo("save"));
+        assertThat(reloadedCommand.getArguments(), contains("all", "now"));
+        assertThat(reloadedCommand.getExecution().getExecutor(), equalTo(Executor.CONSOLE));
+        assertThat(reloadedCommand.getExecution().getImportance(), equalTo(2.5));
+        assertThat(reloadedCommand.getExecution().isOptional(), equalTo(true));
+        assertThat(reloadedCommand.getExecution().getPrivileges(), contains("admin"));
+    }
+
+    private static SettingsManager createSettingsManager(PropertyResource resource) {
+        return SettingsManagerBuilder.withResource(resource)
+            .configurationData(TestConfiguration.class)
+            .create();
+    }
+
+    private static Path journalOf(Path file) {
+        return file.resolveSibling(file.getFileName() + ".journal");
+    }
+}
@@ -2,6 +2,7 @@ package ch.jalu.configme.resource;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -119,4 +120,30 @@ class MapNormalizerTest {
         Map<String, Object> subMap = (Map) result.get("ch.jalu.sub");
         assertThat(subMap.keySet(), contains("entry.foo", "other.entry"));
     }
+
+    @Test
+    void shouldNormalizeDeeplyNestedMaps() {
+        // given
+        MapNormalizer mapNormalizer = new MapNormalizer();
+        Map<Object, Object> map = new LinkedHashMap<>();
+        Map<Object, Object> innermostMap = map;
+        for (int i = 0; i < 100_000; ++i) {
+            Map<Object, Object> child = new LinkedHashMap<>();
+            innermostMap.put("level" + i, child);
+            innermostMap = child;
+        }
+        innermostMap.put(1, "one");
+        innermostMap.put("1", "uno");
+
+        // when
+        Map<String, Object> result = mapNormalizer.normalizeMap(map);
+
+        // then
+        assertThat(result, sameInstance(map));
+        Map<?, ?> level = result;
+        for (int i = 0; i < 100_000; ++i) {
+            level = (Map<?, ?>) level.get("level" + i);
+        }
+        assertThat(level, equalTo(Collections.singletonMap("1", "uno")));
+    }
 }
@@ -0,0 +1,133 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static ch.jalu.configme.configurationdata.ConfigurationDataBuilder.createConfiguration;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link YamlByteBufferResource}.
+ */
+class YamlByteBufferResourceTest {
+
+    @Test
+    void shouldExportAndReadValues() {
+        // given
+        YamlByteBufferResource resource = new YamlByteBufferResource(null);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+        configurationData.setValue(TestConfiguration.SYSTEM_NAME, "Buffered");
+        configurationData.setValue(TestConfiguration.RATIO_FIELDS, Arrays.asList("a", "b"));
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        PropertyReader reader = resource.createReader();
+        ConfigurationData reloaded = createConfiguration(TestConfiguration.class);
+        reloaded.initializeValues(reader);
+        assertThat(reloaded.areAllValuesValidInResource(), equalTo(true));
+        for (Property<?> property : configurationData.getProperties()) {
+            assertThat(reloaded.getValue(property), equalTo(configurationData.getValue(property)));
+        }
+    }
+
+    @Test
+    void shouldReuseBufferIfLargeEnough() {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        buffer.flip(); // no initial data
+        YamlByteBufferResource resource = new YamlByteBufferResource(buffer);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+
+        // when
+        resource.exportProperties(configurationData);
+        ByteBuffer firstExport = resource.getBuffer();
+        resource.exportProperties(configurationData);
+        ByteBuffer secondExport = resource.getBuffer();
+
+        // then
+        assertThat(buffer.position(), equalTo(0));
+        assertThat(buffer.limit(), not(equalTo(buffer.capacity())));
+        assertThat(firstExport, equalTo(secondExport));
+        assertThat(StandardCharsets.UTF_8.decode(secondExport).toString(), equalTo(
+            StandardCharsets.UTF_8.decode(buffer.duplicate()).toString()));
+    }
+
+    @Test
+    void shouldReadInitialDataAndReplaceTooSmallBuffer() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap("test:\n    systemName: Initial\n".getBytes(StandardCharsets.UTF_8));
+        YamlByteBufferResource resource = new YamlByteBufferResource(buffer);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+
+        // when
+        configurationData.initializeValues(resource.createReader());
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(configurationData.getValue(TestConfiguration.SYSTEM_NAME), equalTo("Initial"));
+        ByteBuffer exportedBuffer = resource.getBuffer();
+        assertThat(exportedBuffer.remaining() > buffer.capacity(), equalTo(true));
+        assertThat(resource.createReader().getString("test.systemName"), equalTo("Initial"));
+    }
+
+    @Test
+    void shouldExportToBufferFromItsPosition() {
+        // given
+        YamlByteBufferResource resource = new YamlByteBufferResource(null);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.put("prefix: ".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        ByteBuffer result = resource.exportToBuffer(configurationData, buffer);
+
+        // then
+        assertThat(result.position(), equalTo(8));
+        String yaml = StandardCharsets.UTF_8.decode(result).toString();
+        assertThat(yaml, equalTo(StandardCharsets.UTF_8.decode(
+            resource.exportToBuffer(configurationData, ByteBuffer.allocate(0))).toString()));
+        result.position(0);
+        assertThat(StandardCharsets.UTF_8.decode(result).toString(), equalTo("prefix: " + yaml));
+    }
+
+    @Test
+    void shouldReturnNullForAbsentBuffer() {
+        // given
+        YamlByteBufferResource resource = new YamlByteBufferResource(null);
+
+        // when / then
+        assertThat(resource.getBuffer(), nullValue());
+        assertThat(resource.createReader().getObject(""), nullValue());
+    }
+
+    @Test
+    void shouldNotWriteIntoReadOnlyBuffer() {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocate(0).asReadOnlyBuffer();
+        YamlByteBufferResource resource = new YamlByteBufferResource(buffer);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(resource.getBuffer(), not(sameInstance(buffer)));
+        assertThat(resource.createReader().getString("test.systemName"), equalTo("[TestDefaultValue]"));
+    }
+}
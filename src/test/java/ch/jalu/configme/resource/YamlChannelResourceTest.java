@@ -0,0 +1,64 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.samples.TestConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static ch.jalu.configme.configurationdata.ConfigurationDataBuilder.createConfiguration;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Test for {@link YamlChannelResource}.
+ */
+class YamlChannelResourceTest {
+
+    private final ByteArrayOutputStream compressedData = new ByteArrayOutputStream();
+
+    @Test
+    void shouldWriteToAndReadFromCompressedChannels() {
+        // given
+        YamlChannelResource resource = new YamlChannelResource(
+            () -> Channels.newChannel(createGzipInputStream()),
+            () -> Channels.newChannel(createGzipOutputStream()));
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(new YamlStreamReader(new ByteArrayInputStream(new byte[0]),
+            resource.getOptions().getCharset()));
+        configurationData.setValue(TestConfiguration.DURATION_IN_SECONDS, 120);
+
+        // when
+        resource.exportProperties(configurationData);
+        PropertyReader reader = resource.createReader();
+
+        // then
+        assertThat(reader.getInt("test.duration"), equalTo(120));
+        assertThat(reader.getString("test.systemName"), equalTo("[TestDefaultValue]"));
+    }
+
+    private InputStream createGzipInputStream() {
+        try {
+            return new GZIPInputStream(new ByteArrayInputStream(compressedData.toByteArray()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private OutputStream createGzipOutputStream() {
+        compressedData.reset();
+        try {
+            return new GZIPOutputStream(compressedData);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.TestUtils;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.properties.ArrayProperty;
+import ch.jalu.configme.properties.ListProperty;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.SetProperty;
+import ch.jalu.configme.properties.types.NumberType;
+import ch.jalu.configme.properties.types.StringType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Tests that {@link YamlFileResource} exports lists in flow style when configured.
+ */
+class YamlFileResourceFlowStyleTest {
+
+    private static final ListProperty<Integer> IDS = new ListProperty<>("data.ids", NumberType.INTEGER);
+    private static final SetProperty<String> NAMES = new SetProperty<>("data.names", StringType.STRING);
+    private static final ArrayProperty<String> TAGS = new ArrayProperty<>("data.tags", StringType.STRING, String[]::new, new String[0]);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    void shouldExportListsAboveThresholdInFlowStyle() throws IOException {
+        // given
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder()
+            .flowStyleMinimumSize(3)
+            .build();
+        PropertyResource resource = new YamlFileResource(file, options);
+        ConfigurationData configurationData = createConfigurationData();
+        configurationData.setValue(IDS, Arrays.asList(1, 2, 3));
+        configurationData.setValue(NAMES, new LinkedHashSet<>(Arrays.asList("a, b", "c")));
+        configurationData.setValue(TAGS, new String[]{"x", "y", "z: 3"});
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(Files.readAllLines(file), contains(
+            "data:",
+            "    ids: [1, 2, 3]",
+            "    names:",
+            "    - a, b",
+            "    - c",
+            "    tags: [x, y, 'z: 3']"));
+        assertValuesAreReadBack(resource, configurationData);
+    }
+
+    @Test
+    void shouldExportListsOfMatchingPathsInFlowStyle() throws IOException {
+        // given
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder()
+            .flowStylePathPredicate(path -> path.equals("data.names"))
+            .build();
+        PropertyResource resource = new YamlFileResource(file, options);
+        ConfigurationData configurationData = createConfigurationData();
+        configurationData.setValue(IDS, Arrays.asList(1, 2, 3));
+        configurationData.setValue(NAMES, new LinkedHashSet<>(Arrays.asList("a, b", "c")));
+        configurationData.setValue(TAGS, new String[]{"x"});
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(Files.readAllLines(file), contains(
+            "data:",
+            "    ids:",
+            "    - 1",
+            "    - 2",
+            "    - 3",
+            "    names: ['a, b', c]",
+            "    tags:",
+            "    - x"));
+        assertValuesAreReadBack(resource, configurationData);
+    }
+
+    @Test
+    void shouldWrapLongLists() throws IOException {
+        // given
+        Path file = TestUtils.createTemporaryFile(temporaryFolder);
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder()
+            .flowStyleMinimumSize(10)
+            .build();
+        PropertyResource resource = new YamlFileResource(file, options);
+        ConfigurationData configurationData = createConfigurationData();
+        List<Integer> ids = IntStream.range(10_000, 12_000).boxed().collect(Collectors.toList());
+        configurationData.setValue(IDS, ids);
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines.size() < 200, equalTo(true));
+        assertThat(lines.stream().allMatch(line -> line.length() <= 90), equalTo(true));
+        assertValuesAreReadBack(resource, configurationData);
+    }
+
+    private static ConfigurationData createConfigurationData() {
+        ConfigurationData configurationData =
+            ConfigurationDataBuilder.createConfiguration(Arrays.asList(IDS, NAMES, TAGS));
+        configurationData.setValue(IDS, Arrays.asList(1, 2, 3));
+        configurationData.setValue(NAMES, new LinkedHashSet<>());
+        configurationData.setValue(TAGS, new String[0]);
+        return configurationData;
+    }
+
+    private static void assertValuesAreReadBack(PropertyResource resource, ConfigurationData expected) {
+        ConfigurationData configurationData = createConfigurationData();
+        configurationData.initializeValues(resource.createReader());
+        assertThat(configurationData.areAllValuesValidInResource(), equalTo(true));
+        for (Property<?> property : Arrays.asList(IDS, NAMES)) {
+            assertThat(configurationData.getValue(property), equalTo(expected.getValue(property)));
+        }
+        assertThat(configurationData.getValue(TAGS), equalTo(expected.getValue(TAGS)));
+    }
+}
@@ -47,4 +47,20 @@ class YamlFileResourceOptionsTest {
         PathElement pathElement = new PathElement(3, "test", "test", false);
         assertThat(options.getNumberOfEmptyLinesBefore(pathElement), equalTo(0));
     }
+
+    @Test
+    void shouldDetermineFlowStyleForScalarSequences() {
+        // given
+        YamlFileResourceOptions defaultOptions = YamlFileResourceOptions.builder().build();
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder()
+            .flowStyleMinimumSize(10)
+            .flowStylePathPredicate(path -> path.startsWith("ids."))
+            .build();
+
+        // when / then
+        assertThat(defaultOptions.useFlowStyleForScalarSequence("ids.all", 5000), equalTo(false));
+        assertThat(options.useFlowStyleForScalarSequence("names", 10), equalTo(true));
+        assertThat(options.useFlowStyleForScalarSequence("names", 9), equalTo(false));
+        assertThat(options.useFlowStyleForScalarSequence("ids.all", 1), equalTo(true));
+    }
 }
@@ -20,11 +20,17 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static ch.jalu.configme.TestUtils.getJarPath;
 import static ch.jalu.configme.TestUtils.isErrorValueOf;
@@ -40,7 +46,9 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -91,6 +99,78 @@ class YamlFileResourceTest {
         }
     }
 
+    @Test
+    void shouldSaveDurably() throws IOException {
+        // given
+        Path file = copyFileFromResources(INCOMPLETE_FILE);
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder().durableSave(true).build();
+        YamlFileResource resource = new YamlFileResource(file, options);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+        configurationData.setValue(TestConfiguration.SYSTEM_NAME, "Durable");
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        PropertyReader reader = new YamlFileResource(file).createReader();
+        assertThat(reader.getString(TestConfiguration.SYSTEM_NAME.getPath()), equalTo("Durable"));
+        assertThat(reader.getObject(TestConfiguration.DURATION_IN_SECONDS.getPath()), equalTo(22));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertThat(files.collect(Collectors.toList()), contains(file));
+        }
+    }
+
+    @Test
+    void shouldDeleteTemporaryFileIfDurableSaveFailsWithRuntimeException() throws IOException {
+        // given
+        Path file = copyFileFromResources(INCOMPLETE_FILE);
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder().durableSave(true).build();
+        IllegalStateException commitException = new IllegalStateException("Commit failed");
+        YamlFileResource resource = new YamlFileResource(file, options) {
+            @Override
+            protected GroupCommitSyncer getSyncer() {
+                return new GroupCommitSyncer("test-sync") {
+                    @Override
+                    public void commit(Path tempFile, Path target) {
+                        throw commitException;
+                    }
+                };
+            }
+        };
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> resource.exportProperties(configurationData));
+
+        // then
+        assertThat(exception, sameInstance(commitException));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertThat(files.collect(Collectors.toList()), contains(file));
+        }
+    }
+
+    @Test
+    void shouldKeepPermissionsOfFileOnDurableSave() throws IOException {
+        // given
+        Path file = copyFileFromResources(INCOMPLETE_FILE);
+        assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder().durableSave(true).build();
+        YamlFileResource resource = new YamlFileResource(file, options);
+        ConfigurationData configurationData = createConfiguration(TestConfiguration.class);
+        configurationData.initializeValues(resource.createReader());
+
+        // when
+        resource.exportProperties(configurationData);
+
+        // then
+        assertThat(Files.getPosixFilePermissions(file), equalTo(permissions));
+    }
+
     /** Verifies that "difficult cases" such as apostrophes in strings etc. are handled properly. */
     @Test
     void shouldProperlyExportAnyValues() {
@@ -0,0 +1,95 @@
+package ch.jalu.configme.resource;
+
+import ch.jalu.configme.exception.ConfigMeException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link YamlStreamReader}.
+ */
+class YamlStreamReaderTest {
+
+    private static final String YAML = "test:\n    name: Hello\n    list:\n    - 1\n    - 2\nenabled: true\n";
+
+    @Test
+    void shouldReadFromInputStream() {
+        // given
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(YAML.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        YamlStreamReader reader = new YamlStreamReader(inputStream, StandardCharsets.UTF_8);
+
+        // then
+        assertThat(reader.getString("test.name"), equalTo("Hello"));
+        assertThat(reader.getBoolean("enabled"), equalTo(true));
+        assertThat(reader.getKeys(true), contains("test.name", "test.list", "enabled"));
+    }
+
+    @Test
+    void shouldReadFromChannel() {
+        // given
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(YAML.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        YamlStreamReader reader = YamlStreamReader.fromChannel(Channels.newChannel(inputStream),
+            StandardCharsets.UTF_8);
+
+        // then
+        assertThat(reader.getString("test.name"), equalTo("Hello"));
+        assertThat(reader.getList("test.list"), contains(1, 2));
+    }
+
+    @Test
+    void shouldReadFromHeapAndDirectBuffersWithoutChangingPosition() {
+        // given
+        byte[] bytes = ("junk" + YAML).getBytes(StandardCharsets.UTF_16BE);
+        ByteBuffer heapBuffer = ByteBuffer.wrap(bytes);
+        heapBuffer.position(8); // skip "junk"
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).position(8);
+
+        // when
+        YamlStreamReader heapReader = YamlStreamReader.fromByteBuffer(heapBuffer, StandardCharsets.UTF_16BE);
+        YamlStreamReader directReader = YamlStreamReader.fromByteBuffer(directBuffer, StandardCharsets.UTF_16BE);
+
+        // then
+        assertThat(heapReader.getString("test.name"), equalTo("Hello"));
+        assertThat(directReader.getString("test.name"), equalTo("Hello"));
+        assertThat(heapBuffer.position(), equalTo(8));
+        assertThat(directBuffer.position(), equalTo(8));
+    }
+
+    @Test
+    void shouldHandleEmptyData() {
+        // given / when
+        YamlStreamReader reader = YamlStreamReader.fromByteBuffer(ByteBuffer.allocate(0), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(reader.getObject(""), nullValue());
+        assertThat(reader.getKeys(false), empty());
+    }
+
+    @Test
+    void shouldThrowForInvalidYaml() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap("123".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        ConfigMeException ex = assertThrows(ConfigMeException.class,
+            () -> YamlStreamReader.fromByteBuffer(buffer, StandardCharsets.UTF_8));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Top-level is not a map"));
+    }
+}
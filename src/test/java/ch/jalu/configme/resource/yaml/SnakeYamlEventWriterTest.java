@@ -0,0 +1,75 @@
+package ch.jalu.configme.resource.yaml;
+
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.resource.YamlFileResourceOptions;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.nodes.Node;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link SnakeYamlEventWriter}.
+ */
+class SnakeYamlEventWriterTest {
+
+    @Test
+    void shouldWriteNodeLikeSnakeYaml() throws IOException {
+        // given
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "Test\nwith two lines");
+        value.put("ratio", 0.5);
+        value.put("active", true);
+        value.put("numbers", Arrays.asList(1, 2, 3));
+        value.put("words", Arrays.asList("one", "two"));
+        value.put("nested", Collections.singletonMap("size", 3));
+
+        ConfigurationData configurationData = mock(ConfigurationData.class);
+        given(configurationData.getCommentsForSection("")).willReturn(Collections.singletonList("Root comment"));
+        given(configurationData.getCommentsForSection("[k=ratio]")).willReturn(Arrays.asList("\n", "Ratio"));
+        given(configurationData.getCommentsForSection("[k=words][1]")).willReturn(Collections.singletonList("Two"));
+        YamlFileResourceOptions options = YamlFileResourceOptions.builder().flowStyleMinimumSize(3).build();
+
+        DumperOptions dumperOptions = new DumperOptions();
+        dumperOptions.setProcessComments(true);
+        dumperOptions.setIndent(4);
+        StringWriter snakeYamlWriter = new StringWriter();
+        new Yaml(dumperOptions).serialize(
+            new SnakeYamlNodeBuilderImpl(options).createYamlNode(value, "", configurationData, 0), snakeYamlWriter);
+
+        Node node = new SnakeYamlNodeBuilderImpl(options).createYamlNode(value, "", configurationData, 0);
+        StringWriter writer = new StringWriter();
+
+        // when
+        new SnakeYamlEventWriter(writer, dumperOptions).writeDocument(node);
+
+        // then
+        assertThat(writer.toString(), equalTo(snakeYamlWriter.toString()));
+        assertThat(writer.toString(), equalTo("# Root comment\n"
+            + "name: |-\n"
+            + "    Test\n"
+            + "    with two lines\n"
+            + "\n"
+            + "# Ratio\n"
+            + "ratio: 0.5\n"
+            + "active: true\n"
+            + "numbers: [1, 2, 3]\n"
+            + "words:\n"
+            + "- one\n"
+            + "-   # Two\n"
+            + "    two\n"
+            + "nested:\n"
+            + "    size: 3\n"));
+    }
+}
@@ -271,12 +271,6 @@ class SnakeYamlNodeBuilderImplTest {
         Node result = nodeBuilder.createYamlNode(value, path, configurationData, 0);
 
         // then
-        verify(configurationData).getCommentsForSection(path);
-        verify(configurationData).getCommentsForSection(path + "[0]");
-        verify(configurationData).getCommentsForSection(path + "[1]");
-        verify(configurationData).getCommentsForSection(path + "[2]");
-        verifyNoMoreInteractions(configurationData);
-
         assertThat(result, instanceOf(SequenceNode.class));
         SequenceNode sequenceNode = (SequenceNode) result;
         assertThat(sequenceNode.getTag(), equalTo(Tag.SEQ));
@@ -285,7 +279,7 @@ class SnakeYamlNodeBuilderImplTest {
         assertThat(sequenceNode.getEndComments(), nullValue());
         assertThat(sequenceNode.getBlockComments(), empty());
 
-        List<Node> nodes = sequenceNode.getValue();
+        List<Node> nodes = new ArrayList<>(sequenceNode.getValue());
         assertThat(nodes, hasSize(3));
         nodes.forEach(node -> {
             assertThat(node.getBlockComments(), empty());
@@ -294,6 +288,56 @@ class SnakeYamlNodeBuilderImplTest {
         assertThat(nodes.get(0), isScalarNode(Tag.BOOL, "true"));
         assertThat(nodes.get(1), isScalarNode(Tag.BOOL, "false"));
         assertThat(nodes.get(2), isScalarNode(Tag.BOOL, "true"));
+
+        verify(configurationData).getCommentsForSection(path);
+        verify(configurationData).getCommentsForSection(path + "[0]");
+        verify(configurationData).getCommentsForSection(path + "[1]");
+        verify(configurationData).getCommentsForSection(path + "[2]");
+        verifyNoMoreInteractions(configurationData);
+    }
+
+    @Test
+    void shouldCreateNodesOfEntriesWhenTheyAreAccessed() {
+        // given
+        List<String> value = Arrays.asList("north", "east", "south");
+        ConfigurationData configurationData = mock(ConfigurationData.class);
+        String path = "directions";
+
+        // when
+        Node result = nodeBuilder.createYamlNode(value, path, configurationData, 0);
+
+        // then
+        verify(configurationData, only()).getCommentsForSection(path);
+
+        List<Node> nodes = ((SequenceNode) result).getValue();
+        assertThat(nodes, hasSize(3));
+        assertThat(nodes.get(1), isScalarNode(Tag.STR, "east"));
+        verify(configurationData).getCommentsForSection(path + "[1]");
+        verifyNoMoreInteractions(configurationData);
+    }
+
+    @Test
+    void shouldCreateNodeForIterableWhichIsNotCollection() {
+        // given
+        List<String> entries = Arrays.asList("a", "b");
+        Iterable<String> value = entries::iterator;
+        ConfigurationData configurationData = mock(ConfigurationData.class);
+        given(configurationData.getCommentsForSection("letters")).willReturn(Collections.emptyList());
+        given(configurationData.getCommentsForSection("letters[0]")).willReturn(Collections.emptyList());
+        given(configurationData.getCommentsForSection("letters[1]")).willReturn(Collections.singletonList("Second"));
+
+        // when
+        Node result = nodeBuilder.createYamlNode(value, "letters", configurationData, 0);
+
+        // then
+        assertThat(result, instanceOf(SequenceNode.class));
+        List<Node> nodes = ((SequenceNode) result).getValue();
+        assertThat(nodes, hasSize(2));
+        assertThat(nodes.get(0), isScalarNode(Tag.STR, "a"));
+        assertThat(nodes.get(0).getBlockComments(), empty());
+        assertThat(nodes.get(1), isScalarNode(Tag.STR, "b"));
+        assertThat(nodes.get(1).getBlockComments(), hasSize(1));
+        assertThat(nodes.get(1).getBlockComments().get(0), isBlockComment(" Second"));
     }
 
     @Test
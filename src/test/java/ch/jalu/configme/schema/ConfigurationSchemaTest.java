@@ -0,0 +1,188 @@
+package ch.jalu.configme.schema;
+
+import ch.jalu.configme.beanmapper.immutable.EndpointConfig;
+import ch.jalu.configme.configurationdata.ConfigurationData;
+import ch.jalu.configme.configurationdata.ConfigurationDataBuilder;
+import ch.jalu.configme.demo.beans.Location;
+import ch.jalu.configme.properties.BeanProperty;
+import ch.jalu.configme.properties.ListProperty;
+import ch.jalu.configme.properties.MapProperty;
+import ch.jalu.configme.properties.Property;
+import ch.jalu.configme.properties.types.NumberType;
+import ch.jalu.configme.resource.PropertyReader;
+import ch.jalu.configme.resource.YamlFileReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static ch.jalu.configme.properties.PropertyInitializer.newProperty;
+import static ch.jalu.configme.properties.PropertyInitializer.optionalIntegerProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Test for {@link ConfigurationSchema}.
+ */
+class ConfigurationSchemaTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReportInvalidAndMissingValues() throws IOException {
+        // given
+        ConfigurationSchema schema = ConfigurationSchema.create(createConfigurationData());
+        PropertyReader reader = createReader(
+            "name: app",
+            "port: not-a-number",
+            "limits: [1, x, 3]",
+            "colors:",
+            "  red: 1",
+            "  blue: [2]",
+            "location:",
+            "  longitude: 12.5",
+            "  latitude: abc",
+            "endpoints:",
+            "  endpoints:",
+            "    main: {host: h1, port_number: 80, secure: true, aliases: [a]}",
+            "    backup: {host: h2, port_number: [1], secure: false}");
+
+        // when
+        SchemaValidationReport report = schema.validate(reader);
+
+        // then
+        assertThat(toStrings(report.getViolations()), contains(
+            "MISSING at 'title'",
+            "INVALID at 'port'",
+            "MISSING at 'timeout.unit'",
+            "SKIPPED at 'limits[1]'",
+            "SKIPPED at 'colors[k=blue]'",
+            "SKIPPED at 'location.latitude'",
+            "MISSING at 'location.coordinateType'",
+            "SKIPPED at 'endpoints.endpoints[k=backup].port_number'",
+            "MISSING at 'endpoints.endpoints[k=backup].aliases'"));
+        assertThat(report.isValid(), equalTo(false));
+        assertThat(report.hasInvalidValues(), equalTo(true));
+    }
+
+    @Test
+    void shouldAcceptValidResource() throws IOException {
+        // given
+        ConfigurationData configurationData = createConfigurationData();
+        ConfigurationSchema schema = ConfigurationSchema.create(configurationData);
+        PropertyReader reader = createReader(
+            "name: app",
+            "title: 7",
+            "port: '8080'",
+            "timeout:",
+            "  unit: 3",
+            "limits: [1, 2]",
+            "colors: {red: 1}",
+            "location: {longitude: 1, latitude: 2.5, coordinateType: NAD}",
+            "endpoints:",
+            "  endpoints:",
+            "    main: {host: h1, port_number: 80, secure: true, aliases: []}");
+
+        // when
+        SchemaValidationReport report = schema.validate(reader);
+
+        // then
+        assertThat(report.getViolations(), empty());
+        assertThat(report.isValid(), equalTo(true));
+        configurationData.getProperties().forEach(property ->
+            assertThat(property.determineValue(reader).isValidInResource(), equalTo(true)));
+    }
+
+    @Test
+    void shouldOnlyReportInvalidValuesThatPreventConversion() throws IOException {
+        // given
+        ConfigurationData configurationData = createConfigurationData();
+        ConfigurationSchema schema = ConfigurationSchema.create(configurationData);
+        PropertyReader reader = createReader(
+            "name: app",
+            "title: 7",
+            "port: 8080",
+            "timeout: {value: x, unit: 3}",
+            "limits: [1, x, 3]",
+            "colors: {red: 1, blue: [2]}",
+            "location: {longitude: 1, latitude: abc, coordinateType: NAD}",
+            "endpoints:",
+            "  endpoints:",
+            "    main: {host: h1, port_number: 80, secure: true, aliases: []}",
+            "    backup: {host: h2, port_number: [1], secure: false, aliases: []}");
+
+        // when
+        SchemaValidationReport report = schema.validate(reader);
+
+        // then
+        assertThat(toStrings(report.getViolations()), contains(
+            "SKIPPED at 'timeout.value'",
+            "SKIPPED at 'limits[1]'",
+            "SKIPPED at 'colors[k=blue]'",
+            "SKIPPED at 'location.latitude'",
+            "SKIPPED at 'endpoints.endpoints[k=backup].port_number'"));
+        assertThat(report.isValid(), equalTo(false));
+        assertThat(report.hasInvalidValues(), equalTo(false));
+        // The skipped values are left out or replaced by defaults, but every property can be converted
+        assertThat(configurationData.getProperties().get(5).determineValue(reader).getValue(),
+            equalTo(Arrays.asList(1, 3)));
+        assertThat(((Location) configurationData.getProperties().get(7).determineValue(reader).getValue())
+            .getLongitude(), equalTo(1f));
+        assertThat(((EndpointConfig) configurationData.getProperties().get(8).determineValue(reader).getValue())
+            .getEndpoints().keySet(), contains("main"));
+    }
+
+    @Test
+    void shouldStopAtFirstViolation() throws IOException {
+        // given
+        ConfigurationSchema schema = ConfigurationSchema.create(createConfigurationData());
+        PropertyReader reader = createReader(
+            "name: app",
+            "title: t",
+            "port: [80]",
+            "limits: [x, y]");
+
+        // when
+        SchemaValidationReport report = schema.validate(reader, new SchemaValidationReport(true));
+
+        // then
+        assertThat(report.getViolations(), hasSize(1));
+        assertThat(report.getViolations().get(0).getPath(), equalTo("port"));
+        assertThat(report.isStopped(), equalTo(true));
+    }
+
+    private static ConfigurationData createConfigurationData() {
+        List<Property<?>> properties = Arrays.asList(
+            newProperty("name", "default"),
+            newProperty("title", "default"),
+            newProperty("port", 8080),
+            optionalIntegerProperty("timeout.value"),
+            newProperty("timeout.unit", 1),
+            new ListProperty<>("limits", NumberType.INTEGER),
+            new MapProperty<>("colors", NumberType.INTEGER),
+            new BeanProperty<>("location", Location.class, new Location()),
+            new BeanProperty<>("endpoints", EndpointConfig.class, new EndpointConfig()));
+        return ConfigurationDataBuilder.createConfiguration(properties);
+    }
+
+    private PropertyReader createReader(String... lines) throws IOException {
+        Path file = tempDir.resolve("config.yml");
+        Files.write(file, Arrays.asList(lines));
+        return new YamlFileReader(file);
+    }
+
+    private static List<String> toStrings(List<SchemaViolation> violations) {
+        return violations.stream()
+            .map(violation -> violation.getKind() + " at '" + violation.getPath() + "'")
+            .collect(Collectors.toList());
+    }
+}